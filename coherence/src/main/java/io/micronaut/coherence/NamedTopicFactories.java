@@ -25,6 +25,7 @@ import com.tangosol.net.topic.Subscriber;
 
 import com.tangosol.util.Filter;
 import com.tangosol.util.ValueExtractor;
+import io.micronaut.coherence.messaging.ReactiveSubscriber;
 import io.micronaut.context.BeanContext;
 import io.micronaut.context.annotation.Bean;
 import io.micronaut.context.annotation.Factory;
@@ -41,8 +42,8 @@ import java.util.List;
 
 /**
  * A Micronaut factory for producing Coherence {@link com.tangosol.net.topic.NamedTopic},
- * {@link com.tangosol.net.topic.Publisher} and {@link com.tangosol.net.topic.Subscriber}
- * beans.
+ * {@link com.tangosol.net.topic.Publisher}, {@link com.tangosol.net.topic.Subscriber}
+ * and {@link ReactiveSubscriber} beans.
  *
  * @author Jonathan Knight
  * @since 1.0
@@ -112,6 +113,18 @@ class NamedTopicFactories {
                : topic.createSubscriber(options.toArray(new Subscriber.Option[0]));
     }
 
+    @Bean(preDestroy = "close")
+    @Prototype
+    @Type(ReactiveSubscriber.class)
+    <V> ReactiveSubscriber<V> getReactiveSubscriber(InjectionPoint<?> injectionPoint) {
+        AnnotationMetadata metadata = injectionPoint.getAnnotationMetadata();
+        CommitStrategy commitStrategy = metadata.enumValue(SubscriberOptions.class, "commitStrategy", CommitStrategy.class)
+                .orElse(CommitStrategy.SYNC);
+        int maxBatchSize = metadata.intValue(SubscriberOptions.class, "maxBatchSize").orElse(100);
+        Subscriber<V> subscriber = getSubscriber(injectionPoint);
+        return ReactiveSubscriber.create(subscriber, commitStrategy, maxBatchSize);
+    }
+
     private <V> NamedTopic<V> getTopicInternal(InjectionPoint<?> injectionPoint) {
         AnnotationMetadata metadata = injectionPoint.getAnnotationMetadata();
         String sessionName = metadata.getValue(SessionName.class, String.class).orElse(Coherence.DEFAULT_NAME);
@@ -17,6 +17,7 @@ package io.micronaut.coherence.annotation;
 
 import io.micronaut.aop.Introduction;
 import io.micronaut.coherence.messaging.CoherencePublisherIntroductionAdvice;
+import io.micronaut.coherence.messaging.PublishErrorHandler;
 import io.micronaut.context.annotation.Type;
 import io.micronaut.retry.annotation.Recoverable;
 import jakarta.inject.Singleton;
@@ -48,4 +49,62 @@ public @interface CoherencePublisher {
      * @return The timeout
      */
     String maxBlock() default "";
+
+    /**
+     * How published messages are ordered across topic channels. Messages published by a method
+     * with a {@link MessageKey} parameter are ordered by their key instead.
+     *
+     * @return the publish ordering
+     */
+    PublishOrdering ordering() default PublishOrdering.THREAD;
+
+    /**
+     * The order id used with {@link PublishOrdering#ID} ordering; messages with the
+     * same order id are published to the same channel.
+     *
+     * @return the order id
+     */
+    int orderId() default 0;
+
+    /**
+     * The number of publishers to pool for each topic.
+     * <p>Publishing threads are striped across the pooled publishers by thread id, which
+     * increases throughput when many threads publish to the same topic concurrently.
+     * Messages published by any one thread still go through the same publisher, so
+     * {@link PublishOrdering#THREAD} ordering is preserved. The pool size is ignored for
+     * {@link PublishOrdering#ID} ordering and for messages published with a
+     * {@link MessageKey}, which always use a single publisher per order id.</p>
+     *
+     * @return the number of publishers to pool for each topic
+     */
+    int poolSize() default 1;
+
+    /**
+     * How the method waits for the messages it publishes to be acknowledged.
+     * <p>With {@link PublishAck#FLUSH} or {@link PublishAck#NONE} errors publishing individual messages
+     * are not returned to the caller but are passed to the {@link #errorHandler() error handler}. The
+     * number of messages that have been published and not yet acknowledged is capped by
+     * {@link #maxInFlight()}, callers wait for up to the {@link #maxBlock()} time when the cap is reached.
+     * Batch methods and methods with a reactive message body always acknowledge each message.</p>
+     *
+     * @return how the method waits for messages to be acknowledged
+     */
+    PublishAck ack() default PublishAck.PER_MESSAGE;
+
+    /**
+     * The maximum number of messages published by the method with {@link PublishAck#FLUSH} or
+     * {@link PublishAck#NONE} {@link #ack() acknowledgement} that may be waiting to be acknowledged.
+     *
+     * @return the maximum number of messages waiting to be acknowledged
+     */
+    int maxInFlight() default 1024;
+
+    /**
+     * The type of the {@link PublishErrorHandler} bean that handles errors publishing messages with
+     * {@link PublishAck#FLUSH} or {@link PublishAck#NONE} {@link #ack() acknowledgement}. The default
+     * logs the error.
+     *
+     * @return the type of the {@link PublishErrorHandler} bean
+     */
+    Class<? extends PublishErrorHandler> errorHandler() default PublishErrorHandler.class;
 }
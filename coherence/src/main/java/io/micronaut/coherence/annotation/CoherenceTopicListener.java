@@ -44,4 +44,188 @@ public @interface CoherenceTopicListener {
      * @return The {@link CommitStrategy}
      */
     CommitStrategy commitStrategy() default CommitStrategy.SYNC;
+
+    /**
+     * The number of processed messages after which positions are committed when using
+     * the {@link CommitStrategy#BATCHED} commit strategy.
+     *
+     * @return the number of processed messages that triggers a commit
+     */
+    int commitBatchSize() default 100;
+
+    /**
+     * The maximum interval between commits when using the {@link CommitStrategy#BATCHED}
+     * commit strategy, for example {@code 1s} or {@code 500ms}.
+     *
+     * @return the maximum interval between commits
+     */
+    String commitInterval() default "1s";
+
+    /**
+     * <p>Whether the listener method receives elements in batches.</p>
+     * <p>When {@code true} the method must declare a {@link java.util.List} or {@link java.util.Collection}
+     * parameter that will be bound to the values (or {@link com.tangosol.net.topic.Subscriber.Element elements})
+     * of each batch received from the topic. A method that declares a collection of
+     * {@link com.tangosol.net.topic.Subscriber.Element} is always treated as a batch listener.</p>
+     *
+     * @return {@code true} if the listener method receives batches of elements
+     */
+    boolean batch() default false;
+
+    /**
+     * The maximum number of elements to receive in a single batch when the listener
+     * is a batch listener.
+     *
+     * @return the maximum number of elements to receive in a single batch
+     */
+    int maxBatchSize() default 100;
+
+    /**
+     * <p>The maximum number of elements (or batches) that may be received and processed concurrently.</p>
+     * <p>With a concurrency greater than one, up to this number of receive requests are kept outstanding
+     * and received elements are processed in parallel on the message consumer executor. Elements are still
+     * committed in order in each channel, so that a committed position never passes an element that has not
+     * been processed.</p>
+     *
+     * @return the maximum number of elements processed concurrently
+     */
+    int concurrency() default 1;
+
+    /**
+     * <p>The number of topic {@link com.tangosol.net.topic.Subscriber subscribers} to create for the
+     * listener method.</p>
+     * <p>All the subscribers belong to the same {@link SubscriberGroup}, so the channels of the topic
+     * are shared between them and can be received and processed in parallel within a single process.
+     * Multiple instances require a {@link SubscriberGroup}, as anonymous subscribers would each receive
+     * every message.</p>
+     *
+     * @return the number of subscribers to create for the listener method
+     */
+    int instances() default 1;
+
+    /**
+     * <p>The maximum number of topic {@link com.tangosol.net.topic.Subscriber subscribers} to scale the
+     * listener method up to.</p>
+     * <p>When this is greater than {@link #instances()} the number of subscribers is scaled between
+     * {@link #instances()} and this maximum, based on the number of messages remaining to be received
+     * from the channels the subscribers own. Like multiple instances, scaling requires a {@link SubscriberGroup}.</p>
+     *
+     * @return the maximum number of subscribers, or zero to disable scaling
+     */
+    int maxInstances() default 0;
+
+    /**
+     * The number of remaining messages each subscriber is expected to handle when the number of
+     * subscribers is scaled; another subscriber is added when the remaining messages exceed this
+     * value for every current subscriber.
+     *
+     * @return the number of remaining messages for each subscriber
+     */
+    int remainingPerInstance() default 1000;
+
+    /**
+     * The interval between checks of the remaining messages when the number of subscribers is scaled.
+     *
+     * @return the interval between scaling checks
+     */
+    String scaleInterval() default "10s";
+
+    /**
+     * The {@link DispatchMode} used to dispatch received elements to the listener method
+     * when the {@link #concurrency()} is greater than one.
+     *
+     * @return the {@link DispatchMode}
+     */
+    DispatchMode dispatchMode() default DispatchMode.UNORDERED;
+
+    /**
+     * The maximum number of values requested from a reactive listener method result that may be
+     * waiting to be published to the {@link io.micronaut.messaging.annotation.SendTo} topics.
+     *
+     * @return the maximum number of values from a reactive result waiting to be published
+     */
+    int maxOutstanding() default 256;
+
+    /**
+     * <p>The backlog at which the listener stops receiving messages from the topic.</p>
+     * <p>The backlog is the number of received messages that have not yet been processed plus the
+     * number of values returned by the listener method that have not yet been published to the
+     * {@link io.micronaut.messaging.annotation.SendTo} topics. When the backlog reaches this
+     * {@link Backlog.Type#EXCESSIVE excessive} threshold no more messages are received until the backlog
+     * drops back to the {@link #resumeBacklog()} threshold.</p>
+     *
+     * @return the backlog at which the listener stops receiving messages
+     */
+    int maxBacklog() default 256;
+
+    /**
+     * The backlog at which a listener that stopped receiving messages because of an excessive backlog
+     * resumes receiving, a negative value uses half the {@link #maxBacklog()}.
+     *
+     * @return the backlog at which the listener resumes receiving messages
+     */
+    int resumeBacklog() default -1;
+
+    /**
+     * <p>Whether each received element is forwarded unchanged to the
+     * {@link io.micronaut.messaging.annotation.SendTo} topics after the listener method has processed it.</p>
+     * <p>Forwarded elements are published as their already serialized {@link com.tangosol.util.Binary}
+     * value, so they are neither deserialized nor serialized again. Any value returned by the method
+     * is ignored. Methods that return a {@link com.tangosol.util.Binary} value are always published
+     * as already serialized values, without needing to set this attribute.</p>
+     *
+     * @return {@code true} if received elements are forwarded unchanged
+     */
+    boolean forward() default false;
+
+    /**
+     * The {@link ExecutionMode} used to invoke the listener method.
+     *
+     * @return the {@link ExecutionMode}
+     */
+    ExecutionMode executionMode() default ExecutionMode.DEFAULT;
+
+    /**
+     * <p>The number of times a failed listener method invocation is retried before the
+     * element is sent to the {@link #deadLetterTopic()}, or passed to the exception handling.</p>
+     * <p>Retries are scheduled after a delay without blocking a consumer thread and without
+     * closing the subscriber. Receiving from the subscriber continues once the retried elements
+     * have been processed, so ordering is preserved when the concurrency is {@code 1}.</p>
+     *
+     * @return the number of retries, zero disables retries
+     */
+    int retryAttempts() default 0;
+
+    /**
+     * The delay before the first retry of a failed listener method invocation.
+     *
+     * @return the delay before the first retry
+     */
+    String retryDelay() default "1s";
+
+    /**
+     * The multiplier applied to the retry delay after each retry.
+     *
+     * @return the retry delay multiplier
+     */
+    double retryMultiplier() default 2.0;
+
+    /**
+     * The maximum delay between retries.
+     *
+     * @return the maximum delay between retries
+     */
+    String retryMaxDelay() default "1m";
+
+    /**
+     * <p>The name of the topic that elements are published to, as their serialized
+     * {@link com.tangosol.util.Binary} value, when the listener method still fails once every
+     * retry has been made.</p>
+     * <p>Dead lettered elements are committed and receiving continues. If no dead letter topic
+     * is set the error is passed to the {@link io.micronaut.coherence.messaging.SubscriberExceptionHandler}
+     * as usual.</p>
+     *
+     * @return the name of the dead letter topic
+     */
+    String deadLetterTopic() default "";
 }
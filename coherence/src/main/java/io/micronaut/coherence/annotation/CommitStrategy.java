@@ -23,7 +23,8 @@ package io.micronaut.coherence.annotation;
  * <p>Depending on requirements you may wish the commit more or less frequently and you may not care whether the
  * commit was successful or not. This enum allows configuring a range of policies for a Coherence topic subscriber
  * from leaving it down to the client to synchronously commit (with {@link #SYNC}) or asynchronously commit
- * (with {@link #ASYNC}) after each message is consumed, through to manually handling commits (with {@link #MANUAL}).</p>
+ * (with {@link #ASYNC}) after each message is consumed, periodically committing batches of messages
+ * (with {@link #BATCHED}), through to manually handling commits (with {@link #MANUAL}).</p>
  *
  * @author Jonathan Knight
  * @since 1.0
@@ -43,4 +44,12 @@ public enum CommitStrategy {
      * Asynchronously commit using {@link com.tangosol.net.topic.Subscriber.Element#commitAsync()} after each message is processed.
      */
     ASYNC,
+    /**
+     * Track the highest processed position in each channel and asynchronously commit it after a number of
+     * messages have been processed, or after an interval has passed, whichever comes first. Outstanding positions
+     * are also committed when channels are revoked from the subscriber and when the subscriber is closed.
+     * The number of messages and the interval are configured using
+     * {@link CoherenceTopicListener#commitBatchSize()} and {@link CoherenceTopicListener#commitInterval()}.
+     */
+    BATCHED,
 }
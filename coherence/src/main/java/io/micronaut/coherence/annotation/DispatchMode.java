@@ -0,0 +1,38 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.annotation;
+
+/**
+ * <p>An enum representing the different ways a {@link CoherenceTopicListener} with a
+ * {@link CoherenceTopicListener#concurrency() concurrency} greater than one dispatches
+ * received elements to the listener method.</p>
+ * <p>Channels are the unit of ordering in a Coherence topic, elements published with the same
+ * {@link com.tangosol.net.topic.Publisher.OrderBy ordering} are published to the same channel.</p>
+ *
+ * @author Jonathan Knight
+ * @since 6.0
+ */
+public enum DispatchMode {
+    /**
+     * Received elements are processed in parallel in any order.
+     */
+    UNORDERED,
+    /**
+     * Elements from the same channel are processed one at a time in the order they were
+     * received, elements from different channels are processed in parallel.
+     */
+    CHANNEL_ORDERED,
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.annotation;
+
+/**
+ * An enum representing the different ways a {@link CoherenceTopicListener} method is executed.
+ *
+ * @author Jonathan Knight
+ * @since 6.0
+ */
+public enum ExecutionMode {
+    /**
+     * Use the execution mode configured with the {@code coherence.topic-listener.execution-mode}
+     * property, which defaults to {@link #POOLED}.
+     */
+    DEFAULT,
+    /**
+     * A listener with a {@link CoherenceTopicListener#concurrency() concurrency} of one is invoked on
+     * the thread that completed the receive request, a listener with a greater concurrency is invoked
+     * on the {@link io.micronaut.scheduling.TaskExecutors#MESSAGE_CONSUMER message consumer} executor.
+     */
+    POOLED,
+    /**
+     * <p>Every listener invocation, and any synchronous commit that follows it, runs on its own virtual
+     * thread, so that listeners that block on I/O do not tie up platform threads.</p>
+     * <p>Virtual threads require a Java 21 or later runtime. If the
+     * {@link io.micronaut.scheduling.TaskExecutors#VIRTUAL virtual} executor is not available the
+     * listener falls back to {@link #POOLED} execution.</p>
+     */
+    VIRTUAL,
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>Indicates that an asynchronous {@link CoherenceEventListener} {@link com.tangosol.util.MapEvent}
+ * observer method receives the events for any one key in the order they occurred.</p>
+ * <p>Each event is dispatched to one of a fixed number of serial lanes, chosen by the hash of the event's
+ * key. Events in the same lane are delivered one at a time in order, while events in different lanes
+ * are delivered in parallel. This annotation has no effect on {@link Synchronous} observer methods.</p>
+ *
+ * @author Jonathan Knight
+ * @since 6.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface KeyOrdered {
+    /**
+     * The number of serial lanes, zero or less to use one lane per available processor.
+     *
+     * @return the number of serial lanes
+     */
+    int lanes() default 0;
+}
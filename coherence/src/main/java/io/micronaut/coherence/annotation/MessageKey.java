@@ -0,0 +1,45 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import io.micronaut.core.bind.annotation.Bindable;
+
+/**
+ * <p>Marks a {@link CoherencePublisher} method parameter as the ordering key of the published message.</p>
+ * <p>Messages with the same key are published to the same topic channel, so they are received
+ * in the order they were published, while messages with different keys are spread across the
+ * topic's channels. A {@code null} key uses the publisher's {@link CoherencePublisher#ordering() ordering}.</p>
+ * <p>Each key is mapped to an order id, the key's hash modulo the topic's channel count, and each order id
+ * has its own publisher. A method with a {@code MessageKey} parameter can therefore open up to one extra
+ * publisher per topic channel, in addition to the publishers used for messages without a key, and the
+ * {@link CoherencePublisher#poolSize() pool size} does not apply to keyed messages. Keyed publishers for
+ * topic names passed as method arguments are held in the same bounded cache as other publishers.</p>
+ *
+ * @author Jonathan Knight
+ * @since 6.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.PARAMETER)
+@Bindable
+public @interface MessageKey {
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.annotation;
+
+/**
+ * The ways that a {@link CoherencePublisher} method waits for messages it publishes to be acknowledged.
+ *
+ * @author Jonathan Knight
+ * @since 6.0
+ */
+public enum PublishAck {
+    /**
+     * The method result completes when the message it published has been acknowledged.
+     * This is the default.
+     */
+    PER_MESSAGE,
+    /**
+     * The method does not wait for its own message, instead the method result completes when
+     * the publisher has been flushed, so that every message published before it, by any caller,
+     * has also been acknowledged. Concurrent callers share flushes of the same publisher, rather
+     * than each caller flushing it.
+     */
+    FLUSH,
+    /**
+     * The method returns as soon as the message has been handed to the publisher, without waiting
+     * for it to be acknowledged.
+     */
+    NONE
+}
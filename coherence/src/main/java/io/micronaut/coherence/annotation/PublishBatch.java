@@ -0,0 +1,52 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>Indicates that the message body of a {@link CoherencePublisher} method is a batch of messages.</p>
+ * <p>The message body must be an {@link Iterable}, such as a {@link java.util.Collection}, or an array,
+ * and each element is published as a separate message. The elements are published as a single pipelined
+ * batch, keeping at most {@link #window()} publish requests outstanding at a time, and the method
+ * completes once every element has been published. Batch methods can return {@code void}, a
+ * {@code CompletableFuture<Void>} or a reactive {@code Mono<Void>}.</p>
+ *
+ * @author Jonathan Knight
+ * @since 6.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface PublishBatch {
+    /**
+     * The maximum number of publish requests that are outstanding at a time.
+     *
+     * @return the maximum number of outstanding publish requests
+     */
+    int window() default 256;
+
+    /**
+     * Whether the publisher is flushed once every element has been published.
+     *
+     * @return {@code true} to flush the publisher at the end of the batch
+     */
+    boolean flush() default false;
+}
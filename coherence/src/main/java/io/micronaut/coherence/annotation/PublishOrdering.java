@@ -0,0 +1,43 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.annotation;
+
+/**
+ * The ways that messages published by a {@link CoherencePublisher} are ordered across topic channels.
+ *
+ * @author Jonathan Knight
+ * @since 6.0
+ */
+public enum PublishOrdering {
+    /**
+     * Messages published by the same thread are published to the same channel, in order.
+     * This is the default Coherence publisher ordering.
+     */
+    THREAD,
+    /**
+     * Messages are not ordered and are spread over all channels.
+     */
+    NONE,
+    /**
+     * Messages are published to each channel in turn.
+     */
+    ROUND_ROBIN,
+    /**
+     * Messages are all published, in order, to the channel for the
+     * {@link CoherencePublisher#orderId() order id}.
+     */
+    ID
+}
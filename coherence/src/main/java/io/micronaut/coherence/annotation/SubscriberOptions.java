@@ -0,0 +1,53 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Configures how an injected {@link io.micronaut.coherence.messaging.ReactiveSubscriber}
+ * receives and commits elements.
+ *
+ * @author Jonathan Knight
+ * @since 6.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.PARAMETER, ElementType.METHOD})
+public @interface SubscriberOptions {
+    /**
+     * <p>The strategy used to commit received elements.</p>
+     * <p>Delivered elements are committed when downstream next requests more elements, so an element
+     * is only committed once the subscriber that received it has asked for more. With
+     * {@link CommitStrategy#SYNC} no more elements are received until the commits complete,
+     * {@link CommitStrategy#ASYNC} does not wait for the commits, and with {@link CommitStrategy#MANUAL}
+     * elements are not committed. {@link CommitStrategy#BATCHED} is not supported.</p>
+     *
+     * @return the commit strategy
+     */
+    CommitStrategy commitStrategy() default CommitStrategy.SYNC;
+
+    /**
+     * The maximum number of elements to receive from the topic in a single request.
+     *
+     * @return the maximum number of elements to receive in a single request
+     */
+    int maxBatchSize() default 100;
+}
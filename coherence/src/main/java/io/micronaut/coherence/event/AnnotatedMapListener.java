@@ -29,7 +29,6 @@ import java.lang.annotation.Annotation;
 import java.util.EnumSet;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
@@ -408,10 +407,7 @@ class AnnotatedMapListener<K, V> implements MapListener<K, V>, Comparable<Annota
     private void handle(Type type, MapEvent<K, V> event) {
         if (isSupported(type)) {
             if (observer.isAsync()) {
-                CompletableFuture.supplyAsync(() -> {
-                    observer.notify(event);
-                    return event;
-                });
+                observer.notifyAsync(event);
             } else {
                 observer.notify(event);
             }
@@ -21,6 +21,7 @@ import io.micronaut.inject.ExecutableMethod;
 import java.lang.annotation.Annotation;
 import java.util.Arrays;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -42,17 +43,22 @@ abstract class BaseExecutableMethodObserver<E, T, R> {
 
     protected final EventArgumentBinderRegistry<E> binderRegistry;
 
+    protected final Executor executor;
+
     /**
      * Create a {@link ExecutableMethodEventObserver}.
      *
      * @param supplier  a {@link Supplier} to lazily provide the Micronaut bean that has the executable method
      * @param method    the method to execute when events are received
      * @param registry  the {@link EventArgumentBinderRegistry} to use to bind arguments to the method
+     * @param executor  the {@link Executor} to execute the method on if it is asynchronous
      */
-    protected BaseExecutableMethodObserver(Supplier<T> supplier, ExecutableMethod<T, R> method, EventArgumentBinderRegistry<E> registry) {
+    protected BaseExecutableMethodObserver(Supplier<T> supplier, ExecutableMethod<T, R> method,
+                                           EventArgumentBinderRegistry<E> registry, Executor executor) {
         this.beanSupplier = supplier;
         this.method = method;
         this.binderRegistry = registry;
+        this.executor = executor;
     }
 
     public String getId() {
@@ -68,4 +74,13 @@ abstract class BaseExecutableMethodObserver<E, T, R> {
     public boolean isAsync() {
         return !method.hasAnnotation(Synchronous.class);
     }
+
+    /**
+     * Returns the {@link Executor} to execute the method on if it is asynchronous.
+     *
+     * @return the {@link Executor} to execute the method on if it is asynchronous
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
 }
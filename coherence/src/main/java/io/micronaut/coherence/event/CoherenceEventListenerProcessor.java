@@ -32,22 +32,32 @@ import io.micronaut.coherence.FilterFactories;
 import io.micronaut.coherence.MapEventTransformerFactories;
 import io.micronaut.coherence.annotation.CoherenceEventListener;
 import io.micronaut.coherence.annotation.Created;
+import io.micronaut.coherence.annotation.ExecutionMode;
 import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.BeanProvider;
 import io.micronaut.context.annotation.Context;
 import io.micronaut.context.processor.ExecutableMethodProcessor;
 import io.micronaut.core.type.Argument;
 import io.micronaut.inject.BeanDefinition;
 import io.micronaut.inject.ExecutableMethod;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import io.micronaut.scheduling.TaskExecutors;
 import jakarta.inject.Inject;
+import jakarta.inject.Named;
 import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -63,6 +73,46 @@ import java.util.stream.Collectors;
 public class CoherenceEventListenerProcessor
         implements ExecutableMethodProcessor<CoherenceEventListener> {
 
+    /**
+     * The name of the property used to configure the name of the Micronaut executor that
+     * asynchronous listener methods are invoked on.
+     */
+    public static final String EXECUTOR_PROPERTY = "coherence.event-listener.executor";
+
+    /**
+     * The name of the property used to configure whether asynchronous listener methods are
+     * invoked on a pool of platform threads or on virtual threads, when no executor is named.
+     */
+    public static final String EXECUTION_MODE_PROPERTY = "coherence.event-listener.execution-mode";
+
+    /**
+     * The name of the property used to configure the number of platform threads in the
+     * {@value EventListenerExecutorServiceConfig#NAME} executor that asynchronous listener
+     * methods are invoked on, when no executor is named.
+     */
+    public static final String THREADS_PROPERTY = "coherence.event-listener.threads";
+
+    /**
+     * The name of the property used to configure the maximum number of asynchronous
+     * events that may be waiting or running at once.
+     */
+    public static final String QUEUE_SIZE_PROPERTY = "coherence.event-listener.queue-size";
+
+    /**
+     * The name of the property used to configure how events are handled when the maximum
+     * number of asynchronous events are waiting or running.
+     */
+    public static final String REJECTION_POLICY_PROPERTY = "coherence.event-listener.rejection-policy";
+
+    /**
+     * The name of the property used to configure the maximum time that an event for a
+     * {@link io.micronaut.coherence.annotation.KeyOrdered} method waits for capacity with the
+     * {@code CALLER_RUNS} rejection policy, before it is queued beyond the maximum.
+     */
+    public static final String ORDERED_MAX_WAIT_PROPERTY = "coherence.event-listener.ordered-max-wait";
+
+    private static final Logger LOG = LoggerFactory.getLogger(CoherenceEventListenerProcessor.class);
+
     /**
      * The {@link io.micronaut.coherence.FilterFactories} instance used to create
      * {@link com.tangosol.util.Filter} instances.
@@ -93,21 +143,70 @@ public class CoherenceEventListenerProcessor
     @SuppressWarnings("unchecked")
     private final List<NamedEventInterceptor<?>> interceptors = new SafeLinkedList();
 
+    /**
+     * The executor that asynchronous listener methods are invoked on.
+     */
+    private final EventListenerExecutor executor;
+
     /**
      * Create the {@link CoherenceEventListenerProcessor} bean.
      *
      * @param beanContext        the {@link io.micronaut.context.BeanContext}
      * @param filterFactories    the factory to produce {@link com.tangosol.util.Filter} instances
      * @param transformerFactory the factory to produce {@link com.tangosol.util.MapEventTransformer} instances
+     * @param defaultExecutor    the {@value EventListenerExecutorServiceConfig#NAME} executor, used when
+     *                           no other executor is named
      */
     @Inject
     public CoherenceEventListenerProcessor(ApplicationContext beanContext,
                                            FilterFactories filterFactories,
-                                           MapEventTransformerFactories transformerFactory) {
+                                           MapEventTransformerFactories transformerFactory,
+                                           @Named(EventListenerExecutorServiceConfig.NAME)
+                                           BeanProvider<ExecutorService> defaultExecutor) {
         this.filterProducer = filterFactories;
         this.transformerProducer = transformerFactory;
         this.ctx = beanContext;
         this.binderRegistry = new EventArgumentBinderRegistry<>();
+
+        ExecutorService delegate = findExecutor(beanContext);
+        this.executor = new EventListenerExecutor(delegate == null ? defaultExecutor.get() : delegate,
+                beanContext.getProperty(QUEUE_SIZE_PROPERTY, Integer.class).orElse(10_000),
+                beanContext.getProperty(REJECTION_POLICY_PROPERTY, EventListenerExecutor.RejectionPolicy.class)
+                        .orElse(EventListenerExecutor.RejectionPolicy.CALLER_RUNS),
+                beanContext.getProperty(ORDERED_MAX_WAIT_PROPERTY, Duration.class).orElse(Duration.ZERO));
+    }
+
+    /**
+     * Returns the executor that asynchronous listener methods are invoked on.
+     *
+     * @return the executor that asynchronous listener methods are invoked on
+     */
+    EventListenerExecutor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Find the executor bean to invoke asynchronous listener methods on.
+     *
+     * @param context  the Micronaut application context
+     *
+     * @return the executor bean, or {@code null} to use the {@value EventListenerExecutorServiceConfig#NAME} executor
+     */
+    private static ExecutorService findExecutor(ApplicationContext context) {
+        String name = context.getProperty(EXECUTOR_PROPERTY, String.class).orElse(null);
+        if (name == null && context.getProperty(EXECUTION_MODE_PROPERTY, ExecutionMode.class)
+                .orElse(ExecutionMode.POOLED) == ExecutionMode.VIRTUAL) {
+            name = TaskExecutors.VIRTUAL;
+        }
+        if (name == null) {
+            return null;
+        }
+        Optional<ExecutorService> executor = context.findBean(ExecutorService.class, Qualifiers.byName(name));
+        if (executor.isEmpty()) {
+            LOG.warn("The {} executor is not available, asynchronous @CoherenceEventListener methods will use the {} executor",
+                    name, EventListenerExecutorServiceConfig.NAME);
+        }
+        return executor.orElse(null);
     }
 
     /**
@@ -139,14 +238,14 @@ public class CoherenceEventListenerProcessor
             Supplier<Object> bean = () -> ctx.getBean(clsBeanType);
 
             if (Event.class.isAssignableFrom(type)) {
-                ExecutableMethodEventObserver observer = new ExecutableMethodEventObserver(bean, method, binderRegistry);
+                ExecutableMethodEventObserver observer = new ExecutableMethodEventObserver(bean, method, binderRegistry, executor);
                 EventObserverSupport.EventHandler handler = EventObserverSupport
                         .createObserver((Class<? extends Event>) type, observer);
                 NamedEventInterceptor interceptor = new NamedEventInterceptor(observer.getId(), handler);
                 interceptors.add(interceptor);
             } else {
                 // type is MapEvent
-                ExecutableMethodMapListener listener = new ExecutableMethodMapListener(bean, method, binderRegistry);
+                ExecutableMethodMapListener listener = new ExecutableMethodMapListener(bean, method, binderRegistry, executor);
                 AnnotatedMapListener mapListener = new AnnotatedMapListener(listener, listener.getObservedQualifiers());
                 addMapListener(mapListener);
             }
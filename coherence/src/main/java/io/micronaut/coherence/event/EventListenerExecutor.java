@@ -0,0 +1,312 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.event;
+
+import io.micronaut.coherence.messaging.SerialExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>The {@link Executor} that asynchronous {@link io.micronaut.coherence.annotation.CoherenceEventListener}
+ * methods are invoked on.</p>
+ * <p>Events are handed to a delegate executor, with at most a fixed number of events waiting or running
+ * at once. When that capacity is reached further events are handled according to the
+ * {@link RejectionPolicy}. The time events wait before they run, the time they take to run and the number
+ * of rejected events are recorded.</p>
+ *
+ * @author Jonathan Knight
+ * @since 6.0
+ */
+class EventListenerExecutor implements Executor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(EventListenerExecutor.class);
+
+    /**
+     * The executor that runs the events.
+     */
+    private final Executor delegate;
+
+    /**
+     * The permits for events that are waiting or running.
+     */
+    private final Semaphore capacity;
+
+    /**
+     * How events are handled when the capacity is reached.
+     */
+    private final RejectionPolicy rejectionPolicy;
+
+    /**
+     * The maximum time, in nanoseconds, that an ordered event waits for capacity with the
+     * {@link RejectionPolicy#CALLER_RUNS} policy.
+     */
+    private final long orderedMaxWait;
+
+    /**
+     * The number of events waiting to run.
+     */
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    /**
+     * The number of rejected events.
+     */
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * The number of events that have run.
+     */
+    private final LongAdder completed = new LongAdder();
+
+    /**
+     * The total time, in nanoseconds, that events have waited before running.
+     */
+    private final LongAdder waitTime = new LongAdder();
+
+    /**
+     * The total time, in nanoseconds, that events have taken to run.
+     */
+    private final LongAdder executionTime = new LongAdder();
+
+    /**
+     * Create an {@link EventListenerExecutor}.
+     *
+     * @param delegate         the executor that runs the events
+     * @param capacity         the maximum number of events that may be waiting or running
+     * @param rejectionPolicy  how events are handled when the capacity is reached
+     * @param orderedMaxWait   the maximum time an ordered event waits for capacity with the
+     *                         {@link RejectionPolicy#CALLER_RUNS} policy, {@code null} or zero
+     *                         to never wait
+     */
+    EventListenerExecutor(Executor delegate, int capacity, RejectionPolicy rejectionPolicy, Duration orderedMaxWait) {
+        this.delegate = delegate;
+        this.capacity = new Semaphore(Math.max(1, capacity));
+        this.rejectionPolicy = rejectionPolicy;
+        this.orderedMaxWait = orderedMaxWait == null || orderedMaxWait.isNegative() ? 0 : orderedMaxWait.toNanos();
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (!capacity.tryAcquire()) {
+            reject(task);
+            return;
+        }
+        long queued = System.nanoTime();
+        waiting.incrementAndGet();
+        try {
+            delegate.execute(() -> {
+                waiting.decrementAndGet();
+                try {
+                    run(task, queued);
+                } finally {
+                    capacity.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            waiting.decrementAndGet();
+            capacity.release();
+            reject(task);
+        }
+    }
+
+    /**
+     * <p>Run an event task on a serial lane, so that it runs after every task previously
+     * submitted to the same lane.</p>
+     * <p>Running an ordered task on the calling thread would overtake the tasks already waiting
+     * in its lane, so with the {@link RejectionPolicy#CALLER_RUNS} policy the caller instead waits
+     * up to the ordered maximum wait for capacity. If there is still no capacity, the task is queued
+     * on its lane anyway, so that the event dispatch thread is never blocked indefinitely.</p>
+     *
+     * @param task  the event task
+     * @param lane  the serial lane to run the task on, created by {@link #newLane()}
+     */
+    void executeOrdered(Runnable task, Executor lane) {
+        boolean acquired = capacity.tryAcquire();
+        if (!acquired) {
+            rejected.increment();
+            if (rejectionPolicy == RejectionPolicy.DISCARD) {
+                logDiscarded();
+                return;
+            }
+            acquired = tryAcquire(orderedMaxWait);
+            if (!acquired) {
+                logOverCapacity();
+            }
+        }
+        boolean release = acquired;
+        long queued = System.nanoTime();
+        waiting.incrementAndGet();
+        lane.execute(() -> {
+            waiting.decrementAndGet();
+            try {
+                run(task, queued);
+            } finally {
+                if (release) {
+                    capacity.release();
+                }
+            }
+        });
+    }
+
+    /**
+     * Create a serial lane that runs its tasks one at a time, in order, on the delegate executor.
+     *
+     * @return a new serial lane
+     */
+    Executor newLane() {
+        return new SerialExecutor(delegate);
+    }
+
+    /**
+     * Returns the number of events waiting to run.
+     *
+     * @return the number of events waiting to run
+     */
+    int getWaiting() {
+        return waiting.get();
+    }
+
+    /**
+     * Returns the number of rejected events.
+     *
+     * @return the number of rejected events
+     */
+    long getRejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * Returns the number of events that have run.
+     *
+     * @return the number of events that have run
+     */
+    long getCompleted() {
+        return completed.sum();
+    }
+
+    /**
+     * Returns the total time, in nanoseconds, that events have waited before running.
+     *
+     * @return the total time events have waited before running
+     */
+    double getTotalWaitTime() {
+        return waitTime.sum();
+    }
+
+    /**
+     * Returns the total time, in nanoseconds, that events have taken to run.
+     *
+     * @return the total time events have taken to run
+     */
+    double getTotalExecutionTime() {
+        return executionTime.sum();
+    }
+
+    /**
+     * Handle an event that could not be run on the delegate executor.
+     *
+     * @param task  the event task
+     */
+    private void reject(Runnable task) {
+        rejected.increment();
+        if (rejectionPolicy == RejectionPolicy.CALLER_RUNS) {
+            run(task, System.nanoTime());
+        } else {
+            logDiscarded();
+        }
+    }
+
+    /**
+     * Log that events are being discarded, once for every thousand discarded events.
+     */
+    private void logDiscarded() {
+        long count = rejected.sum();
+        if (count % 1000 == 1) {
+            LOG.warn("Discarded {} event(s), the @CoherenceEventListener executor is at capacity", count);
+        }
+    }
+
+    /**
+     * Wait for capacity for an event.
+     *
+     * @param nanos  the maximum time to wait, in nanoseconds
+     *
+     * @return {@code true} if capacity was acquired
+     */
+    private boolean tryAcquire(long nanos) {
+        if (nanos <= 0) {
+            return false;
+        }
+        try {
+            return capacity.tryAcquire(nanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Log that ordered events are being queued beyond the capacity, once for every thousand rejected events.
+     */
+    private void logOverCapacity() {
+        long count = rejected.sum();
+        if (count % 1000 == 1) {
+            LOG.warn("Queued {} ordered event(s) beyond the capacity of the @CoherenceEventListener executor", count);
+        }
+    }
+
+    /**
+     * Run an event task, recording how long it waited and how long it took.
+     *
+     * @param task    the event task
+     * @param queued  the {@link System#nanoTime()} the task was queued
+     */
+    private void run(Runnable task, long queued) {
+        long start = System.nanoTime();
+        waitTime.add(start - queued);
+        try {
+            task.run();
+        } catch (Throwable t) {
+            LOG.error("Error invoking @CoherenceEventListener method", t);
+        } finally {
+            executionTime.add(System.nanoTime() - start);
+            completed.increment();
+        }
+    }
+
+    /**
+     * How events are handled when the executor is at capacity.
+     */
+    enum RejectionPolicy {
+        /**
+         * The event is run on the thread that dispatched it, which slows down event dispatch
+         * until the executor catches up. Ordered events cannot be run on the dispatching thread,
+         * so they wait for a bounded time for capacity and are then queued beyond the capacity.
+         */
+        CALLER_RUNS,
+        /**
+         * The event is discarded and a warning is logged.
+         */
+        DISCARD
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.event;
+
+import io.micronaut.context.annotation.Bean;
+import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.scheduling.executor.ExecutorConfiguration;
+import io.micronaut.scheduling.executor.ExecutorType;
+import io.micronaut.scheduling.executor.UserExecutorConfiguration;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+
+/**
+ * Configures the {@link java.util.concurrent.ExecutorService} that asynchronous
+ * {@link io.micronaut.coherence.annotation.CoherenceEventListener} methods are invoked on
+ * when no other executor is named.
+ *
+ * @author Jonathan Knight
+ * @since 6.0
+ */
+@Requires(missingProperty = ExecutorConfiguration.PREFIX + "." + EventListenerExecutorServiceConfig.NAME)
+@Factory
+public class EventListenerExecutorServiceConfig {
+    /**
+     * The name of the executor.
+     */
+    public static final String NAME = "coherence-event-listener";
+
+    /**
+     * @param threads  the number of threads, or {@code null} for one thread per available processor
+     *
+     * @return The executor configuration
+     */
+    @Singleton
+    @Bean
+    @Named(NAME)
+    ExecutorConfiguration configuration(@Property(name = CoherenceEventListenerProcessor.THREADS_PROPERTY)
+                                        @Nullable Integer threads) {
+        int size = threads == null ? Runtime.getRuntime().availableProcessors() : Math.max(1, threads);
+        return UserExecutorConfiguration.of(ExecutorType.FIXED, size);
+    }
+}
@@ -40,7 +40,6 @@ import io.micronaut.coherence.annotation.Error;
 import java.lang.annotation.Annotation;
 import java.util.EnumSet;
 import java.util.Set;
-import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 /**
@@ -159,10 +158,7 @@ public final class EventObserverSupport {
 
                 if (observerScope == null || eventScope == null || observerScope.equals(eventScope)) {
                     if (observer.isAsync()) {
-                        CompletableFuture.supplyAsync(() -> {
-                            observer.notify(event);
-                            return event;
-                        });
+                        observer.getExecutor().execute(() -> observer.notify(event));
                     } else {
                         observer.notify(event);
                     }
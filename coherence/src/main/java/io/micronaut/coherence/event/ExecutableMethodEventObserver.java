@@ -25,6 +25,7 @@ import io.micronaut.inject.ExecutableMethod;
 
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 /**
@@ -45,9 +46,11 @@ class ExecutableMethodEventObserver<E extends Event<?>, T, R>
      * @param supplier  a {@link Supplier} to lazily provide the Micronaut bean that has the executable method
      * @param method    the method to execute when events are received
      * @param registry  the {@link EventArgumentBinderRegistry} to use to bind arguments to the method
+     * @param executor  the {@link Executor} to execute the method on if it is asynchronous
      */
-    ExecutableMethodEventObserver(Supplier<T> supplier, ExecutableMethod<T, R> method, EventArgumentBinderRegistry<E> registry) {
-        super(supplier, method, registry);
+    ExecutableMethodEventObserver(Supplier<T> supplier, ExecutableMethod<T, R> method, EventArgumentBinderRegistry<E> registry,
+                                  Executor executor) {
+        super(supplier, method, registry, executor);
     }
 
     void notify(E event) {
@@ -16,6 +16,7 @@
 package io.micronaut.coherence.event;
 
 import com.tangosol.util.MapEvent;
+import io.micronaut.coherence.annotation.KeyOrdered;
 import io.micronaut.core.bind.BoundExecutable;
 import io.micronaut.core.bind.DefaultExecutableBinder;
 import io.micronaut.core.bind.ExecutableBinder;
@@ -24,6 +25,7 @@ import io.micronaut.inject.ExecutableMethod;
 
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 /**
@@ -39,15 +41,43 @@ import java.util.function.Supplier;
 class ExecutableMethodMapListener<K, V, T, R>
         extends BaseExecutableMethodObserver<MapEvent<K, V>, T, R> {
 
+    /**
+     * The dispatcher that delivers events in key order, or {@code null} if
+     * the method is not annotated with {@link KeyOrdered}.
+     */
+    private final KeyOrderedDispatcher dispatcher;
+
     /**
      * Create a {@link ExecutableMethodEventObserver}.
      *
      * @param supplier  a {@link Supplier} to lazily provide the Micronaut bean that has the executable method
      * @param method    the method to execute when events are received
      * @param registry  the {@link EventArgumentBinderRegistry} to use to bind arguments to the method
+     * @param executor  the {@link Executor} to execute the method on if it is asynchronous
+     */
+    ExecutableMethodMapListener(Supplier<T> supplier, ExecutableMethod<T, R> method, EventArgumentBinderRegistry<MapEvent<K, V>> registry,
+                                Executor executor) {
+        super(supplier, method, registry, executor);
+        if (method.hasAnnotation(KeyOrdered.class) && executor instanceof EventListenerExecutor listenerExecutor) {
+            int lanes = method.intValue(KeyOrdered.class, "lanes").orElse(0);
+            this.dispatcher = new KeyOrderedDispatcher(listenerExecutor, lanes);
+        } else {
+            this.dispatcher = null;
+        }
+    }
+
+    /**
+     * Forward the event to the underlying executable method on the executor, in key order
+     * if the method is annotated with {@link KeyOrdered}.
+     *
+     * @param event the map event
      */
-    ExecutableMethodMapListener(Supplier<T> supplier, ExecutableMethod<T, R> method, EventArgumentBinderRegistry<MapEvent<K, V>> registry) {
-        super(supplier, method, registry);
+    void notifyAsync(MapEvent<K, V> event) {
+        if (dispatcher == null) {
+            getExecutor().execute(() -> notify(event));
+        } else {
+            dispatcher.dispatch(event.getKey(), () -> notify(event));
+        }
     }
 
     /**
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.event;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+/**
+ * Dispatches event tasks to a fixed number of serial lanes chosen by the hash of each event's key,
+ * so that tasks for the same key run in order while tasks for different keys run in parallel.
+ *
+ * @author Jonathan Knight
+ * @see io.micronaut.coherence.annotation.KeyOrdered
+ * @since 6.0
+ */
+class KeyOrderedDispatcher {
+    /**
+     * The executor that runs the tasks and bounds the number waiting.
+     */
+    private final EventListenerExecutor executor;
+
+    /**
+     * The serial lanes.
+     */
+    private final Executor[] lanes;
+
+    /**
+     * Create a {@link KeyOrderedDispatcher}.
+     *
+     * @param executor  the executor that runs the tasks and bounds the number waiting
+     * @param lanes     the number of serial lanes, zero or less for one lane per available processor
+     */
+    KeyOrderedDispatcher(EventListenerExecutor executor, int lanes) {
+        this.executor = executor;
+        this.lanes = new Executor[lanes > 0 ? lanes : Runtime.getRuntime().availableProcessors()];
+        for (int i = 0; i < this.lanes.length; i++) {
+            this.lanes[i] = executor.newLane();
+        }
+    }
+
+    /**
+     * Dispatch a task for an event key.
+     *
+     * @param key   the event key
+     * @param task  the task to run
+     */
+    void dispatch(Object key, Runnable task) {
+        executor.executeOrdered(task, lanes[lane(key)]);
+    }
+
+    /**
+     * Returns the number of serial lanes.
+     *
+     * @return the number of serial lanes
+     */
+    int getLaneCount() {
+        return lanes.length;
+    }
+
+    /**
+     * Returns the index of the lane for a key.
+     *
+     * @param key  the event key
+     *
+     * @return the index of the lane for the key
+     */
+    int lane(Object key) {
+        int hash = Objects.hashCode(key);
+        // spread the high bits, as keys such as sequential integers differ only in their low bits
+        return Math.floorMod(hash ^ (hash >>> 16), lanes.length);
+    }
+}
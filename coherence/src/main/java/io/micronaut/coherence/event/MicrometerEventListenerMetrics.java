@@ -0,0 +1,77 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.event;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micronaut.context.annotation.Requires;
+import jakarta.inject.Singleton;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link MeterBinder} that registers the queue depth, latency and rejection metrics of the
+ * executor that asynchronous {@link io.micronaut.coherence.annotation.CoherenceEventListener}
+ * methods are invoked on.
+ *
+ * @author Jonathan Knight
+ * @since 6.0
+ */
+@Singleton
+@Requires(classes = MeterRegistry.class)
+@Requires(beans = MeterRegistry.class)
+class MicrometerEventListenerMetrics implements MeterBinder {
+    /**
+     * The prefix of the meter names.
+     */
+    static final String PREFIX = "coherence.event.listener.";
+
+    /**
+     * The processor that owns the executor.
+     */
+    private final CoherenceEventListenerProcessor processor;
+
+    /**
+     * Create a {@link MicrometerEventListenerMetrics}.
+     *
+     * @param processor  the processor that owns the executor
+     */
+    MicrometerEventListenerMetrics(CoherenceEventListenerProcessor processor) {
+        this.processor = processor;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        EventListenerExecutor executor = processor.getExecutor();
+        Gauge.builder(PREFIX + "queue", executor, EventListenerExecutor::getWaiting)
+                .description("The number of asynchronous events waiting to be delivered")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + "rejected", executor, EventListenerExecutor::getRejected)
+                .description("The number of asynchronous events rejected because the executor was at capacity")
+                .register(registry);
+        FunctionTimer.builder(PREFIX + "wait", executor, EventListenerExecutor::getCompleted,
+                        EventListenerExecutor::getTotalWaitTime, TimeUnit.NANOSECONDS)
+                .description("The time asynchronous events waited before being delivered")
+                .register(registry);
+        FunctionTimer.builder(PREFIX + "execution", executor, EventListenerExecutor::getCompleted,
+                        EventListenerExecutor::getTotalExecutionTime, TimeUnit.NANOSECONDS)
+                .description("The time taken to invoke asynchronous listener methods")
+                .register(registry);
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.messaging;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import io.micronaut.coherence.annotation.Backlog;
+
+/**
+ * <p>Tracks the backlog of a topic listener, the number of received elements that have not
+ * yet been processed plus the number of result values that have not yet been published to
+ * the {@link io.micronaut.messaging.annotation.SendTo} topics.</p>
+ * <p>The backlog becomes {@link Backlog.Type#EXCESSIVE excessive} when it reaches an upper
+ * threshold and only returns to {@link Backlog.Type#NORMAL normal} when it drops to a lower
+ * threshold, so that receiving is not paused and resumed on every element under load.</p>
+ *
+ * @author Jonathan Knight
+ * @since 6.0
+ */
+class BacklogMonitor {
+    /**
+     * The backlog at or above which the backlog is excessive.
+     */
+    private final long excessive;
+
+    /**
+     * The backlog at or below which an excessive backlog returns to normal.
+     */
+    private final long normal;
+
+    /**
+     * The listener notified when the backlog changes between normal and excessive.
+     */
+    private final Consumer<Backlog.Type> listener;
+
+    /**
+     * The current backlog.
+     */
+    private final AtomicLong backlog = new AtomicLong();
+
+    /**
+     * {@code true} if the backlog is excessive.
+     */
+    private final AtomicBoolean isExcessive = new AtomicBoolean();
+
+    /**
+     * Create a {@link BacklogMonitor}.
+     *
+     * @param excessive  the backlog at or above which the backlog is excessive
+     * @param normal     the backlog at or below which an excessive backlog returns to normal,
+     *                   a negative value uses half the excessive threshold
+     * @param listener   the listener notified when the backlog changes between normal and excessive
+     */
+    BacklogMonitor(long excessive, long normal, Consumer<Backlog.Type> listener) {
+        this.excessive = Math.max(1, excessive);
+        this.normal = normal < 0 ? this.excessive / 2 : Math.min(normal, this.excessive - 1);
+        this.listener = listener;
+    }
+
+    /**
+     * Increase the backlog.
+     *
+     * @param count  the amount to increase the backlog by
+     */
+    void add(int count) {
+        if (backlog.addAndGet(count) >= excessive) {
+            transition(true);
+        }
+    }
+
+    /**
+     * Decrease the backlog.
+     *
+     * @param count  the amount to decrease the backlog by
+     */
+    void remove(int count) {
+        if (backlog.addAndGet(-count) <= normal) {
+            transition(false);
+        }
+    }
+
+    /**
+     * Returns {@code true} if the backlog is excessive.
+     *
+     * @return {@code true} if the backlog is excessive
+     */
+    boolean isExcessive() {
+        return isExcessive.get();
+    }
+
+    /**
+     * Returns the current backlog.
+     *
+     * @return the current backlog
+     */
+    long getBacklog() {
+        return backlog.get();
+    }
+
+    /**
+     * Change the backlog state and notify the listener.
+     * <p>The backlog is checked again after a change, as it may have crossed the other
+     * threshold while the state was being changed.</p>
+     *
+     * @param excessiveBacklog  {@code true} if the backlog is excessive
+     */
+    private void transition(boolean excessiveBacklog) {
+        if (isExcessive.compareAndSet(!excessiveBacklog, excessiveBacklog)) {
+            listener.accept(excessiveBacklog ? Backlog.Type.EXCESSIVE : Backlog.Type.NORMAL);
+            long current = backlog.get();
+            if (excessiveBacklog && current <= normal) {
+                transition(false);
+            } else if (!excessiveBacklog && current >= excessive) {
+                transition(true);
+            }
+        }
+    }
+}
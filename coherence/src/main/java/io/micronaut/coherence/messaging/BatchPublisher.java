@@ -0,0 +1,165 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.messaging;
+
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.tangosol.net.topic.Publisher;
+
+/**
+ * <p>Publishes a batch of values to a topic as a single pipeline.</p>
+ * <p>Values are published as soon as there is room in a bounded window of outstanding
+ * {@link Publisher#publish(Object) publish} requests. The batch completes once every value
+ * has been published, or with the first error once the outstanding requests have completed.</p>
+ *
+ * @author Jonathan Knight
+ * @since 6.0
+ */
+class BatchPublisher {
+    /**
+     * The publisher to publish with.
+     */
+    private final Publisher<Object> publisher;
+
+    /**
+     * The values to publish.
+     */
+    private final Iterator<?> values;
+
+    /**
+     * The maximum number of outstanding publish requests.
+     */
+    private final int window;
+
+    /**
+     * Whether the publisher is flushed at the end of the batch.
+     */
+    private final boolean flush;
+
+    /**
+     * The future completed when the batch completes.
+     */
+    private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+    /**
+     * The number of outstanding publish requests.
+     */
+    private final AtomicInteger outstanding = new AtomicInteger();
+
+    /**
+     * The work-in-progress counter that serializes access to the values iterator.
+     */
+    private final AtomicInteger wip = new AtomicInteger();
+
+    /**
+     * Whether the batch has been completed.
+     */
+    private final AtomicBoolean completed = new AtomicBoolean();
+
+    /**
+     * The first publish error.
+     */
+    private final AtomicReference<Throwable> error = new AtomicReference<>();
+
+    /**
+     * Create a {@link BatchPublisher}.
+     *
+     * @param publisher  the publisher to publish with
+     * @param values     the values to publish
+     * @param window     the maximum number of outstanding publish requests
+     * @param flush      whether the publisher is flushed at the end of the batch
+     */
+    BatchPublisher(Publisher<Object> publisher, Iterator<?> values, int window, boolean flush) {
+        this.publisher = publisher;
+        this.values = values;
+        this.window = Math.max(1, window);
+        this.flush = flush;
+    }
+
+    /**
+     * Publish the batch.
+     *
+     * @return a future that completes when every value has been published
+     */
+    CompletableFuture<Void> publish() {
+        drain();
+        return done;
+    }
+
+    /**
+     * Publish values while there is room in the window, and complete the batch
+     * once there is nothing left to publish.
+     */
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        do {
+            boolean exhausted;
+            try {
+                while (error.get() == null && outstanding.get() < window && values.hasNext()) {
+                    // only count the request once publish has returned its future, so that a
+                    // value or publish call that throws does not leave the count stuck
+                    CompletableFuture<Publisher.Status> future = publisher.publish(values.next());
+                    outstanding.incrementAndGet();
+                    future.whenComplete((status, err) -> {
+                        if (err != null) {
+                            error.compareAndSet(null, err);
+                        }
+                        outstanding.decrementAndGet();
+                        drain();
+                    });
+                }
+                exhausted = error.get() != null || !values.hasNext();
+            } catch (Throwable t) {
+                // a values iterator that throws ends the batch, otherwise the batch would never complete
+                error.compareAndSet(null, t);
+                exhausted = true;
+            }
+            if (exhausted && outstanding.get() == 0 && completed.compareAndSet(false, true)) {
+                complete();
+            }
+        } while (wip.decrementAndGet() != 0);
+    }
+
+    /**
+     * Complete the batch, flushing the publisher first if required.
+     */
+    private void complete() {
+        Throwable t = error.get();
+        if (t != null) {
+            done.completeExceptionally(t);
+        } else if (flush) {
+            try {
+                publisher.flush().whenComplete((v, err) -> {
+                    if (err == null) {
+                        done.complete(null);
+                    } else {
+                        done.completeExceptionally(err);
+                    }
+                });
+            } catch (Throwable err) {
+                done.completeExceptionally(err);
+            }
+        } else {
+            done.complete(null);
+        }
+    }
+}
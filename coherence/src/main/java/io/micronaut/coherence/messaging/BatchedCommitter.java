@@ -0,0 +1,208 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.messaging;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.tangosol.net.topic.Position;
+import com.tangosol.net.topic.Subscriber;
+
+import io.micronaut.scheduling.TaskScheduler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>Coalesces commits for the {@link io.micronaut.coherence.annotation.CommitStrategy#BATCHED BATCHED}
+ * commit strategy.</p>
+ * <p>The highest processed position in each channel is tracked and committed once a
+ * configured number of elements have been processed, or a configured interval has passed,
+ * whichever comes first. Outstanding positions are also committed when channels are revoked
+ * from the subscriber and when the subscriber is closed.</p>
+ *
+ * @author Jonathan Knight
+ * @since 6.0
+ */
+class BatchedCommitter implements Subscriber.ChannelOwnershipListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BatchedCommitter.class);
+
+    /**
+     * The highest processed and not yet committed position for each channel.
+     */
+    private final Map<Integer, Position> pending = new ConcurrentHashMap<>();
+
+    /**
+     * The number of elements processed since the last commit.
+     */
+    private final AtomicInteger count = new AtomicInteger();
+
+    /**
+     * The number of processed elements that triggers a commit.
+     */
+    private final int batchSize;
+
+    /**
+     * The interval between periodic commits.
+     */
+    private final Duration interval;
+
+    /**
+     * The scheduler used to run periodic commits.
+     */
+    private final TaskScheduler taskScheduler;
+
+    /**
+     * The metrics to record commits in.
+     */
+    private final SubscriberMetrics metrics;
+
+    /**
+     * The subscriber to commit positions for.
+     */
+    private volatile Subscriber<?> subscriber;
+
+    /**
+     * The periodic commit task.
+     */
+    private volatile ScheduledFuture<?> periodicCommit;
+
+    /**
+     * Create a {@link BatchedCommitter}.
+     *
+     * @param batchSize      the number of processed elements that triggers a commit
+     * @param interval       the interval between periodic commits, a zero or negative interval
+     *                       disables periodic commits
+     * @param taskScheduler  the scheduler used to run periodic commits
+     * @param metrics        the metrics to record commits in
+     */
+    BatchedCommitter(int batchSize, Duration interval, TaskScheduler taskScheduler, SubscriberMetrics metrics) {
+        this.batchSize = Math.max(1, batchSize);
+        this.interval = interval;
+        this.taskScheduler = taskScheduler;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Start committing positions for a subscriber.
+     *
+     * @param subscriber  the subscriber to commit positions for
+     */
+    void start(Subscriber<?> subscriber) {
+        this.subscriber = subscriber;
+        if (interval != null && !interval.isNegative() && !interval.isZero()) {
+            periodicCommit = taskScheduler.scheduleAtFixedRate(interval, interval, this::flush);
+        }
+    }
+
+    /**
+     * Record that all elements up to and including a position in a channel have been processed.
+     *
+     * @param channel   the channel
+     * @param position  the processed position
+     */
+    void processed(int channel, Position position) {
+        pending.merge(channel, position, (a, b) -> a.compareTo(b) >= 0 ? a : b);
+        if (count.incrementAndGet() >= batchSize) {
+            flush();
+        }
+    }
+
+    /**
+     * Commit the highest processed position in every channel.
+     *
+     * @return a future that completes when the commits complete
+     */
+    CompletableFuture<Void> flush() {
+        count.set(0);
+        return commit(new ArrayList<>(pending.keySet()));
+    }
+
+    /**
+     * Stop periodic commits and commit any outstanding positions.
+     */
+    void close() {
+        ScheduledFuture<?> future = periodicCommit;
+        if (future != null) {
+            future.cancel(false);
+        }
+        try {
+            flush().get(1, TimeUnit.MINUTES);
+        } catch (Exception e) {
+            LOG.error("Error committing outstanding positions on close", e);
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public void onChannelsRevoked(Set<Integer> setRevoked) {
+        commit(setRevoked);
+    }
+
+    @Override
+    public void onChannelsLost(Set<Integer> setLost) {
+        // lost channels can no longer be committed by this subscriber
+        pending.keySet().removeAll(setLost);
+    }
+
+    /**
+     * Commit the highest processed position in the specified channels.
+     *
+     * @param channels  the channels to commit
+     *
+     * @return a future that completes when the commits complete
+     */
+    private CompletableFuture<Void> commit(Collection<Integer> channels) {
+        Subscriber<?> s = subscriber;
+        if (s == null || channels.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        boolean timed = metrics.isEnabled();
+        List<CompletableFuture<?>> futures = new ArrayList<>();
+        for (Integer channel : channels) {
+            Position position = pending.remove(channel);
+            if (position != null) {
+                long start = timed ? System.nanoTime() : 0L;
+                futures.add(s.commitAsync(channel, position).handle((result, error) -> {
+                    // With auto-commit strategies the developer has chosen to ignore commit failures, just log the error
+                    if (error != null) {
+                        LOG.error("Error committing element channel={} position={}", channel, position, error);
+                        metrics.commitFailed(channel);
+                    } else if (!result.isSuccess()) {
+                        LOG.error("Failed to commit element channel={} position={} status {}", channel, position, result);
+                        metrics.commitFailed(channel);
+                    } else if (timed) {
+                        metrics.committed(channel, System.nanoTime() - start);
+                    }
+                    return null;
+                }));
+            }
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+    }
+}
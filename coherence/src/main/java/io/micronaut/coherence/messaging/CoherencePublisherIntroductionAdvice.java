@@ -15,27 +15,25 @@
  */
 package io.micronaut.coherence.messaging;
 
-import com.tangosol.net.Coherence;
 import com.tangosol.net.Session;
+import com.tangosol.net.topic.NamedTopic;
 import com.tangosol.net.topic.Publisher;
 import io.micronaut.aop.InterceptedMethod;
 import io.micronaut.aop.MethodInterceptor;
 import io.micronaut.aop.MethodInvocationContext;
 import io.micronaut.coherence.annotation.CoherencePublisher;
-import io.micronaut.coherence.annotation.SessionName;
-import io.micronaut.coherence.annotation.Topic;
-import io.micronaut.coherence.annotation.Topics;
-import io.micronaut.coherence.annotation.Utils;
+import io.micronaut.coherence.annotation.PublishAck;
+import io.micronaut.context.ApplicationContext;
 import io.micronaut.context.BeanContext;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.async.publisher.Publishers;
-import io.micronaut.core.bind.annotation.Bindable;
 import io.micronaut.core.convert.ConversionService;
 import io.micronaut.core.type.Argument;
-import io.micronaut.core.type.ReturnType;
-import io.micronaut.core.util.StringUtils;
-import io.micronaut.messaging.annotation.MessageBody;
+import io.micronaut.inject.ExecutableMethod;
 import io.micronaut.messaging.exceptions.MessagingClientException;
+import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.scheduling.TaskScheduler;
+import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
@@ -43,12 +41,15 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.time.Duration;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * Implementation of the {@link io.micronaut.coherence.annotation.CoherencePublisher} advice annotation.
@@ -58,143 +59,139 @@ import java.util.concurrent.TimeUnit;
  */
 @Singleton
 public class CoherencePublisherIntroductionAdvice implements MethodInterceptor<Object, Object>, AutoCloseable {
+    /**
+     * The name of the property used to configure the maximum number of cached publishers
+     * for topic names that are passed as method arguments.
+     */
+    public static final String CACHE_MAX_SIZE_PROPERTY = "coherence.publisher.cache.max-size";
+
+    /**
+     * The name of the property used to configure the time after which an unused publisher
+     * for a topic name that is passed as a method argument is closed.
+     */
+    public static final String CACHE_TIME_TO_IDLE_PROPERTY = "coherence.publisher.cache.time-to-idle";
+
+    /**
+     * The name of the property used to configure the overall time allowed to flush and close
+     * every publisher when the application shuts down.
+     */
+    public static final String CLOSE_TIMEOUT_PROPERTY = "coherence.publisher.close-timeout";
+
     private static final Logger LOG = LoggerFactory.getLogger(CoherencePublisherIntroductionAdvice.class);
 
     private final BeanContext beanContext;
 
     private final ConversionService conversionService;
 
-    private final Map<TopicKey, Publisher<Object>> publisherMap = new ConcurrentHashMap<>();
+    private final PublisherCache publisherCache;
+
+    private final Duration closeTimeout;
+
+    private final Map<ExecutableMethod<?, ?>, PublishPlan> plans = new ConcurrentHashMap<>();
 
     /**
      * Creates the introduction advice for the given arguments.
      *
-     * @param beanContext       the Micronaut bean context
+     * @param context           the Micronaut application context
      * @param conversionService the conversion service
+     * @param taskScheduler     the scheduler used to evict idle publishers
      */
-    CoherencePublisherIntroductionAdvice(BeanContext beanContext, ConversionService conversionService) {
-        this.beanContext = beanContext;
+    CoherencePublisherIntroductionAdvice(ApplicationContext context, ConversionService conversionService,
+                                         @Named(TaskExecutors.SCHEDULED) TaskScheduler taskScheduler) {
+        this.beanContext = context;
         this.conversionService = conversionService;
+        this.publisherCache = new PublisherCache(this::createPublisher,
+                context.getProperty(CACHE_MAX_SIZE_PROPERTY, Integer.class).orElse(1000),
+                context.getProperty(CACHE_TIME_TO_IDLE_PROPERTY, Duration.class).orElse(Duration.ofMinutes(10)));
+        this.publisherCache.start(taskScheduler);
+        this.closeTimeout = context.getProperty(CLOSE_TIMEOUT_PROPERTY, Duration.class).orElse(Duration.ofMinutes(1));
     }
 
     @Override
     public Object intercept(MethodInvocationContext<Object, Object> context) {
         if (context.hasAnnotation(CoherencePublisher.class)) {
-            // Make sure the CoherencePublisher annotation is present
-            context.findAnnotation(CoherencePublisher.class)
-                    .orElseThrow(() -> new IllegalStateException("No @CoherencePublisher annotation present on method: " + context));
-
-            String topicName = Utils.getFirstTopicName(context).orElse(null);
-            String sessionName = context.stringValue(SessionName.class).orElse(Coherence.DEFAULT_NAME);
-
-            Duration maxBlock = context.getValue(CoherencePublisher.class, "maxBlock", Duration.class)
-                    .orElse(null);
-
-            Argument<?> bodyArgument = null;
-            Argument<?>[] arguments = context.getArguments();
+            PublishPlan plan = getPlan(context);
             Object[] parameterValues = context.getParameterValues();
-            int valueIndex = -1;
-
-            for (int i = 0; i < arguments.length; i++) {
-                Argument<?> argument = arguments[i];
-                if (argument.isAnnotationPresent(MessageBody.class)) {
-                    bodyArgument = argument;
-                    valueIndex = i;
-                } else if (argument.isAnnotationPresent(Topics.class) || argument.isAnnotationPresent(Topic.class)) {
-                    Object o = parameterValues[i];
-                    if (o != null) {
-                        topicName = o.toString();
-                    }
-                }
+            Object value = plan.body(parameterValues);
+            if (plan.isBatch()) {
+                return publishBatch(context, plan, parameterValues, value);
             }
-
-            if (StringUtils.isEmpty(topicName)) {
-                throw new MessagingClientException("No topic specified for method: " + context);
+            if (plan.ack() != PublishAck.PER_MESSAGE
+                    && (value == null || !Publishers.isConvertibleToPublisher(value.getClass()))) {
+                return publishUnacknowledged(context, plan, parameterValues, value);
             }
+            Duration maxBlock = plan.maxBlock();
+            Class<?> javaReturnType = plan.javaReturnType();
 
-            if (bodyArgument == null) {
-                for (int i = 0; i < arguments.length; i++) {
-                    Argument<?> argument = arguments[i];
-                    if (!argument.getAnnotationMetadata().hasStereotype(Bindable.class)) {
-                        bodyArgument = argument;
-                        valueIndex = i;
-                        break;
-                    }
-                }
-            }
-
-            if (bodyArgument == null) {
-                throw new MessagingClientException("No valid message body argument found for method: " + context);
-            }
-
-            Object value = parameterValues[valueIndex];
-
-            ReturnType<Object> returnType = context.getReturnType();
-            Class<?> javaReturnType = returnType.getType();
-            Publisher<Object> publisher = getPublisher(topicName, sessionName);
-
-            boolean isReactiveReturnType = Publishers.isConvertibleToPublisher(javaReturnType);
+            boolean isReactiveReturnType = plan.isReactiveReturnType();
             boolean isReactiveValue = value != null && Publishers.isConvertibleToPublisher(value.getClass());
 
             InterceptedMethod interceptedMethod = InterceptedMethod.of(context, conversionService);
             if (isReactiveReturnType) {
-                // return type is a reactive type
-                Flux<?> flux = buildSendFlux(context, publisher, Argument.OBJECT_ARGUMENT, maxBlock, value);
+                // return type is a reactive type, the publishers are acquired on subscription
+                Flux<?> flux = Flux.using(() -> plan.acquirePublishers(parameterValues, publisherCache),
+                        pool -> buildSendFlux(context, pool.select(), Argument.OBJECT_ARGUMENT, maxBlock, value),
+                        PublisherPool::release);
                 return Publishers.convertPublisher(conversionService, flux, javaReturnType);
             } else {
-                // return type is a future - must be future of Void
-                Argument<?> returnArg = returnType.getFirstTypeVariable().orElse(Argument.of(Void.class));
-                if (returnArg.getType() != Void.class) {
-                    throw new MessagingClientException("Generic return type for method must be Void, i.e. CompletableFuture<Void> - " + context);
-                }
+                // return type is a future of Void, validated when the plan was created
+                Argument<?> returnArg = plan.returnArgument();
                 CompletableFuture<Void> completableFuture = new CompletableFuture<>();
-
-                if (isReactiveValue) {
-                    // return type is a future and value is reactive
-                    Flux<?> sendFlux = buildSendFlux(
-                            context,
-                            publisher,
-                            returnArg,
-                            maxBlock,
-                            value
-                    );
-
-                    if (!Publishers.isSingle(value.getClass())) {
-                        sendFlux = sendFlux.collectList().flux();
-                    }
-
-                    //noinspection ReactiveStreamsSubscriberImplementation
-                    sendFlux.subscribe(new Subscriber<Object>() {
-                        @Override
-                        public void onSubscribe(Subscription s) {
-                            s.request(1);
-                        }
-
-                        @Override
-                        public void onNext(Object o) {
-                        }
-
-                        @Override
-                        public void onError(Throwable t) {
-                            completableFuture.completeExceptionally(wrapException(context, t));
+                PublisherPool pool = plan.acquirePublishers(parameterValues, publisherCache);
+                Publisher<Object> publisher = pool.select();
+
+                try {
+                    if (isReactiveValue) {
+                        // return type is a future and value is reactive
+                        Flux<?> sendFlux = buildSendFlux(
+                                context,
+                                publisher,
+                                returnArg,
+                                maxBlock,
+                                value
+                        );
+
+                        if (!Publishers.isSingle(value.getClass())) {
+                            sendFlux = sendFlux.collectList().flux();
                         }
 
-                        @Override
-                        public void onComplete() {
-                            completableFuture.complete(null);
-                        }
-                    });
-                } else {
-                    // return type is a future and value is single message
-                    publisher.publish(value).handle((status, exception) -> {
-                        if (exception != null) {
-                            completableFuture.completeExceptionally(wrapException(context, exception));
-                        } else {
-                            completableFuture.complete(null);
-                        }
-                        return null;
-                    });
+                        //noinspection ReactiveStreamsSubscriberImplementation
+                        sendFlux.subscribe(new Subscriber<Object>() {
+                            @Override
+                            public void onSubscribe(Subscription s) {
+                                s.request(1);
+                            }
+
+                            @Override
+                            public void onNext(Object o) {
+                            }
+
+                            @Override
+                            public void onError(Throwable t) {
+                                completableFuture.completeExceptionally(wrapException(context, t));
+                            }
+
+                            @Override
+                            public void onComplete() {
+                                completableFuture.complete(null);
+                            }
+                        });
+                    } else {
+                        // return type is a future and value is single message
+                        publisher.publish(value).handle((status, exception) -> {
+                            if (exception != null) {
+                                completableFuture.completeExceptionally(wrapException(context, exception));
+                            } else {
+                                completableFuture.complete(null);
+                            }
+                            return null;
+                        });
+                    }
+                } catch (RuntimeException e) {
+                    pool.release();
+                    throw e;
                 }
+                completableFuture.whenComplete((v, err) -> pool.release());
 
                 return interceptedMethod.handleResult(completableFuture);
             }
@@ -206,37 +203,217 @@ public class CoherencePublisherIntroductionAdvice implements MethodInterceptor<O
 
     @Override
     public void close() {
-        for (Map.Entry<TopicKey, Publisher<Object>> entry : publisherMap.entrySet()) {
-            Publisher<Object> publisher = entry.getValue();
+        publisherCache.close(closeTimeout);
+    }
+
+    /**
+     * Returns the number of publisher lookups that found a cached publisher.
+     *
+     * @return the number of publisher lookups that found a cached publisher
+     */
+    public long getPublisherCacheHits() {
+        return publisherCache.getHits();
+    }
+
+    /**
+     * Returns the number of publisher lookups that created a new publisher.
+     *
+     * @return the number of publisher lookups that created a new publisher
+     */
+    public long getPublisherCacheMisses() {
+        return publisherCache.getMisses();
+    }
+
+    /**
+     * Returns the number of idle or least recently used publishers that have been evicted and closed.
+     *
+     * @return the number of evicted publishers
+     */
+    public long getPublisherCacheEvictions() {
+        return publisherCache.getEvictions();
+    }
+
+    /**
+     * Returns the number of cached publishers, counting each pool of publishers once.
+     *
+     * @return the number of cached publishers
+     */
+    public int getPublisherCacheSize() {
+        return publisherCache.size();
+    }
+
+    /**
+     * Returns the {@link PublishPlan} for a method, creating it on first use.
+     *
+     * @param context  the method invocation context
+     *
+     * @return the {@link PublishPlan} for the method
+     */
+    private PublishPlan getPlan(MethodInvocationContext<Object, Object> context) {
+        ExecutableMethod<Object, Object> method = context.getExecutableMethod();
+        PublishPlan plan = plans.get(method);
+        if (plan == null) {
+            plan = plans.computeIfAbsent(method, PublishPlan::new);
+        }
+        return plan;
+    }
+
+    @NonNull
+    private PublisherPool createPublisher(TopicKey key) {
+        Session session = beanContext.createBean(Session.class, key.getSessionName());
+        NamedTopic<Object> topic = session.getTopic(key.getTopicName());
+        return new PublisherPool(key.getPoolSize(), () -> topic.createPublisher(orderBy(key)));
+    }
+
+    /**
+     * Returns the {@link Publisher.OrderBy} option for a publisher.
+     *
+     * @param key  the publisher's {@link TopicKey}
+     *
+     * @return the {@link Publisher.OrderBy} option for the publisher
+     */
+    private static Publisher.OrderBy<Object> orderBy(TopicKey key) {
+        return switch (key.getOrdering()) {
+            case NONE -> Publisher.OrderBy.none();
+            case ROUND_ROBIN -> Publisher.OrderBy.roundRobin();
+            case ID -> Publisher.OrderBy.id(key.getOrderId());
+            default -> Publisher.OrderBy.thread();
+        };
+    }
+
+    /**
+     * Publish a message without waiting for it to be acknowledged, within the method's window
+     * of in-flight messages.
+     * <p>A reactive result never blocks the subscribing thread, which may be an event loop. If the
+     * window is full, the result waits for a place on the bounded elastic scheduler instead. A
+     * {@link CompletionStage} result that cannot publish, for example because the window is still
+     * full after the maximum blocking time, completes exceptionally rather than throwing.</p>
+     *
+     * @param context          the method invocation context
+     * @param plan             the method's {@link PublishPlan}
+     * @param parameterValues  the parameter values
+     * @param value            the message body
+     *
+     * @return the method result
+     */
+    private Object publishUnacknowledged(MethodInvocationContext<Object, Object> context, PublishPlan plan,
+                                         Object[] parameterValues, Object value) {
+        // publishes the message, having already acquired a place in the window
+        Supplier<CompletableFuture<Void>> send = () -> {
+            PublisherPool pool;
             try {
-                publisher.flush().get(1, TimeUnit.MINUTES);
-            } catch (Exception e) {
-                LOG.error("Error flushing publisher", e);
-                if (e instanceof InterruptedException) {
-                    //noinspection ResultOfMethodCallIgnored
-                    Thread.interrupted();
-                }
+                pool = plan.acquirePublishers(parameterValues, publisherCache);
+            } catch (RuntimeException e) {
+                plan.release();
+                throw e;
             }
-
+            Publisher<Object> publisher = pool.select();
+            CompletableFuture<Publisher.Status> future;
             try {
-                publisher.close();
-            } catch (Exception e) {
-                LOG.error("Error closing publisher", e);
+                future = publisher.publish(value);
+            } catch (RuntimeException e) {
+                plan.release();
+                pool.release();
+                throw wrapException(context, e);
             }
+            future.whenComplete((status, err) -> {
+                plan.release();
+                if (err != null) {
+                    handlePublishError(context, plan, value, err);
+                }
+            });
+            CompletableFuture<Void> result = plan.ack() == PublishAck.FLUSH
+                    ? pool.sharedFlush(publisher)
+                    : CompletableFuture.completedFuture(null);
+            CompletableFuture.allOf(future, result).whenComplete((v, err) -> pool.release());
+            return result;
+        };
+
+        if (plan.isReactiveReturnType()) {
+            Mono<Void> mono = Mono.defer(() -> plan.tryAcquire()
+                    ? Mono.fromFuture(send)
+                    : Mono.fromFuture(() -> {
+                        plan.acquire();
+                        return send.get();
+                    }).subscribeOn(Schedulers.boundedElastic()));
+            return Publishers.convertPublisher(conversionService, mono, plan.javaReturnType());
         }
+
+        CompletableFuture<Void> result;
+        try {
+            plan.acquire();
+            result = send.get();
+        } catch (RuntimeException e) {
+            if (!CompletionStage.class.isAssignableFrom(plan.javaReturnType())) {
+                throw e;
+            }
+            result = CompletableFuture.failedFuture(e);
+        }
+        return InterceptedMethod.of(context, conversionService).handleResult(result);
     }
 
-    @NonNull
-    private Publisher<Object> getPublisher(String topicName, String sessionName) {
-        TopicKey key = new TopicKey(topicName, sessionName);
+    /**
+     * Pass an error publishing a message that the caller is not waiting for to the
+     * method's {@link PublishErrorHandler}, or log it if the method has no handler.
+     *
+     * @param context  the method invocation context
+     * @param plan     the {@link PublishPlan} for the method
+     * @param value    the message that failed to publish
+     * @param error    the error
+     */
+    private void handlePublishError(MethodInvocationContext<Object, Object> context, PublishPlan plan,
+                                    Object value, Throwable error) {
+        MessagingClientException exception = wrapException(context, error);
+        try {
+            PublishErrorHandler handler = plan.errorHandler(beanContext);
+            if (handler == null) {
+                LOG.error(exception.getMessage(), error);
+            } else {
+                handler.handle(exception, value);
+            }
+        } catch (Throwable t) {
+            LOG.error("Error handling failure to publish message for method [" + context + "]", t);
+        }
+    }
 
-        return publisherMap.compute(key, (k, publisher) -> {
-            if (publisher != null) {
-                return publisher;
+    /**
+     * Publish every message in a batch message body as a single pipelined batch.
+     *
+     * @param context          the method invocation context
+     * @param plan             the method's {@link PublishPlan}
+     * @param parameterValues  the parameter values
+     * @param value            the batch message body
+     *
+     * @return the method result
+     */
+    private Object publishBatch(MethodInvocationContext<Object, Object> context, PublishPlan plan,
+                                Object[] parameterValues, Object value) {
+        Supplier<CompletableFuture<Void>> batch = () -> {
+            CompletableFuture<Void> result = new CompletableFuture<>();
+            PublisherPool pool = plan.acquirePublishers(parameterValues, publisherCache);
+            CompletableFuture<Void> published;
+            try {
+                published = new BatchPublisher(pool.select(), plan.batchValues(value), plan.batchWindow(),
+                        plan.isFlushBatch()).publish();
+            } catch (RuntimeException e) {
+                pool.release();
+                throw e;
             }
-            Session session = beanContext.createBean(Session.class, sessionName);
-            return session.getTopic(topicName).createPublisher();
-        });
+            published.whenComplete((v, err) -> {
+                pool.release();
+                if (err == null) {
+                    result.complete(null);
+                } else {
+                    result.completeExceptionally(wrapException(context, err));
+                }
+            });
+            return result;
+        };
+
+        if (plan.isReactiveReturnType()) {
+            return Publishers.convertPublisher(conversionService, Mono.fromFuture(batch), plan.javaReturnType());
+        }
+        return InterceptedMethod.of(context, conversionService).handleResult(batch.get());
     }
 
     private Flux<Object> buildSendFlux(
@@ -16,52 +16,53 @@
 package io.micronaut.coherence.messaging;
 
 import java.lang.annotation.Annotation;
+import java.time.Duration;
 import java.util.*;
-import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
-import java.util.function.Function;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import io.micronaut.coherence.annotation.*;
 
 import com.tangosol.net.Coherence;
 import com.tangosol.net.Session;
+import com.tangosol.net.WithClassLoader;
 import com.tangosol.net.events.CoherenceLifecycleEvent;
 import com.tangosol.net.topic.NamedTopic;
 import com.tangosol.net.topic.Publisher;
 import com.tangosol.net.topic.Subscriber;
+import com.tangosol.util.Binary;
 import com.tangosol.util.Filter;
 
 import com.tangosol.util.ValueExtractor;
 import io.micronaut.coherence.ExtractorFactories;
 import io.micronaut.coherence.FilterFactories;
 import io.micronaut.coherence.messaging.binders.ElementArgumentBinderRegistry;
-import io.micronaut.coherence.messaging.exceptions.CoherenceSubscriberException;
 import io.micronaut.context.ApplicationContext;
 import io.micronaut.context.processor.ExecutableMethodProcessor;
-import io.micronaut.core.annotation.Blocking;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.async.publisher.Publishers;
-import io.micronaut.core.bind.BoundExecutable;
-import io.micronaut.core.bind.DefaultExecutableBinder;
-import io.micronaut.core.bind.ExecutableBinder;
 import io.micronaut.core.convert.ConversionService;
 import io.micronaut.core.type.Argument;
-import io.micronaut.core.util.ArrayUtils;
 import io.micronaut.inject.BeanDefinition;
 import io.micronaut.inject.ExecutableMethod;
+import io.micronaut.inject.qualifiers.Qualifiers;
 
 import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.scheduling.TaskScheduler;
 import jakarta.annotation.PreDestroy;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import reactor.core.publisher.Flux;
-import reactor.core.publisher.FluxSink;
-import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
 /**
@@ -79,9 +80,26 @@ import reactor.core.scheduler.Schedulers;
 class CoherenceTopicListenerProcessor
         implements ExecutableMethodProcessor<CoherenceTopicListener>, Coherence.LifecycleListener, AutoCloseable {
 
-    private static final Logger LOG = LoggerFactory.getLogger(CoherenceTopicListenerProcessor.class);
+    /**
+     * The name of the property used to configure the default {@link ExecutionMode}
+     * of topic listener methods.
+     */
+    public static final String EXECUTION_MODE_PROPERTY = "coherence.topic-listener.execution-mode";
+
+    /**
+     * The name of the property used to configure the maximum number of listener methods
+     * whose subscribers are created in parallel when Coherence starts.
+     */
+    public static final String STARTUP_PARALLELISM_PROPERTY = "coherence.topic-listener.startup-parallelism";
 
-    private static final Void VOID = null;
+    /**
+     * The name of the property used to configure the overall time allowed to flush and close
+     * every subscriber and {@link io.micronaut.messaging.annotation.SendTo} publisher when the
+     * application shuts down.
+     */
+    public static final String CLOSE_TIMEOUT_PROPERTY = "coherence.topic-listener.close-timeout";
+
+    private static final Logger LOG = LoggerFactory.getLogger(CoherenceTopicListenerProcessor.class);
 
     /**
      * The Micronaut bean context.
@@ -106,7 +124,23 @@ class CoherenceTopicListenerProcessor
     /**
      * The list of subscribers created.
      */
-    private final List<TopicSubscriber<?, ?, ?>> subscribers = new ArrayList<>();
+    private final List<TopicSubscriber<?, ?, ?>> subscribers = new CopyOnWriteArrayList<>();
+
+    /**
+     * The autoscalers for listener methods that scale their number of instances.
+     */
+    private final List<SubscriberAutoscaler> autoscalers = new CopyOnWriteArrayList<>();
+
+    /**
+     * The {@link io.micronaut.messaging.annotation.SendTo} and dead letter topic publishers
+     * created, with the names of their topics.
+     */
+    private final List<Map.Entry<String, Publisher<?>>> publishers = new CopyOnWriteArrayList<>();
+
+    /**
+     * A future that completes when the subscribers for all the discovered methods have been created.
+     */
+    private final CompletableFuture<Void> ready = new CompletableFuture<>();
 
     /**
      * The argument binder registry to use to bind method arguments.
@@ -114,14 +148,41 @@ class CoherenceTopicListenerProcessor
     private final ElementArgumentBinderRegistry registry;
 
     /**
-     * The scheduler service.
+     * The scheduler used to run periodic tasks, such as batched commits.
      */
-    private final Scheduler scheduler;
+    private final TaskScheduler taskScheduler;
 
     /**
-     * A flag indicating whether all the discovered subscriber methods have been subscribed.
+     * The factory used to create the metrics for each subscriber, or {@code null} if
+     * no metrics are recorded.
      */
-    private volatile boolean subscribed;
+    private final SubscriberMetricsFactory metricsFactory;
+
+    /**
+     * The execution metrics for listener methods.
+     */
+    private final ListenerExecutionMetrics metrics;
+
+    /**
+     * {@code true} if listener invocations are recorded in the {@link #metrics}.
+     */
+    private final boolean metricsEnabled;
+
+    /**
+     * The default {@link ExecutionMode} for listener methods.
+     */
+    private final ExecutionMode defaultExecutionMode;
+
+    /**
+     * The pooled execution settings shared by listeners using {@link ExecutionMode#POOLED}.
+     */
+    private final ListenerExecutor pooledExecutor;
+
+    /**
+     * The virtual thread execution settings shared by listeners using {@link ExecutionMode#VIRTUAL},
+     * created on first use.
+     */
+    private ListenerExecutor virtualExecutor;
 
     /**
      * The {@link ConversionService}.
@@ -138,6 +199,9 @@ class CoherenceTopicListenerProcessor
      * @param extractorFactories  the extractor factory to use to produce
      *                            {@link com.tangosol.util.ValueExtractor ValueExtractors}
      * @param conversionService   the {@link ConversionService}
+     * @param taskScheduler       the scheduler used to run periodic tasks
+     * @param metrics             the execution metrics for listener methods
+     * @param metricsFactory      the optional factory used to create subscriber metrics
      */
     @Inject
     public CoherenceTopicListenerProcessor(@Named(TaskExecutors.MESSAGE_CONSUMER) ExecutorService executorService,
@@ -145,13 +209,30 @@ class CoherenceTopicListenerProcessor
                                            ApplicationContext context,
                                            FilterFactories filterFactories,
                                            ExtractorFactories extractorFactories,
-                                           ConversionService conversionService) {
-        this.scheduler = Schedulers.fromExecutor(executorService);
+                                           ConversionService conversionService,
+                                           @Named(TaskExecutors.SCHEDULED) TaskScheduler taskScheduler,
+                                           ListenerExecutionMetrics metrics,
+                                           @Nullable SubscriberMetricsFactory metricsFactory) {
         this.context = context;
         this.filterFactories = filterFactories;
         this.extractorFactories = extractorFactories;
         this.registry = registry;
         this.conversionService = conversionService;
+        this.taskScheduler = taskScheduler;
+        this.metrics = metrics;
+        this.metricsFactory = metricsFactory;
+        this.defaultExecutionMode = context.getProperty(EXECUTION_MODE_PROPERTY, ExecutionMode.class)
+                .filter(mode -> mode != ExecutionMode.DEFAULT)
+                .orElse(ExecutionMode.POOLED);
+
+        this.metricsEnabled = context.getProperty(ListenerExecutionMetrics.ENABLED_PROPERTY, Boolean.class).orElse(false);
+
+        ListenerExecutionMetrics.Metrics pooledMetrics = metricsEnabled ? metrics.forMode(ExecutionMode.POOLED) : null;
+        if (pooledMetrics != null && executorService instanceof ThreadPoolExecutor pool) {
+            pooledMetrics.setThreadCount(pool::getMaximumPoolSize);
+        }
+        this.pooledExecutor = new ListenerExecutor(ExecutionMode.POOLED, executorService,
+                Schedulers.fromExecutor(executorService), pooledMetrics, metricsEnabled ? metrics.getInline() : null);
     }
 
     @Override
@@ -170,8 +251,29 @@ class CoherenceTopicListenerProcessor
     @PreDestroy
     @Override
     public void close() {
-        subscribers.forEach(TopicSubscriber::close);
+        autoscalers.forEach(SubscriberAutoscaler::close);
+        autoscalers.clear();
+
+        Duration timeout = context.getProperty(CLOSE_TIMEOUT_PROPERTY, Duration.class).orElse(Duration.ofMinutes(1));
+        long deadline = System.nanoTime() + timeout.toNanos();
+
+        // close the subscribers first, so that no more results are forwarded to the publishers
+        ParallelShutdown subscriberShutdown = new ParallelShutdown("subscriber");
+        for (TopicSubscriber<?, ?, ?> subscriber : subscribers) {
+            subscriberShutdown.add(subscriber.getTopicName(), subscriber::flush, subscriber::close);
+        }
         subscribers.clear();
+        subscriberShutdown.run(timeout);
+
+        ParallelShutdown publisherShutdown = new ParallelShutdown("publisher");
+        for (Map.Entry<String, Publisher<?>> entry : publishers) {
+            Publisher<?> publisher = entry.getValue();
+            publisherShutdown.add(entry.getKey(),
+                    () -> publisher.isActive() ? publisher.flush() : CompletableFuture.completedFuture(null),
+                    publisher::close);
+        }
+        publishers.clear();
+        publisherShutdown.run(Duration.ofNanos(Math.max(0L, deadline - System.nanoTime())));
     }
 
     /**
@@ -180,425 +282,336 @@ class CoherenceTopicListenerProcessor
      * @return {@code true} if all subscriber methods have been subscribed
      */
     public boolean isSubscribed() {
-        return subscribed;
+        return ready.isDone() && !ready.isCompletedExceptionally();
     }
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
-    void createSubscribers(Coherence coherence) {
-        for (MethodHolder holder : methods) {
-            List<Subscriber.Option> options = new ArrayList<>();
-            ExecutableMethod<?, ?> method = holder.getMethod();
+    /**
+     * Returns a future that completes when the subscribers for all the discovered
+     * subscriber methods have been created and started, or completes exceptionally
+     * if any subscriber could not be created.
+     *
+     * @return a future that completes when all subscriber methods have been subscribed
+     */
+    public CompletableFuture<Void> whenSubscribed() {
+        return ready;
+    }
 
-            String topicName = Utils.getFirstTopicName(method)
-                    .orElse(method.getMethodName());
+    /**
+     * Returns the number of subscribers that have been created.
+     *
+     * @return the number of subscribers that have been created
+     */
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
 
-            String  sessionName = method.stringValue(SessionName.class).orElse(Coherence.DEFAULT_NAME);
-            if (!coherence.hasSession(sessionName)) {
-                LOG.info("Skipping @CoherenceTopicListener annotated method subscription {} Session {} does not exist on Coherence instance {}", method, sessionName, coherence.getName());
-                return;
+    /**
+     * Returns the number of created subscribers that are still active.
+     *
+     * @return the number of created subscribers that are still active
+     */
+    public int getActiveSubscriberCount() {
+        int count = 0;
+        for (TopicSubscriber<?, ?, ?> subscriber : subscribers) {
+            if (subscriber.isActive()) {
+                count++;
             }
+        }
+        return count;
+    }
 
-            Session session = coherence.getSession(sessionName);
-
-            Publisher[] sendToPublishers;
-            String[] sendToTopics = Utils.getSendToTopicNames(method);
-            if (sendToTopics.length > 0) {
-                if (method.getReturnType().isVoid()) {
-                    LOG.info("Skipping @SendTo annotations for @CoherenceTopicListener annotated method {} - method return type is void", method);
-                    sendToPublishers = new Publisher[0];
-                } else {
-                    sendToPublishers = new Publisher[sendToTopics.length];
-                    for (int i = 0; i < sendToTopics.length; i++) {
-                        NamedTopic<?> topic = session.getTopic(sendToTopics[i]);
-                        sendToPublishers[i] = topic.createPublisher();
+    /**
+     * <p>Create the subscribers for all the discovered subscriber methods.</p>
+     * <p>Subscribers are created in parallel, for up to the configured
+     * {@link #STARTUP_PARALLELISM_PROPERTY startup parallelism} methods at a time,
+     * so that creation does not hold up the Coherence lifecycle event thread.</p>
+     *
+     * @param coherence  the started {@link Coherence} instance
+     */
+    void createSubscribers(Coherence coherence) {
+        Queue<MethodHolder> queue = new ConcurrentLinkedQueue<>(methods);
+        int parallelism = Math.min(queue.size(), context.getProperty(STARTUP_PARALLELISM_PROPERTY, Integer.class)
+                .orElse(Math.min(8, Runtime.getRuntime().availableProcessors())));
+
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        CompletableFuture<?>[] workers = new CompletableFuture[Math.max(1, parallelism)];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = CompletableFuture.runAsync(() -> {
+                MethodHolder holder;
+                while ((holder = queue.poll()) != null) {
+                    try {
+                        createSubscribers(coherence, holder);
+                    } catch (Throwable t) {
+                        LOG.error("Failed to create subscriber for @CoherenceTopicListener annotated method {}", holder.getMethod(), t);
+                        failure.compareAndSet(null, t);
                     }
                 }
+            }, pooledExecutor.executor());
+        }
+
+        CompletableFuture.allOf(workers).whenComplete((v, err) -> {
+            Throwable error = err == null ? failure.get() : err;
+            if (error == null) {
+                ready.complete(null);
             } else {
-                sendToPublishers = new Publisher[0];
+                ready.completeExceptionally(error);
             }
+        });
+    }
 
-            method.stringValue(SubscriberGroup.class).ifPresent(name -> options.add(Subscriber.Name.of(name)));
+    /**
+     * Create the subscribers for a subscriber method.
+     *
+     * @param coherence  the started {@link Coherence} instance
+     * @param holder     the subscriber method
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void createSubscribers(Coherence coherence, MethodHolder holder) {
+        List<Subscriber.Option> options = new ArrayList<>();
+        ExecutableMethod<?, ?> method = holder.getMethod();
 
-            List<String> filterBindings = method.getAnnotationNamesByStereotype(FilterBinding.class);
-            if (!filterBindings.isEmpty()) {
-                Set<Annotation> annotations = filterBindings.stream()
-                        .map(s -> method.getAnnotationType(s).orElse(null))
-                        .filter(Objects::nonNull)
-                        .map(method::synthesize)
-                        .collect(Collectors.toSet());
+        String topicName = Utils.getFirstTopicName(method)
+                .orElse(method.getMethodName());
 
-                Filter filter = filterFactories.resolve(annotations);
-                if (filter != null) {
-                    options.add(Subscriber.Filtered.by(filter));
+        String  sessionName = method.stringValue(SessionName.class).orElse(Coherence.DEFAULT_NAME);
+        if (!coherence.hasSession(sessionName)) {
+            LOG.info("Skipping @CoherenceTopicListener annotated method subscription {} Session {} does not exist on Coherence instance {}", method, sessionName, coherence.getName());
+            return;
+        }
+
+        Session session = coherence.getSession(sessionName);
+
+        Publisher[] sendToPublishers;
+        String[] sendToTopics = Utils.getSendToTopicNames(method);
+        boolean forward = method.booleanValue(CoherenceTopicListener.class, "forward").orElse(false);
+        if (sendToTopics.length > 0) {
+            if (method.getReturnType().isVoid() && !forward) {
+                LOG.info("Skipping @SendTo annotations for @CoherenceTopicListener annotated method {} - method return type is void", method);
+                sendToPublishers = new Publisher[0];
+            } else {
+                // binary results are published as already serialized values
+                NamedTopic.Option[] topicOptions = forward || isBinaryResult(method)
+                        ? new NamedTopic.Option[] {WithClassLoader.nullImplementation()}
+                        : new NamedTopic.Option[0];
+                sendToPublishers = new Publisher[sendToTopics.length];
+                for (int i = 0; i < sendToTopics.length; i++) {
+                    NamedTopic<?> topic = session.getTopic(sendToTopics[i], topicOptions);
+                    sendToPublishers[i] = topic.createPublisher();
+                    publishers.add(Map.entry(sendToTopics[i], sendToPublishers[i]));
                 }
             }
+        } else {
+            sendToPublishers = new Publisher[0];
+        }
 
-            List<String> extractorBindings = method.getAnnotationNamesByStereotype(ExtractorBinding.class);
-            if (!extractorBindings.isEmpty()) {
-                Set<Annotation> annotations = extractorBindings.stream()
-                        .map(s -> method.getAnnotationType(s).orElse(null))
-                        .filter(Objects::nonNull)
-                        .map(method::synthesize)
-                        .collect(Collectors.toSet());
-
-                ValueExtractor extractor = extractorFactories.resolve(annotations);
-                if (extractor != null) {
-                    options.add(Subscriber.Convert.using(extractor));
-                }
+        method.stringValue(SubscriberGroup.class).ifPresent(name -> options.add(Subscriber.Name.of(name)));
+
+        List<String> filterBindings = method.getAnnotationNamesByStereotype(FilterBinding.class);
+        if (!filterBindings.isEmpty()) {
+            Set<Annotation> annotations = filterBindings.stream()
+                    .map(s -> method.getAnnotationType(s).orElse(null))
+                    .filter(Objects::nonNull)
+                    .map(method::synthesize)
+                    .collect(Collectors.toSet());
+
+            Filter filter = filterFactories.resolve(annotations);
+            if (filter != null) {
+                options.add(Subscriber.Filtered.by(filter));
+            }
+        }
+
+        List<String> extractorBindings = method.getAnnotationNamesByStereotype(ExtractorBinding.class);
+        if (!extractorBindings.isEmpty()) {
+            Set<Annotation> annotations = extractorBindings.stream()
+                    .map(s -> method.getAnnotationType(s).orElse(null))
+                    .filter(Objects::nonNull)
+                    .map(method::synthesize)
+                    .collect(Collectors.toSet());
+
+            ValueExtractor extractor = extractorFactories.resolve(annotations);
+            if (extractor != null) {
+                options.add(Subscriber.Convert.using(extractor));
             }
+        }
 
-            BeanDefinition<?> beanDefinition = holder.getBeanDefinition();
-            Class<?> clsBeanType = beanDefinition.getBeanType();
-            Object bean = context.getBean(clsBeanType);
+        CommitStrategy commitStrategy = method.getValue(CoherenceTopicListener.class, "commitStrategy", CommitStrategy.class)
+                .orElse(CommitStrategy.SYNC);
+
+        ExecutionMode executionMode = method.getValue(CoherenceTopicListener.class, "executionMode", ExecutionMode.class)
+                .filter(mode -> mode != ExecutionMode.DEFAULT)
+                .orElse(defaultExecutionMode);
+        ListenerExecutor listenerExecutor = executionMode == ExecutionMode.VIRTUAL
+                ? getVirtualExecutor()
+                : pooledExecutor;
+
+        BeanDefinition<?> beanDefinition = holder.getBeanDefinition();
+        Class<?> clsBeanType = beanDefinition.getBeanType();
+        Object bean = context.getBean(clsBeanType);
+
+        NamedTopic<?> topic = session.getTopic(topicName);
+        RetryPolicy retryPolicy = createRetryPolicy(session, method);
+        ElementBindingPlan bindingPlan = new ElementBindingPlan(method, registry, conversionService);
+
+        int instances = Math.max(1, method.intValue(CoherenceTopicListener.class, "instances").orElse(1));
+        int maxInstances = method.intValue(CoherenceTopicListener.class, "maxInstances").orElse(0);
+        if ((instances > 1 || maxInstances > instances) && !method.hasAnnotation(SubscriberGroup.class)) {
+            LOG.warn("Ignoring instances={} maxInstances={} for @CoherenceTopicListener annotated method {} - multiple instances require a @SubscriberGroup",
+                    instances, maxInstances, method);
+            instances = 1;
+            maxInstances = 0;
+        }
 
-            NamedTopic<?> topic = session.getTopic(topicName);
+        AtomicInteger instanceIds = new AtomicInteger();
+        Supplier<TopicSubscriber<?, ?, ?>> factory = () -> {
+            List<Subscriber.Option> instanceOptions = new ArrayList<>(options);
+            SubscriberMetrics subscriberMetrics = metricsFactory == null
+                    ? SubscriberMetrics.NONE
+                    : metricsFactory.create(topicName, method.stringValue(SubscriberGroup.class).orElse(null), method,
+                            instanceIds.getAndIncrement());
+
+            BatchedCommitter committer = null;
+            if (commitStrategy == CommitStrategy.BATCHED) {
+                int commitBatchSize = method.intValue(CoherenceTopicListener.class, "commitBatchSize").orElse(100);
+                Duration commitInterval = method.getValue(CoherenceTopicListener.class, "commitInterval", Duration.class)
+                        .orElse(Duration.ofSeconds(1));
+                committer = new BatchedCommitter(commitBatchSize, commitInterval, taskScheduler, subscriberMetrics);
+                instanceOptions.add(Subscriber.ChannelOwnershipListeners.withListener(committer));
+            }
 
-            Subscriber<?> subscriber = topic.createSubscriber(options.toArray(options.toArray(new Subscriber.Option[0])));
+            Subscriber<?> subscriber = topic.createSubscriber(instanceOptions.toArray(new Subscriber.Option[0]));
             TopicSubscriber<?, ?, ?> topicSubscriber =
-                new TopicSubscriber(topicName, subscriber, sendToPublishers, bean, method,
-                    registry, conversionService, scheduler);
+                new TopicSubscriber(topicName, subscriber, sendToPublishers, bean, method, bindingPlan,
+                    conversionService, listenerExecutor, committer, subscriberMetrics, retryPolicy);
             subscribers.add(topicSubscriber);
-            topicSubscriber.nextMessage();
+            topicSubscriber.start();
+            return topicSubscriber;
+        };
+
+        if (maxInstances > instances) {
+            int remainingPerInstance = method.intValue(CoherenceTopicListener.class, "remainingPerInstance").orElse(1000);
+            Duration scaleInterval = method.getValue(CoherenceTopicListener.class, "scaleInterval", Duration.class)
+                    .orElse(Duration.ofSeconds(10));
+            SubscriberAutoscaler autoscaler = new SubscriberAutoscaler(method, factory, this::closeSubscriber,
+                    instances, maxInstances, remainingPerInstance);
+            autoscalers.add(autoscaler);
+            autoscaler.start(scaleInterval, taskScheduler);
+        } else {
+            for (int i = 0; i < instances; i++) {
+                factory.get();
+            }
         }
-        subscribed = true;
     }
 
     /**
-     * A simple holder for discovered subscriber methods.
+     * Remove and close a subscriber that is no longer required or is no longer active.
+     *
+     * @param subscriber  the subscriber to close
      */
-    static class MethodHolder {
-        private final BeanDefinition<?> beanDefinition;
-        private final ExecutableMethod<?, ?> method;
-
-        public MethodHolder(BeanDefinition<?> beanDefinition, ExecutableMethod<?, ?> method) {
-            this.beanDefinition = beanDefinition;
-            this.method = method;
-        }
+    private void closeSubscriber(TopicSubscriber<?, ?, ?> subscriber) {
+        subscribers.remove(subscriber);
+        subscriber.close();
+    }
 
-        public BeanDefinition<?> getBeanDefinition() {
-            return beanDefinition;
+    /**
+     * Create the {@link RetryPolicy} for a listener method.
+     *
+     * @param session  the {@link Session} the listener method subscribes with
+     * @param method   the listener method
+     *
+     * @return the {@link RetryPolicy} for the listener method
+     */
+    private RetryPolicy createRetryPolicy(Session session, ExecutableMethod<?, ?> method) {
+        int attempts = method.intValue(CoherenceTopicListener.class, "retryAttempts").orElse(0);
+        String deadLetterTopic = method.stringValue(CoherenceTopicListener.class, "deadLetterTopic")
+                .filter(name -> !name.isBlank())
+                .orElse(null);
+        if (attempts <= 0 && deadLetterTopic == null) {
+            return RetryPolicy.NONE;
         }
 
-        public ExecutableMethod<?, ?> getMethod() {
-            return method;
+        Duration delay = method.getValue(CoherenceTopicListener.class, "retryDelay", Duration.class)
+                .orElse(Duration.ofSeconds(1));
+        double multiplier = method.doubleValue(CoherenceTopicListener.class, "retryMultiplier").orElse(2.0d);
+        Duration maxDelay = method.getValue(CoherenceTopicListener.class, "retryMaxDelay", Duration.class)
+                .orElse(Duration.ofMinutes(1));
+        // dead lettered elements are published as already serialized values
+        Publisher<Binary> deadLetterPublisher = null;
+        if (deadLetterTopic != null) {
+            deadLetterPublisher = session.<Binary>getTopic(deadLetterTopic, WithClassLoader.nullImplementation())
+                    .createPublisher();
+            publishers.add(Map.entry(deadLetterTopic, deadLetterPublisher));
         }
+        return new RetryPolicy(attempts, delay, multiplier, maxDelay, taskScheduler, deadLetterPublisher);
     }
 
     /**
-     * A topic subscriber that wraps an {@link ExecutableMethod}.
+     * Returns {@code true} if the method returns a {@link Binary}, or a reactive
+     * {@link org.reactivestreams.Publisher} or {@link CompletionStage} of {@link Binary}.
+     * <p>Other generic results, such as a {@code List<Binary>}, are published as a single
+     * value and must be serialized, so they are not treated as {@link Binary} results.</p>
      *
-     * @param <E> the type of the topic elements
-     * @param <T> the type of the bean declaring the {@link ExecutableMethod}
-     * @param <R> the method return type of the {@link ExecutableMethod}
-     */
-    static class TopicSubscriber<E, T, R> implements AutoCloseable {
-        /**
-         * The name of the subscribed topic.
-         */
-        private final String topicName;
-
-        /**
-         * The actual topic {@link com.tangosol.net.topic.Subscriber}.
-         */
-        private final Subscriber<E> subscriber;
-
-        /**
-         * The optional topic {@link com.tangosol.net.topic.Publisher Publishers} to send
-         * any method return value to.
-         */
-        private final Publisher<?>[] publishers;
-
-        /**
-         * The bean declaring the {@link ExecutableMethod}.
-         */
-        private final T bean;
-
-        /**
-         * The {@link ExecutableMethod} to forward topic elements to.
-         */
-        private final ExecutableMethod<?, ?> method;
-
-        /**
-         * The subscriber argument.
-         */
-        private final Optional<Argument<?>> subscriberArg;
-
-        /**
-         * The {@link ElementArgumentBinderRegistry} to use to bind method arguments.
-         */
-        private final ElementArgumentBinderRegistry registry;
-
-        /**
-         * The scheduler service.
-         */
-        private final Scheduler scheduler;
-
-        /**
-         * The commit strategy to use to commit received messages.
-         */
-        private final CommitStrategy commitStrategy;
-
-        /**
-         * The {@link ConversionService}.
-         */
-        private final ConversionService conversionService;
-
-        /**
-         * Create a {@link TopicSubscriber}.
-         *
-         * @param topicName         the name of the subscribed topic.
-         * @param subscriber        the actual topic {@link com.tangosol.net.topic.Subscriber}
-         * @param publishers        the optional {@link Publisher Publishers} to send any method return type to
-         * @param bean              the bean declaring the {@link ExecutableMethod}
-         * @param method            the {@link ExecutableMethod} to forward topic elements to
-         * @param registry          the {@link ElementArgumentBinderRegistry} to use to bind method arguments
-         * @param scheduler         the scheduler service
-         * @param conversionService the {@link ConversionService}
-         */
-        @SuppressWarnings({"rawtypes"})
-        TopicSubscriber(String topicName, Subscriber<E> subscriber, Publisher<?>[] publishers, T bean,
-                        ExecutableMethod<T, R> method, ElementArgumentBinderRegistry registry,
-                        ConversionService conversionService, Scheduler scheduler) {
-            this.topicName = topicName;
-            this.subscriber = subscriber;
-            this.publishers = publishers;
-            this.bean = bean;
-            this.method = method;
-            this.registry = registry;
-            this.scheduler = scheduler;
-            Class<? extends Subscriber> cls = subscriber.getClass();
-            this.subscriberArg = Arrays.stream(method.getArguments())
-                    .filter(arg -> Subscriber.class.isAssignableFrom(arg.getType()) && arg.getType().isAssignableFrom(cls))
-                    .findFirst();
-            this.commitStrategy = method.getValue(CoherenceTopicListener.class, "commitStrategy", CommitStrategy.class)
-                                        .orElse(CommitStrategy.SYNC);
-            this.conversionService = conversionService;
-        }
-
-        @Override
-        public void close() {
-            try {
-                subscriber.close();
-            } catch (Exception e) {
-                LOG.error("Error closing subscriber for topic {}", topicName, e);
-            }
+     * @param method  the listener method
+     *
+     * @return {@code true} if the method returns serialized {@link Binary} values
+     */
+    static boolean isBinaryResult(ExecutableMethod<?, ?> method) {
+        Argument<?> returnType = method.getReturnType().asArgument();
+        Class<?> type = returnType.getType();
+        if (type == Binary.class) {
+            return true;
         }
-
-        /**
-         * <p>Request the next message from the {@link com.tangosol.net.topic.Subscriber}.</p>
-         * <p>If requesting the next message throws an exception the subscription will
-         * end and the {@link com.tangosol.net.topic.Subscriber} will be closed.</p>
-         */
-        private void nextMessage() {
-            if (subscriber.isActive()) {
-                subscriber.receive().handle(this::handleMessage)
-                        .handle((v, err) -> {
-                            if (err != null) {
-                                LOG.error("Error requesting message from topic {} for method {} - subscriber will be closed", topicName, method, err);
-                                subscriber.close();
-                            }
-                            return VOID;
-                        });
-            }
+        if (CompletionStage.class.isAssignableFrom(type) || Publishers.isConvertibleToPublisher(type)) {
+            return returnType.getFirstTypeVariable().map(arg -> arg.getType() == Binary.class).orElse(false);
         }
+        return false;
+    }
 
-        /**
-         * <p>Handle the next async response from the subscriber.</p>
-         * <p>After the {@link io.micronaut.inject.ExecutableMethod} handles the message
-         * the next message will be requested from the subscriber.</p>
-         * <p>If the response is an error the subscription will end and the
-         * {@link com.tangosol.net.topic.Subscriber} will be closed.</p>
-         * <p>If the call to the {@link io.micronaut.inject.ExecutableMethod} throws
-         * an exception the subscription will end and the {@link com.tangosol.net.topic.Subscriber}
-         * will be closed.</p>
-         *
-         * @param element    the {@link com.tangosol.net.topic.Subscriber.Element} received
-         * @param throwable  any error from the subscriber
-         *
-         * @return always returns {@link java.lang.Void} (i.e. {@code null})
-         */
-        @SuppressWarnings({"rawtypes", "unchecked"})
-        private Void handleMessage(Subscriber.Element<E> element, Throwable throwable) {
-            SubscriberExceptionHandler.Action action = SubscriberExceptionHandler.Action.Continue;
-            Throwable error = null;
-
-            if (throwable == null) {
-                try {
-                    Map<Argument<?>, Object> mapBindings = new HashMap<>();
-                    subscriberArg.ifPresent(arg -> mapBindings.put(arg, subscriber));
-
-                    ExecutableBinder batchBinder = new DefaultExecutableBinder<>(mapBindings);
-                    BoundExecutable boundExecutable = batchBinder.bind(method, registry, element);
-
-                    Object result = boundExecutable.invoke(bean);
-                    handleResult(result);
-                } catch (Throwable thrown) {
-                    error = thrown;
-                }
-            } else {
-                error = throwable;
-            }
-
-            if (error == null) {
-                // message processed successfully, do any commit action
-                try {
-                    if (commitStrategy != CommitStrategy.MANUAL) {
-                        CompletableFuture<Subscriber.CommitResult> future = element.commitAsync();
-                        if (commitStrategy == CommitStrategy.ASYNC) {
-                            // async commit, so log any failure in a future handler
-                            future.handle((result, commitError) -> {
-                                if (commitError != null) {
-                                    // With auto-commit strategies the developer has chosen to ignore commit failures, just log the error
-                                    LOG.error("Error committing element channel={} position={}", element.getChannel(), element.getPosition(), commitError);
-                                } else if (!result.isSuccess()) {
-                                    // With auto-commit strategies the developer has chosen to ignore commit failures, just log the error
-                                    LOG.error("Failed to commit element channel={} position={} status {}", element.getChannel(), element.getPosition(), result);
-                                }
-                                return VOID;
-                            });
-                        } else {
-                            // sync commit so wait for it to complete
-                            Subscriber.CommitResult result = future.join();
-                            if (!result.isSuccess()) {
-                                // With auto-commit strategies the developer has chosen to ignore commit failures, just log the error
-                                LOG.error("Failed to commit element channel={} position={} status {}", element.getChannel(), element.getPosition(), result);
-                            }
-                        }
-                    }
-                } catch (Exception thrown) {
-                    // With auto-commit strategies the developer has chosen to ignore commit failures, just log the error
-                    LOG.error("Error committing element channel={} position={}", element.getChannel(), element.getPosition(), thrown);
+    /**
+     * Returns the execution settings for listeners using {@link ExecutionMode#VIRTUAL virtual threads},
+     * falling back to pooled execution if the virtual thread executor is not available.
+     *
+     * @return the execution settings for listeners using virtual threads
+     */
+    private synchronized ListenerExecutor getVirtualExecutor() {
+        if (virtualExecutor == null) {
+            Optional<ExecutorService> optional = context.findBean(ExecutorService.class, Qualifiers.byName(TaskExecutors.VIRTUAL));
+            if (optional.isPresent()) {
+                ExecutorService executor = optional.get();
+                ListenerExecutionMetrics.Metrics virtualMetrics = null;
+                if (metricsEnabled) {
+                    virtualMetrics = metrics.forMode(ExecutionMode.VIRTUAL);
+                    int carriers = Integer.getInteger("jdk.virtualThreadScheduler.parallelism", Runtime.getRuntime().availableProcessors());
+                    virtualMetrics.setThreadCount(() -> carriers);
                 }
-            } else if (error instanceof CancellationException) {
-                // cancellation probably due to subscriber closing, so we ignore the error
-                action = SubscriberExceptionHandler.Action.Continue;
+                virtualExecutor = new ListenerExecutor(ExecutionMode.VIRTUAL, executor, Schedulers.fromExecutor(executor),
+                        virtualMetrics, null);
             } else {
-                // an error occurred
-                action = handleException(subscriber, method, element, error);
-            }
-
-        switch (action) {
-            case Continue -> nextMessage();
-            case Stop -> subscriber.close();
-            default -> {
-                LOG.error("Unknown SubscriberExceptionHandler.Action {} closing subscriber", action);
-                subscriber.close();
-                }
+                LOG.warn("The {} executor is not available, virtual thread @CoherenceTopicListener methods will use pooled execution",
+                        TaskExecutors.VIRTUAL);
+                virtualExecutor = pooledExecutor;
             }
-
-            return VOID;
         }
+        return virtualExecutor;
+    }
 
-        /**
-         * Handle the listener method result and if required forward to publishers.
-         *
-         * @param result the method result
-         */
-        private void handleResult(Object result) {
-            if (result == null || publishers.length == 0) {
-                return;
-            }
-
-            if (result.getClass().isArray()) {
-                result = Arrays.asList((Object[]) result);
-            }
-
-            Class<?> type = result.getClass();
-            boolean isAsyncReturnType = CompletionStage.class.isAssignableFrom(type);
-
-            if (isAsyncReturnType) {
-                ((CompletionStage<?>) result)
-                        .handle((msg, err1) -> {
-                            if (err1 == null) {
-                                handleResult(msg);
-                            } else {
-                                LOG.error("Method " + method + " async result completed with an error", err1);
-                            }
-                            return VOID;
-                        });
-            } else {
-                Flux<?> resultFlux;
-                boolean isBlocking;
-                if (Publishers.isConvertibleToPublisher(result)) {
-                    resultFlux = Publishers.convertPublisher(conversionService, result, Flux.class);
-                    isBlocking = method.hasAnnotation(Blocking.class);
-                } else {
-                    resultFlux = Flux.just(result);
-                    isBlocking = true;
-                }
-                handleResultFlux(method, resultFlux, isBlocking);
-            }
-        }
+    /**
+     * A simple holder for discovered subscriber methods.
+     */
+    static class MethodHolder {
+        private final BeanDefinition<?> beanDefinition;
+        private final ExecutableMethod<?, ?> method;
 
-        /**
-         * Handle a listener method result that is a reactive flux.
-         *
-         * @param method          the listener method
-         * @param resultFlux      the flux result
-         * @param isBlocking      {@code true} if the method is blocking
-         */
-        @SuppressWarnings({"rawtypes", "unchecked"})
-        private void handleResultFlux(ExecutableMethod<?, ?> method, Flux<?> resultFlux, boolean isBlocking) {
-            Flux<?> recordMetadataProducer = resultFlux.subscribeOn(scheduler)
-                    .flatMap((Function<Object, org.reactivestreams.Publisher<?>>) o -> {
-                        if (ArrayUtils.isNotEmpty(publishers)) {
-                            return Flux.create(emitter -> {
-                                for (Publisher publisher : publishers) {
-                                    if (publisher.isActive()) {
-                                        CompletableFuture<Publisher.Status> future = publisher.publish(o);
-                                        future.handle((status, exception) -> {
-                                            if (exception != null) {
-                                                emitter.error(exception);
-                                            } else {
-                                                emitter.next(status);
-                                            }
-                                            return VOID;
-                                        });
-                                    }
-                                }
-                                emitter.complete();
-                            }, FluxSink.OverflowStrategy.ERROR);
-                        }
-                        return Flux.empty();
-                    }).onErrorResume(throwable -> {
-                        LOG.error("Error processing result from method {}", method, throwable);
-                        return Flux.empty();
-                    });
-
-            if (isBlocking) {
-                recordMetadataProducer.toStream().forEach(recordMetadata -> {
-                    if (LOG.isTraceEnabled()) {
-                        LOG.trace("Method [{}] produced record metadata: {}", method, recordMetadata);
-                    }
-                });
-            } else {
-                recordMetadataProducer.subscribe(recordMetadata -> {
-                    if (LOG.isTraceEnabled()) {
-                        LOG.trace("Method [{}] produced record metadata: {}", method, recordMetadata);
-                    }
-                });
-            }
+        public MethodHolder(BeanDefinition<?> beanDefinition, ExecutableMethod<?, ?> method) {
+            this.beanDefinition = beanDefinition;
+            this.method = method;
         }
 
-        private SubscriberExceptionHandler.Action handleException(Subscriber<?> subscriber, Object consumerBean, Subscriber.Element<?> element, Throwable e) {
-            CoherenceSubscriberException exception = new CoherenceSubscriberException(
-                    e,
-                    consumerBean,
-                    subscriber,
-                    element
-            );
-            return handleException(consumerBean, exception);
+        public BeanDefinition<?> getBeanDefinition() {
+            return beanDefinition;
         }
 
-        private SubscriberExceptionHandler.Action handleException(Object consumerBean, CoherenceSubscriberException exception) {
-            if (consumerBean instanceof SubscriberExceptionHandler) {
-                return ((SubscriberExceptionHandler) consumerBean).handle(exception);
-            } else {
-                Subscriber.Element<?> element = exception.getElement().orElse(null);
-                Throwable cause = exception.getCause();
-                LOG.error("Closing subscriber due to error processing element [{}] for Coherence subscriber [{}] produced error: {}", element, consumerBean, cause.getMessage(), cause);
-                return SubscriberExceptionHandler.Action.Stop;
-            }
+        public ExecutableMethod<?, ?> getMethod() {
+            return method;
         }
     }
 }
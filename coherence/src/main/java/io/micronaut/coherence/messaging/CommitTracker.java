@@ -0,0 +1,104 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.messaging;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.tangosol.net.topic.Position;
+
+/**
+ * <p>Tracks the positions of received elements that are still being processed.</p>
+ * <p>When elements are processed concurrently they may complete out of order. The tracker
+ * only ever releases a position to commit when every element received before it in
+ * the same channel has also been processed, so that a committed position never passes
+ * an unprocessed element.</p>
+ *
+ * @author Jonathan Knight
+ * @since 6.0
+ */
+class CommitTracker {
+    /**
+     * The in-flight positions for each channel.
+     */
+    private final Map<Integer, ChannelPositions> channels = new ConcurrentHashMap<>();
+
+    /**
+     * Record that an element has been received and is about to be processed.
+     *
+     * @param channel   the channel the element was received from
+     * @param position  the position of the element
+     */
+    void received(int channel, Position position) {
+        channels.computeIfAbsent(channel, c -> new ChannelPositions()).received(position);
+    }
+
+    /**
+     * Record that an element has been processed.
+     *
+     * @param channel   the channel the element was received from
+     * @param position  the position of the element
+     *
+     * @return the highest position in the channel that can now be committed, or
+     *         {@code null} if nothing can be committed yet
+     */
+    Position processed(int channel, Position position) {
+        ChannelPositions positions = channels.get(channel);
+        return positions == null ? position : positions.processed(position);
+    }
+
+    /**
+     * Returns the number of received elements that have not yet been released.
+     *
+     * @return the number of received elements that have not yet been released
+     */
+    int size() {
+        int size = 0;
+        for (ChannelPositions positions : channels.values()) {
+            size += positions.size();
+        }
+        return size;
+    }
+
+    /**
+     * The in-flight positions for a single channel.
+     */
+    private static class ChannelPositions {
+        /**
+         * The in-flight positions in order, mapped to a flag indicating whether
+         * the element at that position has been processed.
+         */
+        private final TreeMap<Position, Boolean> positions = new TreeMap<>();
+
+        synchronized void received(Position position) {
+            positions.putIfAbsent(position, Boolean.FALSE);
+        }
+
+        synchronized Position processed(Position position) {
+            positions.put(position, Boolean.TRUE);
+            Position commit = null;
+            while (!positions.isEmpty() && positions.firstEntry().getValue()) {
+                commit = positions.pollFirstEntry().getKey();
+            }
+            return commit;
+        }
+
+        synchronized int size() {
+            return positions.size();
+        }
+    }
+}
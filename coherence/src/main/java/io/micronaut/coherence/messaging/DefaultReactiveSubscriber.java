@@ -0,0 +1,343 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.messaging;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.tangosol.net.topic.Position;
+import com.tangosol.net.topic.Subscriber;
+
+import io.micronaut.coherence.annotation.CommitStrategy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+/**
+ * <p>The default {@link ReactiveSubscriber} implementation.</p>
+ * <p>Delivered elements are only committed when downstream next signals demand, so that an
+ * element is not committed until the subscriber that received it has asked for more. Elements
+ * received after a downstream subscription has been cancelled are not committed, they are
+ * delivered to the next subscription instead.</p>
+ * <p>Only one downstream subscription may be active at a time, as concurrent subscriptions would
+ * commit past elements delivered to each other. A second subscription is failed with an
+ * {@link IllegalStateException} until the first has been cancelled or terminated and any receive
+ * request it made has completed.</p>
+ *
+ * @param <V>  the type of the topic values
+ *
+ * @author Jonathan Knight
+ * @since 6.0
+ */
+class DefaultReactiveSubscriber<V> implements ReactiveSubscriber<V> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultReactiveSubscriber.class);
+
+    /**
+     * The topic subscriber to receive elements from.
+     */
+    private final Subscriber<V> subscriber;
+
+    /**
+     * The strategy used to commit received elements.
+     */
+    private final CommitStrategy commitStrategy;
+
+    /**
+     * The maximum number of elements to receive in a single request.
+     */
+    private final int maxBatchSize;
+
+    /**
+     * Elements received but not delivered because their downstream subscription was
+     * cancelled, waiting to be delivered to the next subscription.
+     */
+    private final Queue<Subscriber.Element<V>> undelivered = new ConcurrentLinkedQueue<>();
+
+    /**
+     * {@code true} while a downstream subscription is active.
+     */
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    /**
+     * The {@link Flux} of received elements.
+     */
+    private final Flux<Subscriber.Element<V>> elements;
+
+    /**
+     * Create a {@link DefaultReactiveSubscriber}.
+     *
+     * @param subscriber      the topic subscriber to receive elements from
+     * @param commitStrategy  the strategy used to commit received elements
+     * @param maxBatchSize    the maximum number of elements to receive in a single request
+     *
+     * @throws IllegalArgumentException if the commit strategy is {@link CommitStrategy#BATCHED}
+     */
+    DefaultReactiveSubscriber(Subscriber<V> subscriber, CommitStrategy commitStrategy, int maxBatchSize) {
+        if (commitStrategy == CommitStrategy.BATCHED) {
+            throw new IllegalArgumentException("The " + CommitStrategy.BATCHED
+                    + " commit strategy is not supported by a ReactiveSubscriber");
+        }
+        this.subscriber = subscriber;
+        this.commitStrategy = commitStrategy == null ? CommitStrategy.SYNC : commitStrategy;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.elements = Flux.create(sink -> {
+            if (!subscribed.compareAndSet(false, true)) {
+                sink.error(new IllegalStateException("A ReactiveSubscriber only supports a single active subscription"));
+                return;
+            }
+            Receiver receiver = new Receiver(sink);
+            sink.onRequest(n -> receiver.onRequest());
+            sink.onDispose(receiver::dispose);
+        });
+    }
+
+    @Override
+    public void subscribe(org.reactivestreams.Subscriber<? super Subscriber.Element<V>> s) {
+        elements.subscribe(s);
+    }
+
+    @Override
+    public Flux<Subscriber.Element<V>> elements() {
+        return elements;
+    }
+
+    @Override
+    public Subscriber<V> getSubscriber() {
+        return subscriber;
+    }
+
+    @Override
+    public void close() {
+        subscriber.close();
+    }
+
+    /**
+     * Commit the highest position in each channel of the delivered elements.
+     *
+     * @param delivered  the delivered elements
+     *
+     * @return a future that completes when the commits complete, or immediately
+     *         if the commit strategy does not wait for commits
+     */
+    private CompletableFuture<Void> commit(List<Subscriber.Element<V>> delivered) {
+        if (commitStrategy == CommitStrategy.MANUAL || delivered.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        Map<Integer, Position> positions = new HashMap<>();
+        for (Subscriber.Element<V> element : delivered) {
+            positions.merge(element.getChannel(), element.getPosition(), (a, b) -> a.compareTo(b) >= 0 ? a : b);
+        }
+        List<CompletableFuture<?>> futures = new ArrayList<>(positions.size());
+        positions.forEach((channel, position) -> futures.add(subscriber.commitAsync(channel, position)
+                .handle((result, error) -> {
+                    // with auto-commit strategies commit failures are logged but do not end the subscription
+                    if (error != null) {
+                        LOG.error("Error committing element channel={} position={}", channel, position, error);
+                    } else if (!result.isSuccess()) {
+                        LOG.error("Failed to commit element channel={} position={} status {}", channel, position, result);
+                    }
+                    return null;
+                })));
+        CompletableFuture<Void> committed = CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+        return commitStrategy == CommitStrategy.SYNC ? committed : CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Receives elements from the topic subscriber as they are requested by
+     * a single downstream subscription.
+     */
+    private class Receiver {
+        /**
+         * The downstream sink.
+         */
+        private final FluxSink<Subscriber.Element<V>> sink;
+
+        /**
+         * The work-in-progress counter that serializes drain loops.
+         */
+        private final AtomicInteger wip = new AtomicInteger();
+
+        /**
+         * The elements delivered downstream and not yet committed.
+         */
+        private List<Subscriber.Element<V>> delivered = new ArrayList<>();
+
+        /**
+         * {@code true} while a receive request is outstanding.
+         */
+        private volatile boolean receiving;
+
+        /**
+         * {@code true} while a {@link CommitStrategy#SYNC synchronous} commit is outstanding.
+         */
+        private volatile boolean committing;
+
+        /**
+         * {@code true} once the downstream subscription has been cancelled or terminated.
+         */
+        private volatile boolean disposed;
+
+        /**
+         * {@code true} once this receiver has allowed another downstream subscription.
+         */
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        Receiver(FluxSink<Subscriber.Element<V>> sink) {
+            this.sink = sink;
+        }
+
+        /**
+         * Handle a downstream request. Every element delivered before the request has
+         * been consumed, so it is committed before more elements are received.
+         */
+        void onRequest() {
+            List<Subscriber.Element<V>> consumed;
+            synchronized (this) {
+                consumed = delivered;
+                delivered = new ArrayList<>();
+            }
+            CompletableFuture<Void> future = commit(consumed);
+            if (future.isDone()) {
+                drain();
+            } else {
+                committing = true;
+                future.whenComplete((v, err) -> {
+                    committing = false;
+                    drain();
+                });
+            }
+        }
+
+        /**
+         * Deliver any elements left over from a previous subscription, then receive the
+         * next batch of elements if there is outstanding demand and no receive request or
+         * synchronous commit is already outstanding.
+         */
+        void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            do {
+                if (!receiving && !committing && !disposed) {
+                    long demand = sink.requestedFromDownstream();
+                    while (demand > 0 && !disposed && !undelivered.isEmpty()) {
+                        deliver(undelivered.poll());
+                        demand--;
+                    }
+                    if (demand > 0 && !disposed) {
+                        if (subscriber.isActive()) {
+                            receiving = true;
+                            if (disposed) {
+                                // disposed while starting the receive request
+                                receiving = false;
+                                release();
+                            } else {
+                                receive((int) Math.min(demand, maxBatchSize));
+                            }
+                        } else {
+                            disposed = true;
+                            sink.complete();
+                        }
+                    }
+                }
+            } while (wip.decrementAndGet() != 0);
+        }
+
+        /**
+         * Receive a batch of elements and deliver them downstream.
+         *
+         * @param count  the maximum number of elements to receive
+         */
+        private void receive(int count) {
+            subscriber.receive(count).whenComplete((batch, error) -> {
+                if (error != null) {
+                    receiving = false;
+                    disposed = true;
+                    if (error instanceof CancellationException || !subscriber.isActive()) {
+                        // the subscriber was closed
+                        sink.complete();
+                    } else {
+                        sink.error(error);
+                    }
+                    return;
+                }
+                if (batch != null) {
+                    for (Subscriber.Element<V> element : batch) {
+                        if (disposed) {
+                            // keep the element for the next subscription rather than dropping it
+                            undelivered.add(element);
+                        } else {
+                            deliver(element);
+                        }
+                    }
+                }
+                receiving = false;
+                if (disposed) {
+                    release();
+                } else {
+                    drain();
+                }
+            });
+        }
+
+        /**
+         * Deliver an element downstream, recording it to be committed on the next request.
+         *
+         * @param element  the element to deliver
+         */
+        private void deliver(Subscriber.Element<V> element) {
+            if (element != null) {
+                synchronized (this) {
+                    delivered.add(element);
+                }
+                sink.next(element);
+            }
+        }
+
+        /**
+         * Stop receiving for the downstream subscription. Elements delivered since the
+         * last request are not committed, so they are received again if the topic
+         * subscriber is closed.
+         */
+        void dispose() {
+            disposed = true;
+            if (!receiving) {
+                release();
+            }
+        }
+
+        /**
+         * Allow another downstream subscription once this one has been disposed and
+         * has no receive request outstanding.
+         */
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                subscribed.set(false);
+            }
+        }
+    }
+}
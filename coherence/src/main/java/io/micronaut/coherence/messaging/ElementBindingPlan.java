@@ -0,0 +1,250 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.messaging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import com.tangosol.net.topic.Subscriber;
+import com.tangosol.util.Binary;
+
+import io.micronaut.coherence.annotation.CoherenceTopicListener;
+import io.micronaut.coherence.messaging.binders.DefaultTopicBinder;
+import io.micronaut.coherence.messaging.binders.ElementArgumentBinderRegistry;
+import io.micronaut.coherence.messaging.binders.ElementValueBinder;
+import io.micronaut.core.bind.ArgumentBinder;
+import io.micronaut.core.bind.exceptions.UnsatisfiedArgumentException;
+import io.micronaut.core.convert.ConversionContext;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.type.Argument;
+import io.micronaut.inject.ExecutableMethod;
+
+/**
+ * <p>A precompiled plan for binding the arguments of a {@link CoherenceTopicListener} method
+ * from a received {@link Subscriber.Element}.</p>
+ * <p>The {@link io.micronaut.coherence.messaging.binders.ElementBinder} for each method argument
+ * is resolved once, when the plan is created, so that binding the arguments for each received
+ * element is just a matter of filling an argument array.</p>
+ *
+ * @author Jonathan Knight
+ * @since 6.0
+ */
+class ElementBindingPlan {
+    /**
+     * The method arguments.
+     */
+    private final Argument<?>[] arguments;
+
+    /**
+     * The resolver for each method argument.
+     */
+    private final Resolver[] resolvers;
+
+    /**
+     * The argument bound to each received batch of elements, or {@code null}
+     * if the method receives a single element per invocation.
+     */
+    private final Argument<?> batchArg;
+
+    /**
+     * {@code true} if the batch argument is a collection of {@link Subscriber.Element elements}
+     * rather than a collection of element values.
+     */
+    private final boolean batchOfElements;
+
+    /**
+     * The {@link ConversionService}.
+     */
+    private final ConversionService conversionService;
+
+    /**
+     * Create an {@link ElementBindingPlan}.
+     *
+     * @param method             the {@link CoherenceTopicListener} method
+     * @param registry           the {@link ElementArgumentBinderRegistry} to use to resolve argument binders
+     * @param conversionService  the {@link ConversionService}
+     */
+    ElementBindingPlan(ExecutableMethod<?, ?> method, ElementArgumentBinderRegistry registry,
+                       ConversionService conversionService) {
+        this.arguments = method.getArguments();
+        this.conversionService = conversionService;
+
+        Argument<?> collectionArg = null;
+        for (Argument<?> argument : arguments) {
+            if (argument.getType() != Object.class && argument.getType().isAssignableFrom(List.class)) {
+                collectionArg = argument;
+                break;
+            }
+        }
+        boolean elements = collectionArg != null && collectionArg.getFirstTypeVariable()
+                .map(arg -> Subscriber.Element.class.isAssignableFrom(arg.getType()))
+                .orElse(false);
+        boolean batch = elements || method.booleanValue(CoherenceTopicListener.class, "batch").orElse(false);
+        if (batch && collectionArg == null) {
+            throw new IllegalStateException("The batch @CoherenceTopicListener method " + method
+                    + " must have a List or Collection parameter");
+        }
+        this.batchArg = batch ? collectionArg : null;
+        this.batchOfElements = elements;
+
+        this.resolvers = new Resolver[arguments.length];
+        for (int i = 0; i < arguments.length; i++) {
+            resolvers[i] = createResolver(arguments[i], registry);
+        }
+    }
+
+    /**
+     * Returns {@code true} if the method receives batches of elements.
+     *
+     * @return {@code true} if the method receives batches of elements
+     */
+    boolean isBatch() {
+        return batchArg != null;
+    }
+
+    /**
+     * Returns the number of method arguments.
+     *
+     * @return the number of method arguments
+     */
+    int size() {
+        return arguments.length;
+    }
+
+    /**
+     * Bind the method arguments into the specified array.
+     *
+     * @param args        the array to bind the arguments into, which must be at least {@link #size()} long
+     * @param subscriber  the {@link Subscriber} the element was received from
+     * @param element     the received element, or the first element of a received batch
+     * @param batch       the received batch, or {@code null} if the method is not a batch listener
+     */
+    void bind(Object[] args, Subscriber<?> subscriber, Subscriber.Element<?> element,
+              List<? extends Subscriber.Element<?>> batch) {
+        Object batchValue = batch == null ? null : batchValue(batch);
+        for (int i = 0; i < resolvers.length; i++) {
+            args[i] = resolvers[i].resolve(subscriber, element, batchValue);
+        }
+    }
+
+    /**
+     * Convert a received batch into the value to bind to the batch argument.
+     *
+     * @param batch  the received elements
+     *
+     * @return the value to bind to the batch argument
+     */
+    private Object batchValue(List<? extends Subscriber.Element<?>> batch) {
+        if (batchOfElements) {
+            return batch;
+        }
+        Argument<?> valueArg = batchArg.getFirstTypeVariable().orElse(Argument.OBJECT_ARGUMENT);
+        List<Object> values = new ArrayList<>(batch.size());
+        for (Subscriber.Element<?> element : batch) {
+            values.add(valueArg.getType() == Binary.class ? element.getBinaryValue() : convertValue(element, valueArg));
+        }
+        return values;
+    }
+
+    /**
+     * Create the {@link Resolver} for a method argument.
+     *
+     * @param argument  the method argument
+     * @param registry  the {@link ElementArgumentBinderRegistry} to use to resolve argument binders
+     *
+     * @return the {@link Resolver} for the method argument
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private Resolver createResolver(Argument<?> argument, ElementArgumentBinderRegistry registry) {
+        if (argument == batchArg) {
+            return (subscriber, element, batch) -> batch;
+        }
+        if (Subscriber.class.isAssignableFrom(argument.getType())) {
+            return (subscriber, element, batch) -> subscriber;
+        }
+
+        ArgumentBinder binder = registry.findArgumentBinder(argument)
+                .orElseThrow(() -> new UnsatisfiedArgumentException(argument));
+
+        if (binder instanceof DefaultTopicBinder<?> defaultBinder) {
+            Function<Subscriber.Element<?>, Object> function = defaultBinder.findResolver(argument);
+            if (function != null) {
+                return (subscriber, element, batch) -> function.apply(element);
+            }
+            return (subscriber, element, batch) -> convertValue(element, argument);
+        }
+        if (binder instanceof ElementValueBinder<?> && argument.getType() != Binary.class) {
+            return (subscriber, element, batch) -> convertValue(element, argument);
+        }
+
+        return (subscriber, element, batch) -> {
+            ArgumentBinder.BindingResult<?> result = binder.bind(ConversionContext.of(argument), element);
+            Optional<?> value = result.getValue();
+            if (value.isPresent()) {
+                return value.get();
+            }
+            if (argument.isNullable()) {
+                return null;
+            }
+            throw new UnsatisfiedArgumentException(argument);
+        };
+    }
+
+    /**
+     * Return the value of an element converted to the type of an argument.
+     *
+     * @param element   the element
+     * @param argument  the argument
+     *
+     * @return the element value converted to the argument type
+     */
+    private Object convertValue(Subscriber.Element<?> element, Argument<?> argument) {
+        Object value = element.getValue();
+        if (value != null) {
+            if (argument.getType().isInstance(value)) {
+                return value;
+            }
+            Optional<?> converted = conversionService.convert(value, argument);
+            if (converted.isPresent()) {
+                return converted.get();
+            }
+        }
+        if (argument.isNullable()) {
+            return null;
+        }
+        throw new UnsatisfiedArgumentException(argument);
+    }
+
+    /**
+     * A function that resolves the value of a single method argument.
+     */
+    @FunctionalInterface
+    private interface Resolver {
+        /**
+         * Resolve the argument value.
+         *
+         * @param subscriber  the {@link Subscriber} the element was received from
+         * @param element     the received element
+         * @param batch       the value bound to the batch argument, or {@code null} if
+         *                    the method is not a batch listener
+         *
+         * @return the resolved argument value
+         */
+        Object resolve(Subscriber<?> subscriber, Subscriber.Element<?> element, Object batch);
+    }
+}
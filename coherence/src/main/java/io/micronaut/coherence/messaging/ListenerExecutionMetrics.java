@@ -0,0 +1,260 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.messaging;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+import io.micronaut.coherence.annotation.ExecutionMode;
+import jakarta.inject.Singleton;
+
+/**
+ * <p>Execution metrics for {@link io.micronaut.coherence.annotation.CoherenceTopicListener} methods,
+ * kept separately for listeners running in {@link ExecutionMode#POOLED pooled} and
+ * {@link ExecutionMode#VIRTUAL virtual thread} execution modes so the two can be compared.</p>
+ * <p>The JDK does not expose how busy virtual thread carriers are, so utilisation is derived from the
+ * time spent in listener invocations. For pooled execution the {@link Metrics#getAverageConcurrency()
+ * average concurrency} divided by the {@link Metrics#getThreadCount() thread count} is the pool
+ * utilisation, a value close to one means the pool is saturated and received elements are waiting for
+ * a thread, which shows up as {@link Metrics#getTotalWaitTime() wait time}. For virtual thread execution
+ * the same ratio is the number of concurrent, mostly blocked, invocations multiplexed onto each carrier
+ * thread.</p>
+ * <p>A pooled listener that processes one element at a time does not hand its invocations to the pool,
+ * it runs them inline on the Coherence thread that completed the receive request. Those invocations are
+ * recorded in the separate {@link #getInline() inline} metrics rather than the pooled metrics, so the
+ * pooled utilisation only covers invocations that actually ran on the pool. The inline metrics have no
+ * {@link Metrics#getThreadCount() thread count}, as the threads belong to Coherence.</p>
+ * <p>Recording adds a little work to every listener invocation, so these metrics are only recorded
+ * when the {@link #ENABLED_PROPERTY} property is {@code true}.</p>
+ *
+ * @author Jonathan Knight
+ * @since 6.0
+ */
+@Singleton
+public class ListenerExecutionMetrics {
+    /**
+     * The name of the property used to enable recording of listener execution metrics.
+     */
+    public static final String ENABLED_PROPERTY = "coherence.topic-listener.execution-metrics.enabled";
+
+    /**
+     * The metrics for listeners using pooled execution.
+     */
+    private final Metrics pooled = new Metrics(ExecutionMode.POOLED);
+
+    /**
+     * The metrics for pooled listeners whose invocations run inline on the receiving thread.
+     */
+    private final Metrics inline = new Metrics(ExecutionMode.POOLED);
+
+    /**
+     * The metrics for listeners using virtual thread execution.
+     */
+    private final Metrics virtual = new Metrics(ExecutionMode.VIRTUAL);
+
+    /**
+     * Returns the metrics for listeners using {@link ExecutionMode#POOLED pooled} execution.
+     *
+     * @return the metrics for listeners using pooled execution
+     */
+    public Metrics getPooled() {
+        return pooled;
+    }
+
+    /**
+     * Returns the metrics for {@link ExecutionMode#POOLED pooled} listeners whose invocations run inline
+     * on the thread that completed the receive request, rather than on the pool.
+     *
+     * @return the metrics for pooled listeners whose invocations run inline
+     */
+    public Metrics getInline() {
+        return inline;
+    }
+
+    /**
+     * Returns the metrics for listeners using {@link ExecutionMode#VIRTUAL virtual thread} execution.
+     *
+     * @return the metrics for listeners using virtual thread execution
+     */
+    public Metrics getVirtual() {
+        return virtual;
+    }
+
+    /**
+     * Returns the metrics for an execution mode.
+     *
+     * @param mode  the resolved execution mode
+     *
+     * @return the metrics for the execution mode
+     */
+    Metrics forMode(ExecutionMode mode) {
+        return mode == ExecutionMode.VIRTUAL ? virtual : pooled;
+    }
+
+    /**
+     * The execution metrics for a single {@link ExecutionMode}.
+     */
+    public static class Metrics {
+        private final ExecutionMode mode;
+        private final LongAdder invocations = new LongAdder();
+        private final AtomicInteger active = new AtomicInteger();
+        private final AtomicInteger peakActive = new AtomicInteger();
+        private final LongAdder executionNanos = new LongAdder();
+        private final LongAdder waitNanos = new LongAdder();
+        private final AtomicLong firstInvocation = new AtomicLong();
+        private volatile IntSupplier threadCount = () -> 0;
+
+        /**
+         * Create a {@link Metrics}.
+         *
+         * @param mode  the execution mode
+         */
+        Metrics(ExecutionMode mode) {
+            this.mode = mode;
+        }
+
+        /**
+         * Returns the execution mode these metrics are for.
+         *
+         * @return the execution mode these metrics are for
+         */
+        public ExecutionMode getExecutionMode() {
+            return mode;
+        }
+
+        /**
+         * Returns the number of listener invocations.
+         *
+         * @return the number of listener invocations
+         */
+        public long getInvocations() {
+            return invocations.sum();
+        }
+
+        /**
+         * Returns the number of listener invocations currently running.
+         *
+         * @return the number of listener invocations currently running
+         */
+        public int getActive() {
+            return active.get();
+        }
+
+        /**
+         * Returns the highest number of listener invocations that have run at the same time.
+         *
+         * @return the highest number of listener invocations that have run at the same time
+         */
+        public int getPeakActive() {
+            return peakActive.get();
+        }
+
+        /**
+         * Returns the total time spent in listener invocations, including any time spent blocked.
+         *
+         * @return the total time spent in listener invocations
+         */
+        public Duration getTotalExecutionTime() {
+            return Duration.ofNanos(executionNanos.sum());
+        }
+
+        /**
+         * Returns the total time received elements waited for a thread before their listener was invoked.
+         *
+         * @return the total time received elements waited for a thread
+         */
+        public Duration getTotalWaitTime() {
+            return Duration.ofNanos(waitNanos.sum());
+        }
+
+        /**
+         * Returns the number of platform threads available to run listener invocations, the maximum
+         * pool size for pooled execution or the number of carrier threads for virtual thread execution.
+         * Inline invocations have no thread count, as they run on Coherence's threads.
+         *
+         * @return the number of platform threads available to run listener invocations
+         */
+        public int getThreadCount() {
+            return threadCount.getAsInt();
+        }
+
+        /**
+         * Returns the average number of listener invocations running at any time since the first invocation.
+         *
+         * @return the average number of listener invocations running at any time
+         */
+        public double getAverageConcurrency() {
+            long start = firstInvocation.get();
+            long elapsed = System.nanoTime() - start;
+            return start == 0 || elapsed <= 0 ? 0.0d : (double) executionNanos.sum() / elapsed;
+        }
+
+        /**
+         * Set the supplier of the number of platform threads available to run listener invocations.
+         *
+         * @param supplier  the supplier of the number of platform threads
+         */
+        void setThreadCount(IntSupplier supplier) {
+            this.threadCount = supplier;
+        }
+
+        /**
+         * Wrap a task so that its execution is recorded in these metrics.
+         *
+         * @param task  the task to wrap
+         *
+         * @return the wrapped task
+         */
+        Runnable record(Runnable task) {
+            Supplier<Void> recorded = record(() -> {
+                task.run();
+                return null;
+            });
+            return recorded::get;
+        }
+
+        /**
+         * Wrap a task that returns a result so that its execution is recorded in these metrics.
+         *
+         * @param task  the task to wrap
+         * @param <V>   the type of the task result
+         *
+         * @return the wrapped task
+         */
+        <V> Supplier<V> record(Supplier<V> task) {
+            long submitted = System.nanoTime();
+            if (firstInvocation.get() == 0) {
+                firstInvocation.compareAndSet(0, submitted);
+            }
+            return () -> {
+                long start = System.nanoTime();
+                waitNanos.add(start - submitted);
+                peakActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                try {
+                    return task.get();
+                } finally {
+                    active.decrementAndGet();
+                    invocations.increment();
+                    executionNanos.add(System.nanoTime() - start);
+                }
+            };
+        }
+    }
+}
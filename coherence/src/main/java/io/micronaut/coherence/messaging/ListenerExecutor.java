@@ -0,0 +1,140 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.messaging;
+
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import io.micronaut.coherence.annotation.ExecutionMode;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * The resolved execution settings used by a {@link TopicSubscriber} to invoke its listener method.
+ *
+ * @author Jonathan Knight
+ * @since 6.0
+ */
+class ListenerExecutor {
+    /**
+     * The resolved execution mode, never {@link ExecutionMode#DEFAULT}.
+     */
+    private final ExecutionMode mode;
+
+    /**
+     * The executor used to invoke the listener method.
+     */
+    private final Executor executor;
+
+    /**
+     * The scheduler used to subscribe to reactive listener results.
+     */
+    private final Scheduler scheduler;
+
+    /**
+     * The metrics to record listener invocations in, or {@code null} if execution metrics are disabled.
+     */
+    private final ListenerExecutionMetrics.Metrics metrics;
+
+    /**
+     * The metrics to record invocations run inline on the receiving thread in, or {@code null}
+     * if execution metrics are disabled.
+     */
+    private final ListenerExecutionMetrics.Metrics inlineMetrics;
+
+    /**
+     * Create a {@link ListenerExecutor}.
+     *
+     * @param mode       the resolved execution mode
+     * @param executor   the executor used to invoke the listener method
+     * @param scheduler  the scheduler used to subscribe to reactive listener results
+     * @param metrics        the metrics to record listener invocations in, or {@code null}
+     *                       if execution metrics are disabled
+     * @param inlineMetrics  the metrics to record invocations run inline on the receiving thread in,
+     *                       or {@code null} if execution metrics are disabled
+     */
+    ListenerExecutor(ExecutionMode mode, Executor executor, Scheduler scheduler,
+                     ListenerExecutionMetrics.Metrics metrics, ListenerExecutionMetrics.Metrics inlineMetrics) {
+        this.mode = mode;
+        this.executor = executor;
+        this.scheduler = scheduler;
+        this.metrics = metrics;
+        this.inlineMetrics = inlineMetrics;
+    }
+
+    /**
+     * Returns {@code true} if every listener invocation must be handed off to the executor,
+     * rather than running on the thread that completed the receive request.
+     *
+     * @return {@code true} if every listener invocation must be handed off to the executor
+     */
+    boolean isVirtual() {
+        return mode == ExecutionMode.VIRTUAL;
+    }
+
+    /**
+     * Returns the executor used to invoke the listener method.
+     *
+     * @return the executor used to invoke the listener method
+     */
+    Executor executor() {
+        return executor;
+    }
+
+    /**
+     * Returns the scheduler used to subscribe to reactive listener results.
+     *
+     * @return the scheduler used to subscribe to reactive listener results
+     */
+    Scheduler scheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Wrap a listener invocation so that it is recorded in the execution metrics.
+     *
+     * @param task  the listener invocation
+     *
+     * @return the wrapped invocation, or the invocation itself if execution metrics are disabled
+     */
+    Runnable record(Runnable task) {
+        return metrics == null ? task : metrics.record(task);
+    }
+
+    /**
+     * Wrap a listener invocation that runs inline on the thread that completed the receive request,
+     * so that it is recorded separately from invocations run on the executor.
+     *
+     * @param task  the listener invocation
+     *
+     * @return the wrapped invocation, or the invocation itself if execution metrics are disabled
+     */
+    Runnable recordInline(Runnable task) {
+        return inlineMetrics == null ? task : inlineMetrics.record(task);
+    }
+
+    /**
+     * Wrap a listener invocation that returns a result, such as a future that completes
+     * when the invocation has been handled, so that it is recorded in the execution metrics.
+     *
+     * @param task  the listener invocation
+     * @param <V>   the type of the invocation result
+     *
+     * @return the wrapped invocation, or the invocation itself if execution metrics are disabled
+     */
+    <V> Supplier<V> recordAsync(Supplier<V> task) {
+        return metrics == null ? task : metrics.record(task);
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.messaging;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micronaut.context.annotation.Requires;
+import jakarta.inject.Singleton;
+
+/**
+ * A {@link MeterBinder} that registers the hit, miss and eviction counts of the
+ * {@link io.micronaut.coherence.annotation.CoherencePublisher} publisher cache.
+ *
+ * @author Jonathan Knight
+ * @since 6.0
+ */
+@Singleton
+@Requires(classes = MeterRegistry.class)
+@Requires(beans = MeterRegistry.class)
+class MicrometerPublisherCacheMetrics implements MeterBinder {
+    /**
+     * The prefix of the meter names.
+     */
+    static final String PREFIX = "coherence.publisher.cache.";
+
+    /**
+     * The publisher advice that owns the cache.
+     */
+    private final CoherencePublisherIntroductionAdvice advice;
+
+    /**
+     * Create a {@link MicrometerPublisherCacheMetrics}.
+     *
+     * @param advice  the publisher advice that owns the cache
+     */
+    MicrometerPublisherCacheMetrics(CoherencePublisherIntroductionAdvice advice) {
+        this.advice = advice;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(PREFIX + "hits", advice, CoherencePublisherIntroductionAdvice::getPublisherCacheHits)
+                .description("The number of publisher lookups that found a cached publisher")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + "misses", advice, CoherencePublisherIntroductionAdvice::getPublisherCacheMisses)
+                .description("The number of publisher lookups that created a new publisher")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + "evictions", advice, CoherencePublisherIntroductionAdvice::getPublisherCacheEvictions)
+                .description("The number of evicted publishers")
+                .register(registry);
+        Gauge.builder(PREFIX + "size", advice, CoherencePublisherIntroductionAdvice::getPublisherCacheSize)
+                .description("The number of cached publishers")
+                .register(registry);
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.messaging;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import com.tangosol.net.topic.Subscriber;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.inject.ExecutableMethod;
+import jakarta.inject.Singleton;
+
+/**
+ * <p>A {@link SubscriberMetricsFactory} that records topic listener metrics in a Micrometer
+ * {@link MeterRegistry}.</p>
+ * <p>Meters are tagged with the {@code topic}, subscriber {@code group}, listener {@code method}
+ * and subscriber {@code instance}, and the element counters, commit meters and remaining message
+ * gauges are also tagged with the {@code channel}. The meters for a subscriber are removed from
+ * the registry when the subscriber is closed.</p>
+ *
+ * @author Jonathan Knight
+ * @since 6.0
+ */
+@Singleton
+@Requires(classes = MeterRegistry.class)
+@Requires(beans = MeterRegistry.class)
+class MicrometerSubscriberMetricsFactory implements SubscriberMetricsFactory {
+    /**
+     * The prefix of the meter names.
+     */
+    static final String PREFIX = "coherence.topic.listener.";
+
+    /**
+     * The registry to register meters with.
+     */
+    private final MeterRegistry registry;
+
+    /**
+     * Create a {@link MicrometerSubscriberMetricsFactory}.
+     *
+     * @param registry  the registry to register meters with
+     */
+    MicrometerSubscriberMetricsFactory(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public SubscriberMetrics create(String topicName, String group, ExecutableMethod<?, ?> method, int instance) {
+        Tags tags = Tags.of("topic", topicName,
+                "group", group == null ? "" : group,
+                "method", method.getDeclaringType().getSimpleName() + "." + method.getMethodName(),
+                "instance", String.valueOf(instance));
+        return new MicrometerSubscriberMetrics(registry, tags);
+    }
+
+    /**
+     * The {@link SubscriberMetrics} for a single subscriber.
+     */
+    static class MicrometerSubscriberMetrics implements SubscriberMetrics {
+        private final MeterRegistry registry;
+        private final Tags tags;
+        private final Queue<Meter> meters = new ConcurrentLinkedQueue<>();
+        private final Timer invocations;
+        private final Timer receiveWait;
+        private final Map<Integer, Counter> received = new ConcurrentHashMap<>();
+        private final Map<Integer, Counter> processed = new ConcurrentHashMap<>();
+        private final Map<Integer, Counter> failed = new ConcurrentHashMap<>();
+        private final Map<Integer, Counter> retried = new ConcurrentHashMap<>();
+        private final Map<Integer, Counter> deadLettered = new ConcurrentHashMap<>();
+        private final Map<Integer, Counter> commitFailed = new ConcurrentHashMap<>();
+        private final Map<Integer, Timer> commits = new ConcurrentHashMap<>();
+
+        /**
+         * Create a {@link MicrometerSubscriberMetrics}.
+         *
+         * @param registry  the registry to register meters with
+         * @param tags      the tags for the subscriber's meters
+         */
+        MicrometerSubscriberMetrics(MeterRegistry registry, Tags tags) {
+            this.registry = registry;
+            this.tags = tags;
+            this.invocations = register(Timer.builder(PREFIX + "invocations")
+                    .description("The time taken by listener method invocations")
+                    .publishPercentileHistogram()
+                    .tags(tags)
+                    .register(registry));
+            this.receiveWait = register(Timer.builder(PREFIX + "receive.wait")
+                    .description("The time receive requests waited for elements")
+                    .tags(tags)
+                    .register(registry));
+        }
+
+        @Override
+        public void receiveWaited(long nanos) {
+            receiveWait.record(nanos, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return true;
+        }
+
+        @Override
+        public void received(int channel) {
+            counter(received, "received", "The number of elements received", channel).increment();
+        }
+
+        @Override
+        public void processed(int channel) {
+            counter(processed, "processed", "The number of elements processed successfully", channel).increment();
+        }
+
+        @Override
+        public void failed(int channel) {
+            counter(failed, "failed", "The number of elements that failed to be processed", channel).increment();
+        }
+
+        @Override
+        public void retried(int channel) {
+            counter(retried, "retried", "The number of element processing retries", channel).increment();
+        }
+
+        @Override
+        public void deadLettered(int channel) {
+            counter(deadLettered, "dead.lettered", "The number of elements sent to the dead letter topic", channel).increment();
+        }
+
+        @Override
+        public void invoked(long nanos) {
+            invocations.record(nanos, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public void committed(int channel, long nanos) {
+            Timer timer = commits.get(channel);
+            if (timer == null) {
+                timer = commits.computeIfAbsent(channel, c -> register(Timer.builder(PREFIX + "commit")
+                        .description("The time taken to commit positions")
+                        .tags(tags.and("channel", String.valueOf(c)))
+                        .register(registry)));
+            }
+            timer.record(nanos, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public void commitFailed(int channel) {
+            counter(commitFailed, "commit.failed", "The number of failed commits", channel).increment();
+        }
+
+        @Override
+        public void bindBacklog(BacklogMonitor backlog) {
+            register(Gauge.builder(PREFIX + "backlog", backlog, BacklogMonitor::getBacklog)
+                    .description("The number of received elements not yet processed and results not yet published")
+                    .tags(tags)
+                    .register(registry));
+        }
+
+        @Override
+        public void bindForwarder(SendToForwarder forwarder) {
+            register(Gauge.builder(PREFIX + "send.outstanding", forwarder, SendToForwarder::getOutstanding)
+                    .description("The number of results waiting to be published to @SendTo topics")
+                    .tags(tags)
+                    .register(registry));
+        }
+
+        @Override
+        public void bindSubscriber(Subscriber<?> subscriber) {
+            int channels = subscriber.getChannelCount();
+            for (int c = 0; c < channels; c++) {
+                int channel = c;
+                register(Gauge.builder(PREFIX + "remaining", subscriber,
+                                s -> s.isActive() ? s.getRemainingMessages(channel) : 0)
+                        .description("The number of messages remaining to be received from the channel")
+                        .tags(tags.and("channel", String.valueOf(channel)))
+                        .register(registry));
+            }
+        }
+
+        @Override
+        public void close() {
+            Meter meter;
+            while ((meter = meters.poll()) != null) {
+                registry.remove(meter);
+            }
+        }
+
+        /**
+         * Record a meter registered for the subscriber, so that it can be removed on close.
+         *
+         * @param meter  the registered meter
+         * @param <M>    the type of the meter
+         *
+         * @return the registered meter
+         */
+        private <M extends Meter> M register(M meter) {
+            meters.add(meter);
+            return meter;
+        }
+
+        /**
+         * Returns the counter for a channel, registering it on first use.
+         *
+         * @param counters     the counters for each channel
+         * @param name         the counter name, without the prefix
+         * @param description  the counter description
+         * @param channel      the channel
+         *
+         * @return the counter for the channel
+         */
+        private Counter counter(Map<Integer, Counter> counters, String name, String description, int channel) {
+            Counter counter = counters.get(channel);
+            if (counter == null) {
+                counter = counters.computeIfAbsent(channel, c -> register(Counter.builder(PREFIX + name)
+                        .description(description)
+                        .tags(tags.and("channel", String.valueOf(c)))
+                        .register(registry)));
+            }
+            return counter;
+        }
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.messaging;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>Flushes and then closes a number of topic resources, such as publishers or subscribers,
+ * concurrently under a single overall deadline.</p>
+ * <p>Every flush is started at once, and any flush that has not completed successfully by the
+ * deadline is counted as dropped. The resources are then closed in parallel, waiting for the
+ * closes for no longer than whatever is left of the deadline. The number of resources flushed and
+ * dropped is logged, and returned, for each topic.</p>
+ *
+ * @author Jonathan Knight
+ * @since 6.0
+ */
+class ParallelShutdown {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ParallelShutdown.class);
+
+    /**
+     * The maximum number of threads used to close resources.
+     */
+    private static final int MAX_CLOSE_THREADS = 16;
+
+    /**
+     * The description of the resources, used when logging.
+     */
+    private final String description;
+
+    /**
+     * The resources to shut down.
+     */
+    private final List<Resource> resources = new ArrayList<>();
+
+    /**
+     * Create a {@link ParallelShutdown}.
+     *
+     * @param description  the description of the resources, used when logging
+     */
+    ParallelShutdown(String description) {
+        this.description = description;
+    }
+
+    /**
+     * Add a resource to shut down.
+     *
+     * @param topicName  the name of the topic the resource belongs to
+     * @param flush      the function that starts flushing the resource
+     * @param close      the function that closes the resource
+     *
+     * @return this {@link ParallelShutdown}
+     */
+    ParallelShutdown add(String topicName, Supplier<? extends CompletableFuture<?>> flush, Runnable close) {
+        resources.add(new Resource(topicName, flush, close));
+        return this;
+    }
+
+    /**
+     * Flush and then close every resource.
+     *
+     * @param timeout  the overall time allowed to flush and close every resource
+     *
+     * @return the counts of flushed and dropped resources for each topic
+     */
+    Map<String, Counts> run(Duration timeout) {
+        Map<String, Counts> counts = new TreeMap<>();
+        if (resources.isEmpty()) {
+            return counts;
+        }
+        long deadline = System.nanoTime() + timeout.toNanos();
+
+        CompletableFuture<?>[] flushes = new CompletableFuture[resources.size()];
+        for (int i = 0; i < flushes.length; i++) {
+            flushes[i] = resources.get(i).flush();
+        }
+        await(CompletableFuture.allOf(flushes), deadline, "flush");
+
+        for (int i = 0; i < flushes.length; i++) {
+            boolean flushed = flushes[i].isDone() && !flushes[i].isCompletedExceptionally();
+            counts.computeIfAbsent(resources.get(i).topicName, name -> new Counts()).add(flushed);
+        }
+
+        AtomicInteger threadId = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(resources.size(), MAX_CLOSE_THREADS), r -> {
+            Thread thread = new Thread(r, "coherence-" + description + "-close-" + threadId.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            CompletableFuture<?>[] closes = new CompletableFuture[resources.size()];
+            for (int i = 0; i < closes.length; i++) {
+                closes[i] = CompletableFuture.runAsync(resources.get(i)::close, executor);
+            }
+            await(CompletableFuture.allOf(closes), deadline, "close");
+        } finally {
+            executor.shutdownNow();
+        }
+
+        counts.forEach((topicName, c) -> {
+            if (c.getDropped() > 0) {
+                LOG.warn("Shut down {} {}(s) for topic {}: {} flushed, {} dropped",
+                        c.getFlushed() + c.getDropped(), description, topicName, c.getFlushed(), c.getDropped());
+            } else {
+                LOG.debug("Shut down {} {}(s) for topic {}: all flushed", c.getFlushed(), description, topicName);
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Wait for a future to complete, for no longer than a deadline.
+     *
+     * @param future    the future to wait for
+     * @param deadline  the {@link System#nanoTime()} deadline
+     * @param action    the action being waited for, used when logging
+     */
+    private void await(CompletableFuture<?> future, long deadline, String action) {
+        try {
+            future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            LOG.error("Timed out waiting to {} every {}", action, description);
+        } catch (InterruptedException e) {
+            LOG.error("Interrupted waiting to {} every {}", action, description);
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // individual failures are logged by each resource
+            LOG.trace("Error waiting to {} every {}", action, description, e);
+        }
+    }
+
+    /**
+     * The counts of flushed and dropped resources for a topic.
+     */
+    static class Counts {
+        private int flushed;
+        private int dropped;
+
+        void add(boolean wasFlushed) {
+            if (wasFlushed) {
+                flushed++;
+            } else {
+                dropped++;
+            }
+        }
+
+        /**
+         * Returns the number of resources that were flushed.
+         *
+         * @return the number of resources that were flushed
+         */
+        int getFlushed() {
+            return flushed;
+        }
+
+        /**
+         * Returns the number of resources that could not be flushed before the deadline.
+         *
+         * @return the number of resources that could not be flushed before the deadline
+         */
+        int getDropped() {
+            return dropped;
+        }
+    }
+
+    /**
+     * A resource to shut down.
+     */
+    private class Resource {
+        private final String topicName;
+        private final Supplier<? extends CompletableFuture<?>> flush;
+        private final Runnable close;
+
+        Resource(String topicName, Supplier<? extends CompletableFuture<?>> flush, Runnable close) {
+            this.topicName = topicName;
+            this.flush = flush;
+            this.close = close;
+        }
+
+        CompletableFuture<?> flush() {
+            try {
+                return flush.get().whenComplete((v, err) -> {
+                    if (err != null) {
+                        LOG.error("Error flushing {} for topic {}", description, topicName, err);
+                    }
+                });
+            } catch (Throwable t) {
+                LOG.error("Error flushing {} for topic {}", description, topicName, t);
+                return CompletableFuture.failedFuture(t);
+            }
+        }
+
+        void close() {
+            try {
+                close.run();
+            } catch (Throwable t) {
+                LOG.error("Error closing {} for topic {}", description, topicName, t);
+            }
+        }
+    }
+}
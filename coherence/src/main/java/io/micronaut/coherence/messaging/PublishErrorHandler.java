@@ -0,0 +1,39 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.messaging;
+
+import io.micronaut.messaging.exceptions.MessagingClientException;
+
+/**
+ * A handler for errors publishing messages from {@link io.micronaut.coherence.annotation.CoherencePublisher}
+ * methods whose {@link io.micronaut.coherence.annotation.CoherencePublisher#ack() ack} mode means that the
+ * caller does not see the result of publishing each message.
+ * <p>Handlers are looked up as beans, so an implementation must be a bean, for example annotated
+ * with {@link jakarta.inject.Singleton}.</p>
+ *
+ * @author Jonathan Knight
+ * @since 6.0
+ */
+@FunctionalInterface
+public interface PublishErrorHandler {
+    /**
+     * Handle the failure to publish a message.
+     *
+     * @param exception  the exception describing the failure
+     * @param message    the message that failed to publish
+     */
+    void handle(MessagingClientException exception, Object message);
+}
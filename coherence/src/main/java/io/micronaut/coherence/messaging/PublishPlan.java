@@ -0,0 +1,495 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.messaging;
+
+import java.lang.reflect.Array;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import com.tangosol.net.Coherence;
+
+import io.micronaut.coherence.annotation.CoherencePublisher;
+import io.micronaut.coherence.annotation.MessageKey;
+import io.micronaut.coherence.annotation.PublishAck;
+import io.micronaut.coherence.annotation.PublishBatch;
+import io.micronaut.coherence.annotation.PublishOrdering;
+import io.micronaut.coherence.annotation.SessionName;
+import io.micronaut.coherence.annotation.Topic;
+import io.micronaut.coherence.annotation.Topics;
+import io.micronaut.coherence.annotation.Utils;
+import io.micronaut.context.BeanContext;
+import io.micronaut.core.async.publisher.Publishers;
+import io.micronaut.core.bind.annotation.Bindable;
+import io.micronaut.core.type.Argument;
+import io.micronaut.core.type.ReturnType;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.inject.ExecutableMethod;
+import io.micronaut.messaging.annotation.MessageBody;
+import io.micronaut.messaging.exceptions.MessagingClientException;
+
+/**
+ * <p>The precomputed plan for publishing the message body of a {@link CoherencePublisher} method.</p>
+ * <p>Everything that depends only on the method, the message body argument, the topic and session
+ * names, the maximum blocking time and how the return type is handled, is resolved once when the plan
+ * is created, so that each invocation only has to read its parameter values and publish.</p>
+ *
+ * @author Jonathan Knight
+ * @since 6.0
+ */
+class PublishPlan {
+    /**
+     * The method the plan is for.
+     */
+    private final ExecutableMethod<?, ?> method;
+
+    /**
+     * The topic name from the method annotations, or {@code null} if there is none.
+     */
+    private final String topicName;
+
+    /**
+     * The indexes of the arguments that override the topic name.
+     */
+    private final int[] topicIndexes;
+
+    /**
+     * The name of the session to publish with.
+     */
+    private final String sessionName;
+
+    /**
+     * The ordering of published messages without a message key.
+     */
+    private final PublishOrdering ordering;
+
+    /**
+     * The order id used with {@link PublishOrdering#ID} ordering.
+     */
+    private final int orderId;
+
+    /**
+     * The number of publishers to pool for each topic.
+     */
+    private final int poolSize;
+
+    /**
+     * The index of the {@link MessageKey} argument, or {@code -1} if there is none.
+     */
+    private final int keyIndex;
+
+    /**
+     * The maximum time to wait for a reactive send, or {@code null} to wait indefinitely.
+     */
+    private final Duration maxBlock;
+
+    /**
+     * The index of the message body argument.
+     */
+    private final int bodyIndex;
+
+    /**
+     * The method return type.
+     */
+    private final Class<?> javaReturnType;
+
+    /**
+     * {@code true} if the method returns a reactive type.
+     */
+    private final boolean reactiveReturnType;
+
+    /**
+     * The generic type of a future return type.
+     */
+    private final Argument<?> returnArgument;
+
+    /**
+     * The maximum number of outstanding publish requests for a batch method,
+     * or zero if the method does not publish a batch.
+     */
+    private final int batchWindow;
+
+    /**
+     * Whether the publisher is flushed at the end of a batch.
+     */
+    private final boolean flushBatch;
+
+    /**
+     * The publisher pool for a fixed topic name, resolved on first use.
+     */
+    private volatile PublisherPool pool;
+
+    /**
+     * How the method waits for published messages to be acknowledged.
+     */
+    private final PublishAck ack;
+
+    /**
+     * The window that caps the messages waiting to be acknowledged, or {@code null}
+     * if each message is acknowledged before the method returns.
+     */
+    private final Semaphore window;
+
+    /**
+     * The type of the error handler bean, or {@code null} to log errors.
+     */
+    private final Class<? extends PublishErrorHandler> errorHandlerType;
+
+    /**
+     * The error handler, resolved on first use.
+     */
+    private volatile PublishErrorHandler errorHandler;
+
+    /**
+     * Create the {@link PublishPlan} for a method.
+     *
+     * @param method  the {@link CoherencePublisher} method
+     *
+     * @throws MessagingClientException if the method does not have a valid message body argument,
+     *                                  or its return type is not supported
+     */
+    PublishPlan(ExecutableMethod<?, ?> method) {
+        this.method = method;
+        this.topicName = Utils.getFirstTopicName(method).orElse(null);
+        this.sessionName = method.stringValue(SessionName.class).orElse(Coherence.DEFAULT_NAME);
+        this.maxBlock = method.getValue(CoherencePublisher.class, "maxBlock", Duration.class).orElse(null);
+        this.ordering = method.enumValue(CoherencePublisher.class, "ordering", PublishOrdering.class)
+                .orElse(PublishOrdering.THREAD);
+        this.orderId = method.intValue(CoherencePublisher.class, "orderId").orElse(0);
+        this.poolSize = method.intValue(CoherencePublisher.class, "poolSize").orElse(1);
+        this.ack = method.enumValue(CoherencePublisher.class, "ack", PublishAck.class)
+                .orElse(PublishAck.PER_MESSAGE);
+        this.window = ack == PublishAck.PER_MESSAGE ? null
+                : new Semaphore(Math.max(1, method.intValue(CoherencePublisher.class, "maxInFlight").orElse(1024)));
+        this.errorHandlerType = method.classValue(CoherencePublisher.class, "errorHandler")
+                .filter(type -> type != PublishErrorHandler.class && PublishErrorHandler.class.isAssignableFrom(type))
+                .map(type -> type.asSubclass(PublishErrorHandler.class))
+                .orElse(null);
+
+        Argument<?>[] arguments = method.getArguments();
+        int[] topics = new int[arguments.length];
+        int topicCount = 0;
+        int body = -1;
+        int key = -1;
+        for (int i = 0; i < arguments.length; i++) {
+            Argument<?> argument = arguments[i];
+            if (argument.isAnnotationPresent(MessageBody.class)) {
+                body = i;
+            } else if (argument.isAnnotationPresent(MessageKey.class)) {
+                key = i;
+            } else if (argument.isAnnotationPresent(Topics.class) || argument.isAnnotationPresent(Topic.class)) {
+                topics[topicCount++] = i;
+            }
+        }
+        this.topicIndexes = Arrays.copyOf(topics, topicCount);
+        this.keyIndex = key;
+
+        if (StringUtils.isEmpty(topicName) && topicCount == 0) {
+            throw new MessagingClientException("No topic specified for method: " + method);
+        }
+
+        if (body < 0) {
+            for (int i = 0; i < arguments.length; i++) {
+                if (!arguments[i].getAnnotationMetadata().hasStereotype(Bindable.class)) {
+                    body = i;
+                    break;
+                }
+            }
+        }
+        if (body < 0) {
+            throw new MessagingClientException("No valid message body argument found for method: " + method);
+        }
+        this.bodyIndex = body;
+
+        if (method.hasAnnotation(PublishBatch.class)) {
+            Class<?> bodyType = arguments[body].getType();
+            if (!Iterable.class.isAssignableFrom(bodyType) && !bodyType.isArray()) {
+                throw new MessagingClientException("The message body of a @PublishBatch method must be an Iterable or an array - " + method);
+            }
+            this.batchWindow = Math.max(1, method.intValue(PublishBatch.class, "window").orElse(256));
+            this.flushBatch = method.booleanValue(PublishBatch.class, "flush").orElse(false);
+        } else {
+            this.batchWindow = 0;
+            this.flushBatch = false;
+        }
+
+        ReturnType<?> returnType = method.getReturnType();
+        this.javaReturnType = returnType.getType();
+        this.reactiveReturnType = Publishers.isConvertibleToPublisher(javaReturnType);
+        this.returnArgument = returnType.getFirstTypeVariable().orElse(Argument.of(Void.class));
+        if (!reactiveReturnType && returnArgument.getType() != Void.class) {
+            throw new MessagingClientException("Generic return type for method must be Void, i.e. CompletableFuture<Void> - " + method);
+        }
+    }
+
+    /**
+     * Returns the message body from the parameter values of an invocation.
+     *
+     * @param parameterValues  the parameter values
+     *
+     * @return the message body
+     */
+    Object body(Object[] parameterValues) {
+        return parameterValues[bodyIndex];
+    }
+
+    /**
+     * Returns {@code true} if the method publishes a batch of messages.
+     *
+     * @return {@code true} if the method publishes a batch of messages
+     */
+    boolean isBatch() {
+        return batchWindow > 0;
+    }
+
+    /**
+     * Returns the maximum number of outstanding publish requests for a batch.
+     *
+     * @return the maximum number of outstanding publish requests for a batch
+     */
+    int batchWindow() {
+        return batchWindow;
+    }
+
+    /**
+     * Returns {@code true} if the publisher is flushed at the end of a batch.
+     *
+     * @return {@code true} if the publisher is flushed at the end of a batch
+     */
+    boolean isFlushBatch() {
+        return flushBatch;
+    }
+
+    /**
+     * Returns how the method waits for published messages to be acknowledged.
+     *
+     * @return how the method waits for published messages to be acknowledged
+     */
+    PublishAck ack() {
+        return ack;
+    }
+
+    /**
+     * Acquire a place in the window of messages waiting to be acknowledged, waiting
+     * for up to the maximum blocking time if the window is full.
+     *
+     * @throws MessagingClientException if the window is still full after the maximum blocking
+     *                                  time, or the calling thread is interrupted
+     */
+    void acquire() {
+        if (window == null || window.tryAcquire()) {
+            return;
+        }
+        try {
+            if (maxBlock == null) {
+                window.acquire();
+            } else if (!window.tryAcquire(maxBlock.toNanos(), TimeUnit.NANOSECONDS)) {
+                throw new MessagingClientException("Timed out after " + maxBlock
+                        + " waiting for in-flight messages to be acknowledged for method: " + method);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MessagingClientException("Interrupted waiting for in-flight messages to be acknowledged for method: "
+                    + method, e);
+        }
+    }
+
+    /**
+     * Acquire a place in the window of messages waiting to be acknowledged, if one is free.
+     *
+     * @return {@code true} if a place was acquired, or {@code false} if the window is full
+     */
+    boolean tryAcquire() {
+        return window == null || window.tryAcquire();
+    }
+
+    /**
+     * Release a place in the window of messages waiting to be acknowledged.
+     */
+    void release() {
+        if (window != null) {
+            window.release();
+        }
+    }
+
+    /**
+     * Returns the error handler for messages that fail to publish.
+     *
+     * @param beanContext  the bean context to look up the error handler bean in
+     *
+     * @return the error handler, or {@code null} if errors should just be logged
+     */
+    PublishErrorHandler errorHandler(BeanContext beanContext) {
+        if (errorHandlerType == null) {
+            return null;
+        }
+        PublishErrorHandler handler = errorHandler;
+        if (handler == null) {
+            handler = beanContext.getBean(errorHandlerType);
+            errorHandler = handler;
+        }
+        return handler;
+    }
+
+    /**
+     * Returns an iterator over the messages in a batch message body.
+     *
+     * @param body  the batch message body
+     *
+     * @return an iterator over the messages in the batch
+     */
+    Iterator<?> batchValues(Object body) {
+        if (body == null) {
+            return Collections.emptyIterator();
+        }
+        if (body instanceof Iterable<?> iterable) {
+            return iterable.iterator();
+        }
+        if (body instanceof Object[] array) {
+            return Arrays.asList(array).iterator();
+        }
+        int length = Array.getLength(body);
+        List<Object> values = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            values.add(Array.get(body, i));
+        }
+        return values.iterator();
+    }
+
+    /**
+     * Returns the acquired publisher pool to publish an invocation's message body with.
+     * <p>If the method has a {@link MessageKey} parameter with a non-null value, the message is
+     * published with a publisher ordered by an id derived from the key, so that messages with the
+     * same key are published to the same channel.</p>
+     *
+     * <p>Publisher pools for a topic name fixed by the {@link Topic} annotation are pinned
+     * in the cache, while pools for topic names passed as arguments may be evicted. The caller
+     * must {@link PublisherPool#release() release} the pool once its publishes have completed,
+     * so that an evicted pool is not closed while it is still in use.</p>
+     *
+     * @param parameterValues  the parameter values
+     * @param cache            the cache of publisher pools
+     *
+     * @return the acquired publisher pool to publish the message body with
+     *
+     * @throws MessagingClientException if no topic name is specified
+     */
+    PublisherPool acquirePublishers(Object[] parameterValues, PublisherCache cache) {
+        Object key = keyIndex < 0 ? null : parameterValues[keyIndex];
+        if (topicIndexes.length == 0) {
+            PublisherPool p = pool;
+            if (key != null) {
+                if (p == null) {
+                    p = cache.get(fixedTopicKey(), true);
+                    pool = p;
+                }
+                return keyed(topicName, key, p.getChannelCount(), cache, true);
+            }
+            if (p == null || !p.acquire()) {
+                // the pool has not been looked up yet, or it was retired when the cache was closed
+                p = cache.acquire(fixedTopicKey(), true);
+                pool = p;
+            }
+            return p;
+        }
+
+        String name = topicName;
+        for (int index : topicIndexes) {
+            Object o = parameterValues[index];
+            if (o != null) {
+                name = o.toString();
+            }
+        }
+        if (StringUtils.isEmpty(name)) {
+            throw new MessagingClientException("No topic specified for method: " + method);
+        }
+
+        TopicKey topicKey = new TopicKey(name, sessionName, ordering, orderId, poolSize);
+        if (key != null) {
+            return keyed(name, key, cache.get(topicKey, false).getChannelCount(), cache, false);
+        }
+        return cache.acquire(topicKey, false);
+    }
+
+    /**
+     * Returns the key of the publisher pool for the topic name fixed by the {@link Topic} annotation.
+     *
+     * @return the key of the publisher pool for the fixed topic name
+     */
+    private TopicKey fixedTopicKey() {
+        return new TopicKey(topicName, sessionName, ordering, orderId, poolSize);
+    }
+
+    /**
+     * Returns the acquired publisher pool for a message key, which is ordered by an id derived from the key.
+     *
+     * <p>The id is the key's hash modulo the topic's channel count, so there are never more
+     * keyed publishers for a topic than it has channels.</p>
+     *
+     * @param name          the topic name
+     * @param key           the message key
+     * @param channelCount  the topic's channel count
+     * @param cache         the cache of publisher pools
+     * @param pin           {@code true} to pin the publisher pool in the cache
+     *
+     * @return the acquired publisher pool for the message key
+     */
+    private PublisherPool keyed(String name, Object key, int channelCount, PublisherCache cache, boolean pin) {
+        int id = Math.floorMod(key.hashCode(), channelCount);
+        return cache.acquire(new TopicKey(name, sessionName, PublishOrdering.ID, id, 1), pin);
+    }
+
+    /**
+     * Returns the maximum time to wait for a reactive send.
+     *
+     * @return the maximum time to wait for a reactive send, or {@code null} to wait indefinitely
+     */
+    Duration maxBlock() {
+        return maxBlock;
+    }
+
+    /**
+     * Returns the method return type.
+     *
+     * @return the method return type
+     */
+    Class<?> javaReturnType() {
+        return javaReturnType;
+    }
+
+    /**
+     * Returns {@code true} if the method returns a reactive type.
+     *
+     * @return {@code true} if the method returns a reactive type
+     */
+    boolean isReactiveReturnType() {
+        return reactiveReturnType;
+    }
+
+    /**
+     * Returns the generic type of a future return type.
+     *
+     * @return the generic type of a future return type
+     */
+    Argument<?> returnArgument() {
+        return returnArgument;
+    }
+}
@@ -0,0 +1,348 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.messaging;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import io.micronaut.scheduling.TaskScheduler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>A cache of {@link PublisherPool publisher pools}, keyed by {@link TopicKey}.</p>
+ * <p>Pools for topic names that are fixed by a {@link io.micronaut.coherence.annotation.Topic @Topic}
+ * annotation are pinned in the cache, as there can only ever be a few of them. Pools for topic names
+ * that are passed as method arguments are bounded, both by a maximum size, beyond which the least
+ * recently used pool is evicted, and by a time-to-idle, after which an unused pool is evicted.
+ * Evicted pools are flushed and closed once every caller that {@link #acquire(TopicKey, boolean) acquired}
+ * them has released them.</p>
+ * <p>New pools are created outside any lock, so a slow remote publisher creation never blocks lookups
+ * of other topics; if two callers race to create the same pool, the loser's pool is closed.</p>
+ *
+ * @author Jonathan Knight
+ * @since 6.0
+ */
+class PublisherCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PublisherCache.class);
+
+    /**
+     * The function that creates the pool for a {@link TopicKey}.
+     */
+    private final Function<TopicKey, PublisherPool> factory;
+
+    /**
+     * The maximum number of unpinned pools, or zero for no maximum.
+     */
+    private final int maxSize;
+
+    /**
+     * The time after which an unused, unpinned pool is evicted, or {@code null} to never evict idle pools.
+     */
+    private final Duration timeToIdle;
+
+    /**
+     * The pinned pools.
+     */
+    private final Map<TopicKey, PublisherPool> pinned = new ConcurrentHashMap<>();
+
+    /**
+     * The unpinned pools, in access order so that the eldest entry is the least recently used.
+     * Guarded by its own monitor.
+     */
+    private final LinkedHashMap<TopicKey, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * The number of lookups that found an existing pool.
+     */
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * The number of lookups that created a new pool.
+     */
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * The number of evicted pools.
+     */
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * The periodic idle eviction task.
+     */
+    private volatile ScheduledFuture<?> idleEviction;
+
+    /**
+     * Create a {@link PublisherCache}.
+     *
+     * @param factory     the function that creates the pool for a {@link TopicKey}
+     * @param maxSize     the maximum number of unpinned pools, zero or less for no maximum
+     * @param timeToIdle  the time after which an unused, unpinned pool is evicted, a zero or
+     *                    negative duration never evicts idle pools
+     */
+    PublisherCache(Function<TopicKey, PublisherPool> factory, int maxSize, Duration timeToIdle) {
+        this.factory = factory;
+        this.maxSize = Math.max(0, maxSize);
+        this.timeToIdle = timeToIdle == null || timeToIdle.isZero() || timeToIdle.isNegative() ? null : timeToIdle;
+    }
+
+    /**
+     * Start periodically evicting idle pools.
+     *
+     * @param taskScheduler  the scheduler used to run the periodic eviction
+     */
+    void start(TaskScheduler taskScheduler) {
+        if (timeToIdle != null) {
+            Duration interval = timeToIdle.dividedBy(2);
+            if (interval.compareTo(Duration.ofSeconds(1)) < 0) {
+                interval = Duration.ofSeconds(1);
+            }
+            idleEviction = taskScheduler.scheduleAtFixedRate(interval, interval, this::evictIdle);
+        }
+    }
+
+    /**
+     * Returns the pool for a {@link TopicKey}, creating it if it is not already cached.
+     *
+     * @param key     the {@link TopicKey}
+     * @param pin     {@code true} to pin the pool in the cache so that it is never evicted
+     *
+     * @return the pool for the {@link TopicKey}
+     */
+    PublisherPool get(TopicKey key, boolean pin) {
+        if (pin) {
+            PublisherPool pool = pinned.get(key);
+            if (pool != null) {
+                hits.increment();
+                return pool;
+            }
+            PublisherPool created = create(key);
+            pool = pinned.putIfAbsent(key, created);
+            if (pool != null) {
+                created.close();
+                return pool;
+            }
+            return created;
+        }
+
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                hits.increment();
+                entry.touch();
+                return entry.pool;
+            }
+        }
+
+        PublisherPool created = create(key);
+        List<Entry> evicted = new ArrayList<>();
+        PublisherPool pool;
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                entries.put(key, new Entry(key, created));
+                pool = created;
+                if (maxSize > 0) {
+                    Iterator<Entry> it = entries.values().iterator();
+                    while (entries.size() > maxSize && it.hasNext()) {
+                        evicted.add(it.next());
+                        it.remove();
+                    }
+                }
+            } else {
+                entry.touch();
+                pool = entry.pool;
+            }
+        }
+        if (pool != created) {
+            created.close();
+        }
+        evicted.forEach(this::retire);
+        return pool;
+    }
+
+    /**
+     * Returns the {@link PublisherPool#acquire() acquired} pool for a {@link TopicKey}, creating it if
+     * it is not already cached. If the cached pool is evicted before it can be acquired, it is looked up
+     * again. The caller must {@link PublisherPool#release() release} the pool when it has finished with it.
+     *
+     * @param key     the {@link TopicKey}
+     * @param pin     {@code true} to pin the pool in the cache so that it is never evicted
+     *
+     * @return the acquired pool for the {@link TopicKey}
+     */
+    PublisherPool acquire(TopicKey key, boolean pin) {
+        while (true) {
+            PublisherPool pool = get(key, pin);
+            if (pool.acquire()) {
+                return pool;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of lookups that found an existing pool.
+     *
+     * @return the number of lookups that found an existing pool
+     */
+    long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that created a new pool.
+     *
+     * @return the number of lookups that created a new pool
+     */
+    long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of evicted pools.
+     *
+     * @return the number of evicted pools
+     */
+    long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Returns the number of cached pools.
+     *
+     * @return the number of cached pools
+     */
+    int size() {
+        synchronized (entries) {
+            return pinned.size() + entries.size();
+        }
+    }
+
+    /**
+     * Evict every unpinned pool that has not been used for the time-to-idle.
+     */
+    void evictIdle() {
+        if (timeToIdle == null) {
+            return;
+        }
+        long cutoff = System.nanoTime() - timeToIdle.toNanos();
+        List<Entry> evicted = new ArrayList<>();
+        synchronized (entries) {
+            // entries are in access order, so stop at the first one that has been used since the cutoff
+            Iterator<Entry> it = entries.values().iterator();
+            while (it.hasNext()) {
+                Entry entry = it.next();
+                if (entry.lastUsed - cutoff >= 0) {
+                    break;
+                }
+                evicted.add(entry);
+                it.remove();
+            }
+        }
+        evicted.forEach(this::retire);
+    }
+
+    /**
+     * Stop evicting idle pools, then flush and close every cached pool concurrently.
+     *
+     * @param timeout  the overall time allowed to flush and close every pool
+     *
+     * @return the counts of flushed and dropped publisher pools for each topic
+     */
+    Map<String, ParallelShutdown.Counts> close(Duration timeout) {
+        ScheduledFuture<?> future = idleEviction;
+        if (future != null) {
+            future.cancel(false);
+        }
+
+        ParallelShutdown shutdown = new ParallelShutdown("publisher");
+        pinned.forEach((key, pool) -> shutdown.add(key.getTopicName(), pool::flush, pool::close));
+        pinned.clear();
+        synchronized (entries) {
+            entries.forEach((key, entry) -> shutdown.add(key.getTopicName(), entry.pool::flush, entry.pool::close));
+            entries.clear();
+        }
+        return shutdown.run(timeout);
+    }
+
+    /**
+     * Create the pool for a {@link TopicKey}.
+     *
+     * @param key  the {@link TopicKey}
+     *
+     * @return the new pool
+     */
+    private PublisherPool create(TopicKey key) {
+        misses.increment();
+        return factory.apply(key);
+    }
+
+    /**
+     * Retire a pool that has been removed from the cache, flushing it and then closing it once it is
+     * no longer in use.
+     *
+     * @param entry  the removed cache entry
+     */
+    private void retire(Entry entry) {
+        TopicKey key = entry.key;
+        evictions.increment();
+        LOG.debug("Evicting publishers for topic {} from session {}", key.getTopicName(), key.getSessionName());
+        entry.pool.retire().thenCompose(ignored -> entry.pool.flush()).whenComplete((ignored, error) -> {
+            if (error != null) {
+                LOG.error("Error flushing evicted publisher", error);
+            }
+            entry.pool.close();
+        });
+    }
+
+    /**
+     * A cached unpinned pool.
+     */
+    private static class Entry {
+        /**
+         * The key of the cached pool.
+         */
+        private final TopicKey key;
+
+        /**
+         * The cached pool.
+         */
+        private final PublisherPool pool;
+
+        /**
+         * The {@link System#nanoTime()} the pool was last used, guarded by the monitor of the entries map.
+         */
+        private long lastUsed = System.nanoTime();
+
+        Entry(TopicKey key, PublisherPool pool) {
+            this.key = key;
+            this.pool = pool;
+        }
+
+        void touch() {
+            lastUsed = System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.messaging;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import com.tangosol.net.topic.Publisher;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>A fixed size pool of {@link Publisher publishers} for the same topic.</p>
+ * <p>Publishing threads are striped across the pool by thread id, so that many threads
+ * publishing concurrently are not all contending on a single publisher, while the messages
+ * published by any one thread still all go through the same publisher, in order.</p>
+ * <p>Callers {@link #acquire() acquire} a pool before publishing with it and {@link #release() release}
+ * it once their publishes have completed, so that a pool that is {@link #retire() retired} is only
+ * flushed and closed after every caller still using it has finished.</p>
+ *
+ * @author Jonathan Knight
+ * @since 6.0
+ */
+class PublisherPool {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PublisherPool.class);
+
+    /**
+     * The publishers in the pool.
+     */
+    private final Publisher<Object>[] publishers;
+
+    /**
+     * The {@link SharedFlush} for each publisher in the pool.
+     */
+    private final SharedFlush[] sharedFlushes;
+
+    /**
+     * The topic's channel count, read once when the pool is created.
+     */
+    private final int channelCount;
+
+    /**
+     * The number of callers currently using the pool.
+     */
+    private final AtomicInteger leases = new AtomicInteger();
+
+    /**
+     * The future that completes when a retired pool is no longer used.
+     */
+    private final CompletableFuture<Void> released = new CompletableFuture<>();
+
+    /**
+     * {@code true} once the pool has been retired.
+     */
+    private volatile boolean retired;
+
+    /**
+     * Create a {@link PublisherPool}.
+     *
+     * @param size     the number of publishers in the pool
+     * @param factory  the factory that creates each publisher
+     */
+    @SuppressWarnings("unchecked")
+    PublisherPool(int size, Supplier<Publisher<Object>> factory) {
+        this.publishers = new Publisher[Math.max(1, size)];
+        this.sharedFlushes = new SharedFlush[publishers.length];
+        for (int i = 0; i < publishers.length; i++) {
+            publishers[i] = factory.get();
+            sharedFlushes[i] = new SharedFlush(publishers[i]);
+        }
+        this.channelCount = Math.max(1, publishers[0].getChannelCount());
+    }
+
+    /**
+     * Acquire the pool for publishing, which must be followed by a call to {@link #release()}.
+     *
+     * @return {@code true} if the pool was acquired, or {@code false} if it has been retired
+     */
+    boolean acquire() {
+        leases.incrementAndGet();
+        if (retired) {
+            release();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Release a pool previously {@link #acquire() acquired}.
+     */
+    void release() {
+        if (leases.decrementAndGet() == 0 && retired) {
+            released.complete(null);
+        }
+    }
+
+    /**
+     * Retire the pool so that it can no longer be acquired.
+     *
+     * @return a future that completes when every caller that acquired the pool has released it
+     */
+    CompletableFuture<Void> retire() {
+        retired = true;
+        if (leases.get() == 0) {
+            released.complete(null);
+        }
+        return released;
+    }
+
+    /**
+     * Returns the publisher for the calling thread.
+     *
+     * @return the publisher for the calling thread
+     */
+    @SuppressWarnings("deprecation")
+    Publisher<Object> select() {
+        if (publishers.length == 1) {
+            return publishers[0];
+        }
+        return publishers[(int) Math.floorMod(Thread.currentThread().getId(), (long) publishers.length)];
+    }
+
+    /**
+     * Returns the channel count of the pool's topic, without making a remote call.
+     *
+     * @return the channel count of the pool's topic
+     */
+    int getChannelCount() {
+        return channelCount;
+    }
+
+    /**
+     * Returns the number of publishers in the pool.
+     *
+     * @return the number of publishers in the pool
+     */
+    int size() {
+        return publishers.length;
+    }
+
+    /**
+     * Flush every publisher in the pool.
+     *
+     * @return a future that completes when every publisher has been flushed
+     */
+    CompletableFuture<Void> flush() {
+        if (publishers.length == 1) {
+            return publishers[0].flush();
+        }
+        CompletableFuture<?>[] futures = new CompletableFuture[publishers.length];
+        for (int i = 0; i < publishers.length; i++) {
+            futures[i] = publishers[i].flush();
+        }
+        return CompletableFuture.allOf(futures);
+    }
+
+    /**
+     * Flush one of the pool's publishers, sharing the flush with any other callers
+     * flushing the same publisher.
+     *
+     * @param publisher  a publisher {@link #select() selected} from this pool
+     *
+     * @return a future that completes when every message published to the publisher before
+     *         this call has been acknowledged
+     *
+     * @see SharedFlush
+     */
+    CompletableFuture<Void> sharedFlush(Publisher<Object> publisher) {
+        for (int i = 0; i < publishers.length; i++) {
+            if (publishers[i] == publisher) {
+                return sharedFlushes[i].flush();
+            }
+        }
+        return publisher.flush();
+    }
+
+    /**
+     * Close every publisher in the pool.
+     */
+    void close() {
+        for (Publisher<Object> publisher : publishers) {
+            try {
+                publisher.close();
+            } catch (Exception e) {
+                LOG.error("Error closing publisher", e);
+            }
+        }
+    }
+}
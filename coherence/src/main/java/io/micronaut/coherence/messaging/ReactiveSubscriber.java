@@ -0,0 +1,81 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.messaging;
+
+import com.tangosol.net.topic.Subscriber;
+
+import io.micronaut.coherence.annotation.CommitStrategy;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+
+/**
+ * <p>A Reactive Streams {@link Publisher} of the elements received from a topic
+ * {@link Subscriber}.</p>
+ * <p>Downstream demand is translated into {@link Subscriber#receive(int)} calls, so elements
+ * are only received from the topic as fast as they are requested. A {@link ReactiveSubscriber}
+ * can be injected in the same way as a {@link Subscriber}, the way elements are received and
+ * committed is configured with the {@link io.micronaut.coherence.annotation.SubscriberOptions}
+ * annotation.</p>
+ *
+ * @param <V>  the type of the topic values
+ *
+ * @author Jonathan Knight
+ * @since 6.0
+ */
+public interface ReactiveSubscriber<V> extends Publisher<Subscriber.Element<V>>, AutoCloseable {
+    /**
+     * Returns a {@link Flux} of the elements received from the topic.
+     *
+     * @return a {@link Flux} of the elements received from the topic
+     */
+    Flux<Subscriber.Element<V>> elements();
+
+    /**
+     * Returns a {@link Flux} of the values received from the topic.
+     *
+     * @return a {@link Flux} of the values received from the topic
+     */
+    default Flux<V> values() {
+        return elements().map(Subscriber.Element::getValue);
+    }
+
+    /**
+     * Returns the underlying topic {@link Subscriber}.
+     *
+     * @return the underlying topic {@link Subscriber}
+     */
+    Subscriber<V> getSubscriber();
+
+    /**
+     * Close the underlying topic {@link Subscriber}, completing any subscriptions.
+     */
+    @Override
+    void close();
+
+    /**
+     * Create a {@link ReactiveSubscriber}.
+     *
+     * @param subscriber      the topic {@link Subscriber} to receive elements from
+     * @param commitStrategy  the strategy used to commit received elements
+     * @param maxBatchSize    the maximum number of elements to receive in a single request
+     * @param <V>             the type of the topic values
+     *
+     * @return a {@link ReactiveSubscriber} for the topic {@link Subscriber}
+     */
+    static <V> ReactiveSubscriber<V> create(Subscriber<V> subscriber, CommitStrategy commitStrategy, int maxBatchSize) {
+        return new DefaultReactiveSubscriber<>(subscriber, commitStrategy, maxBatchSize);
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.messaging;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+
+import com.tangosol.net.topic.Publisher;
+import com.tangosol.net.topic.Subscriber;
+import com.tangosol.util.Binary;
+
+import io.micronaut.scheduling.TaskScheduler;
+
+/**
+ * <p>The policy used by a {@link TopicSubscriber} when a listener method invocation fails.</p>
+ * <p>A failed invocation is retried up to a number of times, after a delay that grows exponentially
+ * up to a maximum delay. Retries are scheduled with a {@link TaskScheduler} so no thread is blocked
+ * while waiting. Once every retry has failed the elements can be published to a dead letter topic.</p>
+ *
+ * @author Jonathan Knight
+ * @since 6.0
+ */
+class RetryPolicy {
+    /**
+     * A policy that never retries and has no dead letter topic.
+     */
+    static final RetryPolicy NONE = new RetryPolicy(0, Duration.ZERO, 1.0d, Duration.ZERO, null, null);
+
+    /**
+     * The maximum number of retries.
+     */
+    private final int attempts;
+
+    /**
+     * The delay before the first retry.
+     */
+    private final long delayMillis;
+
+    /**
+     * The multiplier applied to the delay after each retry.
+     */
+    private final double multiplier;
+
+    /**
+     * The maximum delay between retries.
+     */
+    private final long maxDelayMillis;
+
+    /**
+     * The scheduler used to run retries.
+     */
+    private final TaskScheduler taskScheduler;
+
+    /**
+     * The publisher for the dead letter topic, or {@code null} if there is no dead letter topic.
+     */
+    private final Publisher<Binary> deadLetterPublisher;
+
+    /**
+     * Create a {@link RetryPolicy}.
+     *
+     * @param attempts             the maximum number of retries
+     * @param delay                the delay before the first retry
+     * @param multiplier           the multiplier applied to the delay after each retry
+     * @param maxDelay             the maximum delay between retries
+     * @param taskScheduler        the scheduler used to run retries
+     * @param deadLetterPublisher  the publisher for the dead letter topic, or {@code null} if there is
+     *                             no dead letter topic
+     */
+    RetryPolicy(int attempts, Duration delay, double multiplier, Duration maxDelay, TaskScheduler taskScheduler,
+                Publisher<Binary> deadLetterPublisher) {
+        this.attempts = taskScheduler == null ? 0 : Math.max(0, attempts);
+        this.delayMillis = Math.max(0L, delay.toMillis());
+        this.multiplier = Math.max(1.0d, multiplier);
+        this.maxDelayMillis = Math.max(delayMillis, maxDelay.toMillis());
+        this.taskScheduler = taskScheduler;
+        this.deadLetterPublisher = deadLetterPublisher;
+    }
+
+    /**
+     * Returns {@code true} if a failed attempt should be retried.
+     *
+     * @param attempt  the number of retries already made
+     * @param error    the error from the failed attempt
+     *
+     * @return {@code true} if a failed attempt should be retried
+     */
+    boolean canRetry(int attempt, Throwable error) {
+        return attempt < attempts && !(error instanceof CancellationException);
+    }
+
+    /**
+     * Returns the delay before a retry.
+     *
+     * @param attempt  the number of retries already made
+     *
+     * @return the delay before the retry
+     */
+    Duration delay(int attempt) {
+        double delay = delayMillis * Math.pow(multiplier, attempt);
+        return Duration.ofMillis((long) Math.min(delay, maxDelayMillis));
+    }
+
+    /**
+     * Schedule a retry.
+     *
+     * @param attempt  the number of retries already made
+     * @param retry    the task that makes the retry
+     */
+    void schedule(int attempt, Runnable retry) {
+        taskScheduler.schedule(delay(attempt), retry);
+    }
+
+    /**
+     * Returns {@code true} if failed elements are sent to a dead letter topic.
+     *
+     * @return {@code true} if failed elements are sent to a dead letter topic
+     */
+    boolean hasDeadLetterTopic() {
+        return deadLetterPublisher != null;
+    }
+
+    /**
+     * Publish the serialized values of elements to the dead letter topic.
+     *
+     * @param elements  the elements to publish
+     *
+     * @return a future that completes when every element has been published
+     */
+    CompletableFuture<Void> deadLetter(List<? extends Subscriber.Element<?>> elements) {
+        CompletableFuture<?>[] futures = new CompletableFuture[elements.size()];
+        for (int i = 0; i < futures.length; i++) {
+            futures[i] = deadLetterPublisher.publish(elements.get(i).getBinaryValue());
+        }
+        return CompletableFuture.allOf(futures);
+    }
+}
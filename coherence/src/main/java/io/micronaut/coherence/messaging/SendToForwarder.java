@@ -0,0 +1,304 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.messaging;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.tangosol.net.topic.Publisher;
+
+import io.micronaut.inject.ExecutableMethod;
+import org.reactivestreams.Subscription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+
+/**
+ * <p>Forwards the results of a {@link io.micronaut.coherence.annotation.CoherenceTopicListener}
+ * method to its {@link io.micronaut.messaging.annotation.SendTo} topic publishers.</p>
+ * <p>Values from a reactive result are published to every publisher as they arrive, keeping a
+ * bounded window of values in flight. Rather than waiting on each individual publish future, the
+ * publishers are flushed once per batch of values and further values are requested from the result
+ * as each batch completes, so forwarding costs a handful of allocations per batch rather than a
+ * reactive pipeline per value.</p>
+ *
+ * @author Jonathan Knight
+ * @since 6.0
+ */
+class SendToForwarder {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SendToForwarder.class);
+
+    /**
+     * The publishers to forward results to.
+     */
+    private final Publisher<Object>[] publishers;
+
+    /**
+     * The maximum number of values waiting to be published.
+     */
+    private final int window;
+
+    /**
+     * The number of values published before the publishers are flushed.
+     */
+    private final int batchSize;
+
+    /**
+     * The listener method, used for logging.
+     */
+    private final ExecutableMethod<?, ?> method;
+
+    /**
+     * The backlog that values waiting to be published are counted in.
+     */
+    private final BacklogMonitor backlog;
+
+    /**
+     * The number of values waiting to be published.
+     */
+    private final AtomicInteger outstanding = new AtomicInteger();
+
+    /**
+     * Create a {@link SendToForwarder}.
+     *
+     * @param publishers   the publishers to forward results to
+     * @param window       the maximum number of values waiting to be published
+     * @param method       the listener method
+     * @param backlog      the backlog that values waiting to be published are counted in
+     */
+    @SuppressWarnings("unchecked")
+    SendToForwarder(Publisher<?>[] publishers, int window, ExecutableMethod<?, ?> method, BacklogMonitor backlog) {
+        this.publishers = (Publisher<Object>[]) publishers;
+        this.window = Math.max(1, window);
+        this.batchSize = Math.max(1, this.window / 2);
+        this.method = method;
+        this.backlog = backlog;
+    }
+
+    /**
+     * Returns the number of values waiting to be published.
+     *
+     * @return the number of values waiting to be published
+     */
+    int getOutstanding() {
+        return outstanding.get();
+    }
+
+    /**
+     * Publish a single value to every active publisher.
+     *
+     * @param value  the value to publish
+     */
+    void forwardValue(Object value) {
+        backlog.add(1);
+        outstanding.incrementAndGet();
+        CompletableFuture<?> future;
+        if (publishers.length == 1) {
+            future = publish(publishers[0], value);
+        } else {
+            CompletableFuture<?>[] futures = new CompletableFuture[publishers.length];
+            for (int i = 0; i < publishers.length; i++) {
+                futures[i] = publish(publishers[i], value);
+            }
+            future = CompletableFuture.allOf(futures);
+        }
+        future.whenComplete((v, err) -> {
+            if (err != null) {
+                LOG.error("Error publishing result from method {}", method, err);
+            }
+            outstanding.decrementAndGet();
+            backlog.remove(1);
+        });
+    }
+
+    /**
+     * Publish every value of a reactive result to every active publisher.
+     *
+     * @param result  the reactive result
+     *
+     * @return a future that completes when every value has been published
+     */
+    CompletableFuture<Void> forwardResult(Flux<?> result) {
+        Forwarding forwarding = new Forwarding();
+        result.subscribe(forwarding);
+        return forwarding.done;
+    }
+
+    /**
+     * Publish a value to a publisher if it is active.
+     *
+     * @param publisher  the publisher
+     * @param value      the value to publish
+     *
+     * @return the future for the publish request
+     */
+    private static CompletableFuture<?> publish(Publisher<Object> publisher, Object value) {
+        return publisher.isActive() ? publisher.publish(value) : CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Flush every active publisher.
+     *
+     * @return a future that completes when every publisher has been flushed
+     */
+    private CompletableFuture<Void> flush() {
+        if (publishers.length == 1) {
+            return publishers[0].isActive() ? publishers[0].flush() : CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<?>[] futures = new CompletableFuture[publishers.length];
+        for (int i = 0; i < publishers.length; i++) {
+            futures[i] = publishers[i].isActive() ? publishers[i].flush() : CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.allOf(futures);
+    }
+
+    /**
+     * The subscriber that forwards the values of a single reactive result.
+     * <p>The current batch is guarded by the subscriber's monitor, as a failed flush cancels
+     * the subscriber on the flush completion thread while values may still be arriving.</p>
+     */
+    private class Forwarding extends BaseSubscriber<Object> {
+        /**
+         * The future completed when every value has been published.
+         */
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+        /**
+         * The number of batches being flushed, plus one until the result terminates.
+         */
+        private final AtomicInteger pending = new AtomicInteger(1);
+
+        /**
+         * The publish futures for the current batch.
+         */
+        private CompletableFuture<?>[] batch = new CompletableFuture[batchSize * publishers.length];
+
+        /**
+         * The number of publish futures in the current batch.
+         */
+        private int futureCount;
+
+        /**
+         * The number of values in the current batch.
+         */
+        private int valueCount;
+
+        /**
+         * {@code true} once the subscriber has been cancelled, after which values are ignored.
+         */
+        private boolean cancelled;
+
+        @Override
+        protected void hookOnSubscribe(Subscription subscription) {
+            request(window);
+        }
+
+        @Override
+        protected synchronized void hookOnNext(Object value) {
+            if (cancelled) {
+                return;
+            }
+            backlog.add(1);
+            outstanding.incrementAndGet();
+            for (Publisher<Object> publisher : publishers) {
+                batch[futureCount++] = publish(publisher, value);
+            }
+            if (++valueCount == batchSize) {
+                flushBatch();
+            }
+        }
+
+        @Override
+        protected void hookOnComplete() {
+            synchronized (this) {
+                flushBatch();
+            }
+            terminated();
+        }
+
+        @Override
+        protected void hookOnError(Throwable throwable) {
+            LOG.error("Error processing result from method {}", method, throwable);
+            synchronized (this) {
+                flushBatch();
+            }
+            terminated();
+        }
+
+        @Override
+        protected void hookOnCancel() {
+            synchronized (this) {
+                // the values in the current batch will never be flushed, so stop counting them
+                cancelled = true;
+                if (valueCount > 0) {
+                    outstanding.addAndGet(-valueCount);
+                    backlog.remove(valueCount);
+                    futureCount = 0;
+                    valueCount = 0;
+                }
+            }
+            terminated();
+        }
+
+        /**
+         * Flush the publishers for the current batch and request the next batch of
+         * values once the flush completes, which must be called while holding this
+         * subscriber's monitor.
+         */
+        private void flushBatch() {
+            if (valueCount == 0) {
+                return;
+            }
+            CompletableFuture<?>[] futures = batch;
+            int size = futureCount;
+            int values = valueCount;
+            batch = new CompletableFuture[batchSize * publishers.length];
+            futureCount = 0;
+            valueCount = 0;
+            pending.incrementAndGet();
+
+            flush().whenComplete((v, flushError) -> {
+                Throwable error = flushError;
+                for (int i = 0; i < size && error == null; i++) {
+                    if (futures[i].isCompletedExceptionally()) {
+                        error = futures[i].handle((r, e) -> e).join();
+                    }
+                }
+                outstanding.addAndGet(-values);
+                backlog.remove(values);
+                if (error != null) {
+                    LOG.error("Error publishing result from method {}", method, error);
+                    cancel();
+                } else if (!isDisposed()) {
+                    request(values);
+                }
+                terminated();
+            });
+        }
+
+        /**
+         * Complete the {@link #done} future once the result has terminated
+         * and every batch has been flushed.
+         */
+        private void terminated() {
+            if (pending.decrementAndGet() == 0) {
+                done.complete(null);
+            }
+        }
+    }
+}
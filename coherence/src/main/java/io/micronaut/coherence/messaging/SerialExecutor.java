@@ -0,0 +1,130 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.messaging;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+import io.micronaut.core.annotation.Internal;
+
+/**
+ * <p>An {@link Executor} that runs submitted tasks one at a time, in submission order,
+ * on a delegate {@link Executor}.</p>
+ * <p>Once running, the executor drains every queued task before it gives up its thread,
+ * so that a busy executor is not resubmitted to the delegate for every task. If the delegate
+ * rejects the executor, because it has been shut down, the tasks run on the submitting thread.</p>
+ * <p>Tasks that complete asynchronously can be submitted with {@link #executeAsync(Supplier)},
+ * in which case the next task does not start until the task's {@link CompletionStage} completes.</p>
+ *
+ * @author Jonathan Knight
+ * @since 6.0
+ */
+@Internal
+public class SerialExecutor implements Executor {
+    /**
+     * The tasks waiting to run.
+     */
+    private final Queue<Supplier<? extends CompletionStage<?>>> tasks = new ArrayDeque<>();
+
+    /**
+     * The executor that actually runs the tasks.
+     */
+    private final Executor delegate;
+
+    /**
+     * {@code true} if the executor is draining its tasks, or waiting for an asynchronous task to complete.
+     */
+    private boolean active;
+
+    /**
+     * Create a {@link SerialExecutor}.
+     *
+     * @param delegate  the executor that actually runs the tasks
+     */
+    public SerialExecutor(Executor delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        submit(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Run a task that completes asynchronously. The next task does not start until
+     * the {@link CompletionStage} returned by the task completes.
+     *
+     * @param task  the task to run
+     */
+    public void executeAsync(Supplier<? extends CompletionStage<?>> task) {
+        submit(task);
+    }
+
+    private void submit(Supplier<? extends CompletionStage<?>> task) {
+        synchronized (this) {
+            tasks.add(task);
+            if (active) {
+                return;
+            }
+            active = true;
+        }
+        schedule();
+    }
+
+    private void schedule() {
+        try {
+            delegate.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            // the delegate has been shut down, so run the tasks on this thread
+            drain();
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            Supplier<? extends CompletionStage<?>> task;
+            synchronized (this) {
+                task = tasks.poll();
+                if (task == null) {
+                    active = false;
+                    return;
+                }
+            }
+            CompletionStage<?> stage;
+            try {
+                stage = task.get();
+            } catch (RuntimeException | Error e) {
+                schedule();
+                throw e;
+            }
+            if (stage != null) {
+                CompletableFuture<?> future = stage.toCompletableFuture();
+                if (!future.isDone()) {
+                    future.whenComplete((result, error) -> schedule());
+                    return;
+                }
+            }
+        }
+    }
+}
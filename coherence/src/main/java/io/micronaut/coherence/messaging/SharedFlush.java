@@ -0,0 +1,116 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.messaging;
+
+import java.util.concurrent.CompletableFuture;
+
+import com.tangosol.net.topic.Publisher;
+
+/**
+ * <p>Flushes a {@link Publisher} on behalf of many concurrent callers, so that callers
+ * share flushes rather than each caller flushing the publisher itself.</p>
+ * <p>A caller that asks for a flush while none is running starts one. Callers that ask while
+ * a flush is running may have published after it started, so they all wait for one more
+ * flush, which starts as soon as the running flush completes.</p>
+ *
+ * @author Jonathan Knight
+ * @since 6.0
+ */
+class SharedFlush {
+
+    /**
+     * The publisher to flush.
+     */
+    private final Publisher<?> publisher;
+
+    /**
+     * The running flush, or {@code null} if no flush is running.
+     */
+    private CompletableFuture<Void> running;
+
+    /**
+     * The future completed by the next flush, or {@code null} if no caller is waiting for it.
+     */
+    private CompletableFuture<Void> next;
+
+    /**
+     * Create a {@link SharedFlush}.
+     *
+     * @param publisher  the publisher to flush
+     */
+    SharedFlush(Publisher<?> publisher) {
+        this.publisher = publisher;
+    }
+
+    /**
+     * Returns a future that completes when a flush that started after this call has completed.
+     *
+     * @return a future that completes when every message published before this call has been acknowledged
+     */
+    CompletableFuture<Void> flush() {
+        CompletableFuture<Void> flush;
+        synchronized (this) {
+            if (running != null) {
+                if (next == null) {
+                    next = new CompletableFuture<>();
+                }
+                return next;
+            }
+            flush = start();
+        }
+        flush.whenComplete((v, err) -> onFlushed());
+        return flush;
+    }
+
+    /**
+     * Start a flush of the publisher, which must be called while holding this object's monitor.
+     *
+     * @return the running flush
+     */
+    private CompletableFuture<Void> start() {
+        try {
+            running = publisher.flush();
+        } catch (RuntimeException e) {
+            running = CompletableFuture.failedFuture(e);
+        }
+        return running;
+    }
+
+    /**
+     * Start the next flush, if any caller is waiting for it, once the running flush has completed.
+     */
+    private void onFlushed() {
+        CompletableFuture<Void> waiting;
+        CompletableFuture<Void> flush;
+        synchronized (this) {
+            running = null;
+            waiting = next;
+            if (waiting == null) {
+                return;
+            }
+            next = null;
+            flush = start();
+        }
+        flush.whenComplete((v, err) -> {
+            if (err == null) {
+                waiting.complete(null);
+            } else {
+                waiting.completeExceptionally(err);
+            }
+            onFlushed();
+        });
+    }
+}
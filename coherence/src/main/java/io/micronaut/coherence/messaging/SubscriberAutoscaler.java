@@ -0,0 +1,188 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.messaging;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import io.micronaut.inject.ExecutableMethod;
+import io.micronaut.scheduling.TaskScheduler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>Scales the number of in-process {@link TopicSubscriber} instances for a listener method
+ * between a minimum and a maximum, based on the number of messages remaining to be received
+ * from the channels owned by the instances.</p>
+ * <p>At each interval the target number of instances is the remaining message count divided by
+ * the number of remaining messages each instance is expected to handle. One instance at most is
+ * added or removed per interval, so that a short burst does not cause the subscriber group to
+ * repeatedly reallocate its channels.</p>
+ *
+ * @author Jonathan Knight
+ * @since 6.0
+ */
+class SubscriberAutoscaler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SubscriberAutoscaler.class);
+
+    /**
+     * The listener method being scaled.
+     */
+    private final ExecutableMethod<?, ?> method;
+
+    /**
+     * The factory that creates and starts a new instance.
+     */
+    private final Supplier<TopicSubscriber<?, ?, ?>> factory;
+
+    /**
+     * The function that removes and closes an instance.
+     */
+    private final Consumer<TopicSubscriber<?, ?, ?>> closer;
+
+    /**
+     * The minimum number of instances.
+     */
+    private final int minInstances;
+
+    /**
+     * The maximum number of instances.
+     */
+    private final int maxInstances;
+
+    /**
+     * The number of remaining messages each instance is expected to handle.
+     */
+    private final int remainingPerInstance;
+
+    /**
+     * The current instances, in the order they were created.
+     */
+    private final List<TopicSubscriber<?, ?, ?>> instances = new ArrayList<>();
+
+    /**
+     * The periodic scaling task.
+     */
+    private ScheduledFuture<?> scaling;
+
+    /**
+     * {@code true} once scaling has been stopped.
+     */
+    private boolean closed;
+
+    /**
+     * Create a {@link SubscriberAutoscaler}.
+     *
+     * @param method                the listener method being scaled
+     * @param factory               the factory that creates and starts a new instance
+     * @param closer                the function that removes and closes an instance
+     * @param minInstances          the minimum number of instances
+     * @param maxInstances          the maximum number of instances
+     * @param remainingPerInstance  the number of remaining messages each instance is expected to handle
+     */
+    SubscriberAutoscaler(ExecutableMethod<?, ?> method, Supplier<TopicSubscriber<?, ?, ?>> factory,
+                         Consumer<TopicSubscriber<?, ?, ?>> closer, int minInstances, int maxInstances,
+                         int remainingPerInstance) {
+        this.method = method;
+        this.factory = factory;
+        this.closer = closer;
+        this.minInstances = Math.max(1, minInstances);
+        this.maxInstances = Math.max(this.minInstances, maxInstances);
+        this.remainingPerInstance = Math.max(1, remainingPerInstance);
+    }
+
+    /**
+     * Create the minimum number of instances and start scaling.
+     *
+     * @param interval       the interval between scaling decisions
+     * @param taskScheduler  the scheduler used to run scaling decisions
+     */
+    synchronized void start(Duration interval, TaskScheduler taskScheduler) {
+        for (int i = 0; i < minInstances; i++) {
+            instances.add(factory.get());
+        }
+        scaling = taskScheduler.scheduleAtFixedRate(interval, interval, this::scale);
+    }
+
+    /**
+     * Returns the current number of instances.
+     *
+     * @return the current number of instances
+     */
+    synchronized int getInstanceCount() {
+        return instances.size();
+    }
+
+    /**
+     * Add or remove an instance if the remaining messages require it.
+     * <p>Instances that are no longer active, for example because the exception handler
+     * stopped them, are removed first, and replaced if there are fewer than the minimum
+     * number of instances left.</p>
+     */
+    synchronized void scale() {
+        if (closed) {
+            return;
+        }
+        try {
+            long remaining = 0;
+            Iterator<TopicSubscriber<?, ?, ?>> iterator = instances.iterator();
+            while (iterator.hasNext()) {
+                TopicSubscriber<?, ?, ?> instance = iterator.next();
+                if (instance.isActive()) {
+                    remaining += instance.getRemainingMessages();
+                } else {
+                    LOG.info("Removing inactive subscriber instance for method {}", method);
+                    iterator.remove();
+                    closer.accept(instance);
+                }
+            }
+            while (instances.size() < minInstances) {
+                LOG.info("Replacing subscriber instance {} for method {}", instances.size() + 1, method);
+                instances.add(factory.get());
+            }
+
+            int current = instances.size();
+            int target = (int) Math.min(maxInstances, Math.max(minInstances,
+                    (remaining + remainingPerInstance - 1) / remainingPerInstance));
+
+            if (target > current) {
+                LOG.info("Adding subscriber instance {} for method {} - {} messages remaining", current + 1, method, remaining);
+                instances.add(factory.get());
+            } else if (target < current) {
+                LOG.info("Removing subscriber instance {} for method {} - {} messages remaining", current, method, remaining);
+                closer.accept(instances.remove(current - 1));
+            }
+        } catch (Exception e) {
+            LOG.error("Error scaling subscribers for method {}", method, e);
+        }
+    }
+
+    /**
+     * Stop scaling. The instances are not closed.
+     */
+    synchronized void close() {
+        closed = true;
+        if (scaling != null) {
+            scaling.cancel(false);
+        }
+    }
+}
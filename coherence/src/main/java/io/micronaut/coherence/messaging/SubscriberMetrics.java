@@ -0,0 +1,149 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.messaging;
+
+import com.tangosol.net.topic.Subscriber;
+
+/**
+ * <p>Metrics recorded by a {@link TopicSubscriber}.</p>
+ * <p>All methods have empty default implementations, and {@link #NONE} is used when
+ * no metrics system is available, so that recording metrics costs nothing unless
+ * a {@link SubscriberMetricsFactory} bean is present.</p>
+ *
+ * @author Jonathan Knight
+ * @since 6.0
+ */
+interface SubscriberMetrics {
+    /**
+     * Metrics that record nothing.
+     */
+    SubscriberMetrics NONE = new SubscriberMetrics() {
+    };
+
+    /**
+     * Returns {@code true} if metrics are recorded, used to skip timing
+     * listener invocations when they are not.
+     *
+     * @return {@code true} if metrics are recorded
+     */
+    default boolean isEnabled() {
+        return false;
+    }
+
+    /**
+     * Record the time a receive request waited for elements.
+     *
+     * @param nanos  the wait time in nanoseconds
+     */
+    default void receiveWaited(long nanos) {
+    }
+
+    /**
+     * Record that an element has been received.
+     *
+     * @param channel  the channel the element was received from
+     */
+    default void received(int channel) {
+    }
+
+    /**
+     * Record that an element has been processed successfully.
+     *
+     * @param channel  the channel the element was received from
+     */
+    default void processed(int channel) {
+    }
+
+    /**
+     * Record that an element failed to be processed.
+     *
+     * @param channel  the channel the element was received from
+     */
+    default void failed(int channel) {
+    }
+
+    /**
+     * Record that the processing of an element will be retried.
+     *
+     * @param channel  the channel the element was received from
+     */
+    default void retried(int channel) {
+    }
+
+    /**
+     * Record that an element has been sent to the dead letter topic.
+     *
+     * @param channel  the channel the element was received from
+     */
+    default void deadLettered(int channel) {
+    }
+
+    /**
+     * Record the time taken by a single invocation of the listener method.
+     *
+     * @param nanos  the invocation time in nanoseconds
+     */
+    default void invoked(long nanos) {
+    }
+
+    /**
+     * Record a successful commit.
+     *
+     * @param channel  the committed channel
+     * @param nanos    the time taken by the commit in nanoseconds
+     */
+    default void committed(int channel, long nanos) {
+    }
+
+    /**
+     * Record a failed commit.
+     *
+     * @param channel  the channel that failed to commit
+     */
+    default void commitFailed(int channel) {
+    }
+
+    /**
+     * Register the subscriber's backlog to be reported.
+     *
+     * @param backlog  the subscriber's backlog
+     */
+    default void bindBacklog(BacklogMonitor backlog) {
+    }
+
+    /**
+     * Register the number of {@link io.micronaut.messaging.annotation.SendTo} publishes
+     * waiting to complete to be reported.
+     *
+     * @param forwarder  the forwarder that publishes the listener results
+     */
+    default void bindForwarder(SendToForwarder forwarder) {
+    }
+
+    /**
+     * Register the number of messages remaining in each channel of the subscriber to be reported.
+     *
+     * @param subscriber  the topic subscriber
+     */
+    default void bindSubscriber(Subscriber<?> subscriber) {
+    }
+
+    /**
+     * Stop reporting the metrics, called when the subscriber is closed.
+     */
+    default void close() {
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.messaging;
+
+import io.micronaut.inject.ExecutableMethod;
+
+/**
+ * A factory that creates the {@link SubscriberMetrics} for each {@link TopicSubscriber}.
+ *
+ * @author Jonathan Knight
+ * @since 6.0
+ */
+interface SubscriberMetricsFactory {
+    /**
+     * Create the {@link SubscriberMetrics} for a subscriber.
+     *
+     * @param topicName  the name of the subscribed topic
+     * @param group      the subscriber group name, or {@code null} for an anonymous subscriber
+     * @param method     the listener method
+     * @param instance   the number of the subscriber instance for the listener method
+     *
+     * @return the {@link SubscriberMetrics} for the subscriber
+     */
+    SubscriberMetrics create(String topicName, String group, ExecutableMethod<?, ?> method, int instance);
+}
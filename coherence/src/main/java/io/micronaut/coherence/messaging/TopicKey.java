@@ -17,6 +17,8 @@ package io.micronaut.coherence.messaging;
 
 import java.util.Objects;
 
+import io.micronaut.coherence.annotation.PublishOrdering;
+
 /**
  * A simple key to a {@link com.tangosol.net.topic.Publisher}.
  *
@@ -34,6 +36,21 @@ class TopicKey {
      */
     private final String sessionName;
 
+    /**
+     * The ordering of the messages published.
+     */
+    private final PublishOrdering ordering;
+
+    /**
+     * The order id used with {@link PublishOrdering#ID} ordering.
+     */
+    private final int orderId;
+
+    /**
+     * The number of publishers in the topic's {@link PublisherPool}.
+     */
+    private final int poolSize;
+
     /**
      * Create a {@link TopicKey}.
      *
@@ -41,8 +58,25 @@ class TopicKey {
      * @param sessionName   the name of the owning session
      */
     public TopicKey(String topicName, String sessionName) {
+        this(topicName, sessionName, PublishOrdering.THREAD, 0, 1);
+    }
+
+    /**
+     * Create a {@link TopicKey}.
+     *
+     * @param topicName     the name of the topic
+     * @param sessionName   the name of the owning session
+     * @param ordering      the ordering of the messages published
+     * @param orderId       the order id used with {@link PublishOrdering#ID} ordering
+     * @param poolSize      the number of publishers in the topic's {@link PublisherPool}
+     */
+    public TopicKey(String topicName, String sessionName, PublishOrdering ordering, int orderId, int poolSize) {
         this.topicName = topicName;
         this.sessionName = sessionName;
+        this.ordering = ordering;
+        this.orderId = ordering == PublishOrdering.ID ? orderId : 0;
+        // all messages with the same order id must be published with the same publisher
+        this.poolSize = ordering == PublishOrdering.ID ? 1 : Math.max(1, poolSize);
     }
 
     /**
@@ -61,6 +95,30 @@ class TopicKey {
         return sessionName;
     }
 
+    /**
+     * Returns the ordering of the messages published.
+     * @return the ordering of the messages published
+     */
+    public PublishOrdering getOrdering() {
+        return ordering;
+    }
+
+    /**
+     * Returns the order id used with {@link PublishOrdering#ID} ordering.
+     * @return the order id used with {@link PublishOrdering#ID} ordering
+     */
+    public int getOrderId() {
+        return orderId;
+    }
+
+    /**
+     * Returns the number of publishers in the topic's {@link PublisherPool}.
+     * @return the number of publishers in the topic's {@link PublisherPool}
+     */
+    public int getPoolSize() {
+        return poolSize;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -71,11 +129,14 @@ class TopicKey {
         }
         TopicKey that = (TopicKey) o;
         return Objects.equals(topicName, that.topicName) &&
-               Objects.equals(sessionName, that.sessionName);
+               Objects.equals(sessionName, that.sessionName) &&
+               ordering == that.ordering &&
+               orderId == that.orderId &&
+               poolSize == that.poolSize;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(topicName, sessionName);
+        return Objects.hash(topicName, sessionName, ordering, orderId, poolSize);
     }
 }
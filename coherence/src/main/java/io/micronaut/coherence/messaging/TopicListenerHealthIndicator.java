@@ -0,0 +1,86 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.messaging;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.async.publisher.Publishers;
+import io.micronaut.health.HealthStatus;
+import io.micronaut.management.endpoint.health.HealthEndpoint;
+import io.micronaut.management.health.indicator.HealthIndicator;
+import io.micronaut.management.health.indicator.HealthResult;
+import io.micronaut.management.health.indicator.annotation.Readiness;
+import jakarta.inject.Singleton;
+import org.reactivestreams.Publisher;
+
+/**
+ * <p>A readiness {@link HealthIndicator} for {@link io.micronaut.coherence.annotation.CoherenceTopicListener}
+ * methods.</p>
+ * <p>The indicator is {@link HealthStatus#UP up} only once the subscribers for every listener method
+ * have been created and all of them are still active.</p>
+ *
+ * @author Jonathan Knight
+ * @since 6.0
+ */
+@Singleton
+@Readiness
+@Requires(classes = HealthIndicator.class)
+@Requires(beans = HealthEndpoint.class)
+class TopicListenerHealthIndicator implements HealthIndicator {
+    /**
+     * The name of this health indicator.
+     */
+    static final String NAME = "coherence-topic-listeners";
+
+    /**
+     * The processor that creates the topic listener subscribers.
+     */
+    private final CoherenceTopicListenerProcessor processor;
+
+    /**
+     * Create a {@link TopicListenerHealthIndicator}.
+     *
+     * @param processor  the processor that creates the topic listener subscribers
+     */
+    TopicListenerHealthIndicator(CoherenceTopicListenerProcessor processor) {
+        this.processor = processor;
+    }
+
+    @Override
+    public Publisher<HealthResult> getResult() {
+        CompletableFuture<Void> ready = processor.whenSubscribed();
+        int subscribers = processor.getSubscriberCount();
+        int active = processor.getActiveSubscriberCount();
+
+        HealthStatus status;
+        if (!ready.isDone()) {
+            status = HealthStatus.UNKNOWN;
+        } else if (ready.isCompletedExceptionally() || active < subscribers) {
+            status = HealthStatus.DOWN;
+        } else {
+            status = HealthStatus.UP;
+        }
+
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("subscribed", processor.isSubscribed());
+        details.put("subscribers", subscribers);
+        details.put("active", active);
+        return Publishers.just(HealthResult.builder(NAME, status).details(details).build());
+    }
+}
@@ -0,0 +1,964 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.messaging;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import com.tangosol.net.topic.Position;
+import com.tangosol.net.topic.Publisher;
+import com.tangosol.net.topic.Subscriber;
+
+import io.micronaut.coherence.annotation.Backlog;
+import io.micronaut.coherence.annotation.CoherenceTopicListener;
+import io.micronaut.coherence.annotation.CommitStrategy;
+import io.micronaut.coherence.annotation.DispatchMode;
+import io.micronaut.coherence.messaging.exceptions.CoherenceSubscriberException;
+import io.micronaut.core.annotation.Blocking;
+import io.micronaut.core.async.publisher.Publishers;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.inject.ExecutableMethod;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+
+/**
+ * A topic subscriber that wraps an {@link ExecutableMethod}.
+ *
+ * @param <E> the type of the topic elements
+ * @param <T> the type of the bean declaring the {@link ExecutableMethod}
+ * @param <R> the method return type of the {@link ExecutableMethod}
+ *
+ * @author Jonathan Knight
+ * @since 1.0
+ */
+class TopicSubscriber<E, T, R> implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TopicSubscriber.class);
+
+    private static final Void VOID = null;
+
+    /**
+     * A completed future returned when a listener method result needs no further processing.
+     */
+    private static final CompletableFuture<Void> DRAINED = CompletableFuture.completedFuture(VOID);
+
+    /**
+     * A completed future returned when the next message should be requested.
+     */
+    private static final CompletableFuture<SubscriberExceptionHandler.Action> CONTINUE =
+            CompletableFuture.completedFuture(SubscriberExceptionHandler.Action.Continue);
+
+    /**
+     * The name of the subscribed topic.
+     */
+    private final String topicName;
+
+    /**
+     * The actual topic {@link com.tangosol.net.topic.Subscriber}.
+     */
+    private final Subscriber<E> subscriber;
+
+    /**
+     * The forwarder used to send any method return value to the {@link io.micronaut.messaging.annotation.SendTo}
+     * topic {@link com.tangosol.net.topic.Publisher Publishers}, or {@code null} if there are no publishers.
+     */
+    private final SendToForwarder forwarder;
+
+    /**
+     * The bean declaring the {@link ExecutableMethod}.
+     */
+    private final T bean;
+
+    /**
+     * The {@link ExecutableMethod} to forward topic elements to.
+     */
+    private final ExecutableMethod<?, ?> method;
+
+    /**
+     * The precompiled plan used to bind method arguments from received elements.
+     */
+    private final ElementBindingPlan bindingPlan;
+
+    /**
+     * A reusable array to bind method arguments into when elements are processed
+     * one at a time, or {@code null} if elements are processed concurrently.
+     */
+    private final Object[] argumentBuffer;
+
+    /**
+     * The maximum number of elements to receive in a single batch.
+     */
+    private final int maxBatchSize;
+
+    /**
+     * The execution settings used to invoke the listener method.
+     */
+    private final ListenerExecutor executor;
+
+    /**
+     * The maximum number of elements (or batches) that may be received or processed concurrently.
+     */
+    private final int concurrency;
+
+    /**
+     * The tracker used to ensure commits never pass an unprocessed element when elements
+     * are processed concurrently, or {@code null} if elements are processed one at a time.
+     */
+    private final CommitTracker tracker;
+
+    /**
+     * The serial dispatch lane for each channel when elements are dispatched
+     * in channel order, or {@code null} if elements are dispatched unordered.
+     */
+    private final Map<Integer, SerialExecutor> lanes;
+
+    /**
+     * The committer used to coalesce commits when using the {@link CommitStrategy#BATCHED}
+     * commit strategy, or {@code null} for any other strategy.
+     */
+    private final BatchedCommitter committer;
+
+    /**
+     * The commit strategy to use to commit received messages.
+     */
+    private final CommitStrategy commitStrategy;
+
+    /**
+     * The {@link ConversionService}.
+     */
+    private final ConversionService conversionService;
+
+    /**
+     * {@code true} if received elements are forwarded unchanged to the {@link #forwarder}
+     * rather than the method result.
+     */
+    private final boolean forwardElements;
+
+    /**
+     * The backlog of received elements not yet processed and result values not yet published.
+     */
+    private final BacklogMonitor backlog;
+
+    /**
+     * The metrics recorded for this subscriber.
+     */
+    private final SubscriberMetrics metrics;
+
+    /**
+     * {@code true} if {@link #metrics} are recorded.
+     */
+    private final boolean metricsEnabled;
+
+    /**
+     * The policy applied when a listener method invocation fails.
+     */
+    private final RetryPolicy retryPolicy;
+
+    /**
+     * The number of message requests waiting for an excessive backlog to return to normal.
+     */
+    private final AtomicInteger parked = new AtomicInteger();
+
+    /**
+     * Create a {@link TopicSubscriber}.
+     *
+     * @param topicName         the name of the subscribed topic.
+     * @param subscriber        the actual topic {@link com.tangosol.net.topic.Subscriber}
+     * @param publishers        the optional {@link Publisher Publishers} to send any method return type to
+     * @param bean              the bean declaring the {@link ExecutableMethod}
+     * @param method            the {@link ExecutableMethod} to forward topic elements to
+     * @param bindingPlan       the precompiled plan used to bind method arguments
+     * @param conversionService the {@link ConversionService}
+     * @param executor          the execution settings used to invoke the listener method
+     * @param committer         the committer to use with the {@link CommitStrategy#BATCHED} commit strategy
+     * @param metrics           the metrics to record for this subscriber
+     * @param retryPolicy       the policy applied when a listener method invocation fails
+     */
+    TopicSubscriber(String topicName, Subscriber<E> subscriber, Publisher<?>[] publishers, T bean,
+                    ExecutableMethod<T, R> method, ElementBindingPlan bindingPlan,
+                    ConversionService conversionService, ListenerExecutor executor, BatchedCommitter committer,
+                    SubscriberMetrics metrics, RetryPolicy retryPolicy) {
+        this.topicName = topicName;
+        this.subscriber = subscriber;
+        this.bean = bean;
+        this.method = method;
+        this.bindingPlan = bindingPlan;
+        this.executor = executor;
+        this.committer = committer;
+        this.commitStrategy = method.getValue(CoherenceTopicListener.class, "commitStrategy", CommitStrategy.class)
+                                    .orElse(CommitStrategy.SYNC);
+        this.conversionService = conversionService;
+        this.maxBatchSize = Math.max(1, method.intValue(CoherenceTopicListener.class, "maxBatchSize").orElse(100));
+        this.concurrency = Math.max(1, method.intValue(CoherenceTopicListener.class, "concurrency").orElse(1));
+        int maxOutstanding = method.intValue(CoherenceTopicListener.class, "maxOutstanding").orElse(256);
+        this.backlog = new BacklogMonitor(method.intValue(CoherenceTopicListener.class, "maxBacklog").orElse(256),
+                method.intValue(CoherenceTopicListener.class, "resumeBacklog").orElse(-1), this::onBacklog);
+        this.forwarder = publishers.length == 0 ? null : new SendToForwarder(publishers, maxOutstanding, method, backlog);
+        this.metrics = metrics;
+        this.metricsEnabled = metrics.isEnabled();
+        metrics.bindBacklog(backlog);
+        if (forwarder != null) {
+            metrics.bindForwarder(forwarder);
+        }
+        metrics.bindSubscriber(subscriber);
+        this.retryPolicy = retryPolicy;
+        this.forwardElements = forwarder != null && method.booleanValue(CoherenceTopicListener.class, "forward").orElse(false);
+        this.tracker = concurrency > 1 && commitStrategy != CommitStrategy.MANUAL ? new CommitTracker() : null;
+
+        DispatchMode dispatchMode = method.getValue(CoherenceTopicListener.class, "dispatchMode", DispatchMode.class)
+                .orElse(DispatchMode.UNORDERED);
+        this.lanes = concurrency > 1 && dispatchMode == DispatchMode.CHANNEL_ORDERED ? new ConcurrentHashMap<>() : null;
+        this.argumentBuffer = concurrency == 1 ? new Object[bindingPlan.size()] : null;
+    }
+
+    /**
+     * Start receiving messages, keeping up to the configured concurrency of
+     * receive requests outstanding.
+     */
+    void start() {
+        if (committer != null) {
+            committer.start(subscriber);
+        }
+        for (int i = 0; i < concurrency; i++) {
+            nextMessage();
+        }
+    }
+
+    /**
+     * Returns {@code true} if the {@link com.tangosol.net.topic.Subscriber} is active.
+     *
+     * @return {@code true} if the {@link com.tangosol.net.topic.Subscriber} is active
+     */
+    boolean isActive() {
+        return subscriber.isActive();
+    }
+
+    /**
+     * Returns the number of messages remaining to be received from the channels
+     * owned by the {@link com.tangosol.net.topic.Subscriber}.
+     *
+     * @return the number of messages remaining to be received
+     */
+    int getRemainingMessages() {
+        return subscriber.getRemainingMessages();
+    }
+
+    /**
+     * Returns the name of the topic the subscriber receives from.
+     *
+     * @return the name of the topic the subscriber receives from
+     */
+    String getTopicName() {
+        return topicName;
+    }
+
+    /**
+     * Commit any outstanding positions without closing the subscriber.
+     *
+     * @return a future that completes when the outstanding positions have been committed
+     */
+    CompletableFuture<Void> flush() {
+        if (committer != null && subscriber.isActive()) {
+            return committer.flush();
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public void close() {
+        try {
+            closeSubscriber();
+        } catch (Exception e) {
+            LOG.error("Error closing subscriber for topic {}", topicName, e);
+        }
+    }
+
+    /**
+     * Commit any outstanding positions and close the {@link com.tangosol.net.topic.Subscriber}.
+     */
+    private void closeSubscriber() {
+        if (committer != null && subscriber.isActive()) {
+            committer.close();
+        }
+        subscriber.close();
+        metrics.close();
+    }
+
+    /**
+     * <p>Request the next message, or the next batch of messages if the method
+     * is a batch listener, from the {@link com.tangosol.net.topic.Subscriber}.</p>
+     * <p>If requesting the next message throws an exception the subscription will
+     * end and the {@link com.tangosol.net.topic.Subscriber} will be closed.</p>
+     */
+    private void nextMessage() {
+        if (subscriber.isActive()) {
+            long requested = metricsEnabled ? System.nanoTime() : 0L;
+            CompletableFuture<Void> future = !bindingPlan.isBatch()
+                    ? subscriber.receive().handle((element, err) -> {
+                        if (metricsEnabled) {
+                            metrics.receiveWaited(System.nanoTime() - requested);
+                        }
+                        if (element != null) {
+                            backlog.add(1);
+                            metrics.received(element.getChannel());
+                            if (tracker != null) {
+                                tracker.received(element.getChannel(), element.getPosition());
+                            }
+                        }
+                        return dispatch(element == null ? null : element.getChannel(),
+                                () -> handleMessage(element, err).thenAccept(action -> {
+                                    if (element != null) {
+                                        backlog.remove(1);
+                                    }
+                                    onAction(action);
+                                }));
+                    })
+                    : subscriber.receive(maxBatchSize).handle((elements, err) -> {
+                        if (metricsEnabled) {
+                            metrics.receiveWaited(System.nanoTime() - requested);
+                        }
+                        if (elements != null) {
+                            backlog.add(elements.size());
+                            if (metricsEnabled) {
+                                elements.forEach(element -> metrics.received(element.getChannel()));
+                            }
+                            if (tracker != null) {
+                                elements.forEach(element -> tracker.received(element.getChannel(), element.getPosition()));
+                            }
+                        }
+                        return dispatchBatch(elements, err);
+                    });
+
+            future.handle((v, err) -> {
+                if (err != null) {
+                    LOG.error("Error requesting message from topic {} for method {} - subscriber will be closed", topicName, method, err);
+                    subscriber.close();
+                }
+                return VOID;
+            });
+        }
+    }
+
+    /**
+     * Run the handling of a received response, either on the calling thread if
+     * elements are processed one at a time, or on the executor if elements are
+     * processed concurrently or the listener runs on virtual threads.
+     * <p>When elements are dispatched in channel order the task runs on the serial lane
+     * for the channel, and the lane stays busy until the future returned by the task
+     * completes, so that a pending retry holds back later elements from the same channel.</p>
+     *
+     * @param channel  the channel the response was received from, or {@code null} if not known
+     * @param task     the task that handles the response, returning a future that completes
+     *                 when the response has been handled
+     *
+     * @return always returns {@link java.lang.Void} (i.e. {@code null})
+     */
+    private Void dispatch(Integer channel, Supplier<CompletableFuture<?>> task) {
+        if (lanes != null && channel != null) {
+            lanes.computeIfAbsent(channel, c -> new SerialExecutor(executor.executor()))
+                    .executeAsync(executor.recordAsync(task));
+            return VOID;
+        }
+        if (concurrency == 1 && !executor.isVirtual()) {
+            executor.recordInline(task::get).run();
+        } else {
+            executor.executor().execute(executor.record(task::get));
+        }
+        return VOID;
+    }
+
+    /**
+     * Dispatch the handling of a received batch.
+     * <p>When elements are dispatched in channel order a batch containing elements from
+     * more than one channel is split so that each channel's elements are handled on
+     * that channel's serial lane. The next batch is requested once every part of the
+     * batch has been handled.</p>
+     *
+     * @param elements   the {@link com.tangosol.net.topic.Subscriber.Element elements} received
+     * @param throwable  any error from the subscriber
+     *
+     * @return always returns {@link java.lang.Void} (i.e. {@code null})
+     */
+    private Void dispatchBatch(List<Subscriber.Element<E>> elements, Throwable throwable) {
+        if (lanes == null || elements == null || elements.isEmpty()) {
+            return dispatch(null, () -> handleBatch(elements, throwable).thenAccept(action -> {
+                if (elements != null) {
+                    backlog.remove(elements.size());
+                }
+                onAction(action);
+            }));
+        }
+
+        Map<Integer, List<Subscriber.Element<E>>> byChannel = new LinkedHashMap<>();
+        for (Subscriber.Element<E> element : elements) {
+            byChannel.computeIfAbsent(element.getChannel(), c -> new ArrayList<>()).add(element);
+        }
+
+        AtomicInteger remaining = new AtomicInteger(byChannel.size());
+        AtomicReference<SubscriberExceptionHandler.Action> action =
+                new AtomicReference<>(SubscriberExceptionHandler.Action.Continue);
+
+        byChannel.forEach((channel, list) -> dispatch(channel, () -> handleBatch(list, throwable).thenAccept(result -> {
+            backlog.remove(list.size());
+            if (result != SubscriberExceptionHandler.Action.Continue) {
+                action.set(result);
+            }
+            if (remaining.decrementAndGet() == 0) {
+                onAction(action.get());
+            }
+        })));
+        return VOID;
+    }
+
+    /**
+     * <p>Handle the next async response from the subscriber.</p>
+     * <p>After the {@link io.micronaut.inject.ExecutableMethod} handles the message
+     * the next message will be requested from the subscriber. If the method is
+     * {@link Blocking} and returns a reactive result, the message is committed and
+     * the next message requested once every result value has been published.</p>
+     * <p>If the response is an error the subscription will end and the
+     * {@link com.tangosol.net.topic.Subscriber} will be closed.</p>
+     * <p>If the call to the {@link io.micronaut.inject.ExecutableMethod} throws
+     * an exception it is retried according to the {@link RetryPolicy}. Once there are no
+     * retries left the element is sent to the dead letter topic, if there is one, otherwise
+     * the subscription will end and the {@link com.tangosol.net.topic.Subscriber}
+     * will be closed.</p>
+     *
+     * @param element    the {@link com.tangosol.net.topic.Subscriber.Element} received
+     * @param throwable  any error from the subscriber
+     *
+     * @return a future that completes with the {@link SubscriberExceptionHandler.Action} to take next
+     */
+    private CompletableFuture<SubscriberExceptionHandler.Action> handleMessage(Subscriber.Element<E> element, Throwable throwable) {
+        if (throwable != null) {
+            return completed(handleError(element, element == null ? null : List.of(element), throwable));
+        }
+        return process(element, null, 0);
+    }
+
+    /**
+     * <p>Handle the next async batch response from the subscriber.</p>
+     * <p>After the {@link io.micronaut.inject.ExecutableMethod} handles the batch
+     * a single commit is made for the highest position received in each channel
+     * and the next batch will be requested from the subscriber.</p>
+     * <p>Results and errors are handled in the same way as
+     * {@link #handleMessage(Subscriber.Element, Throwable)}.</p>
+     *
+     * @param elements   the {@link com.tangosol.net.topic.Subscriber.Element elements} received
+     * @param throwable  any error from the subscriber
+     *
+     * @return a future that completes with the {@link SubscriberExceptionHandler.Action} to take next
+     */
+    private CompletableFuture<SubscriberExceptionHandler.Action> handleBatch(List<Subscriber.Element<E>> elements, Throwable throwable) {
+        if (throwable != null) {
+            return completed(handleError(null, elements, throwable));
+        }
+        if (elements == null || elements.isEmpty()) {
+            // nothing received, just ask for the next batch
+            return CONTINUE;
+        }
+        return process(elements.get(0), elements, 0);
+    }
+
+    /**
+     * Invoke the listener method for a received element or batch, handle the result
+     * and commit once processing is complete.
+     *
+     * @param element  the received element, or the first element of a received batch
+     * @param batch    the received batch, or {@code null} if the method is not a batch listener
+     * @param attempt  the number of retries already made
+     *
+     * @return a future that completes with the {@link SubscriberExceptionHandler.Action} to take next
+     */
+    private CompletableFuture<SubscriberExceptionHandler.Action> process(Subscriber.Element<E> element,
+                                                                         List<Subscriber.Element<E>> batch,
+                                                                         int attempt) {
+        CompletableFuture<Void> drained;
+        try {
+            Object result = invoke(element, batch);
+            if (forwardElements) {
+                if (batch == null) {
+                    forwarder.forwardValue(element.getBinaryValue());
+                } else {
+                    batch.forEach(e -> forwarder.forwardValue(e.getBinaryValue()));
+                }
+                drained = DRAINED;
+            } else {
+                drained = handleResult(result);
+            }
+        } catch (Throwable thrown) {
+            return handleFailure(element, batch, attempt, thrown);
+        }
+
+        if (batch == null) {
+            metrics.processed(element.getChannel());
+        } else if (metricsEnabled) {
+            batch.forEach(e -> metrics.processed(e.getChannel()));
+        }
+        if (drained == DRAINED) {
+            commitProcessed(element, batch);
+            return CONTINUE;
+        }
+        return drained.thenApply(v -> {
+            commitProcessed(element, batch);
+            return SubscriberExceptionHandler.Action.Continue;
+        });
+    }
+
+    /**
+     * Handle a failed listener method invocation by scheduling a retry, sending the elements
+     * to the dead letter topic, or passing the error to the exception handling.
+     *
+     * @param element  the received element, or the first element of a received batch
+     * @param batch    the received batch, or {@code null} if the method is not a batch listener
+     * @param attempt  the number of retries already made
+     * @param error    the error thrown by the listener method
+     *
+     * @return a future that completes with the {@link SubscriberExceptionHandler.Action} to take next
+     */
+    private CompletableFuture<SubscriberExceptionHandler.Action> handleFailure(Subscriber.Element<E> element,
+                                                                               List<Subscriber.Element<E>> batch,
+                                                                               int attempt, Throwable error) {
+        if (retryPolicy.canRetry(attempt, error) && subscriber.isActive()) {
+            return retry(element, batch, attempt, error);
+        }
+        return giveUp(element, batch, attempt, error);
+    }
+
+    /**
+     * Handle a failed listener method invocation that will not be retried, by sending the
+     * elements to the dead letter topic or passing the error to the exception handling.
+     *
+     * @param element  the received element, or the first element of a received batch
+     * @param batch    the received batch, or {@code null} if the method is not a batch listener
+     * @param attempt  the number of retries already made
+     * @param error    the error thrown by the listener method
+     *
+     * @return a future that completes with the {@link SubscriberExceptionHandler.Action} to take next
+     */
+    private CompletableFuture<SubscriberExceptionHandler.Action> giveUp(Subscriber.Element<E> element,
+                                                                        List<Subscriber.Element<E>> batch,
+                                                                        int attempt, Throwable error) {
+        List<Subscriber.Element<E>> elements = batch == null ? List.of(element) : batch;
+        Subscriber.Element<E> reported = batch == null ? element : null;
+
+        if (retryPolicy.hasDeadLetterTopic() && !(error instanceof CancellationException)) {
+            LOG.warn("Sending {} element(s) from topic {} to the dead letter topic after {} retries of method {}",
+                    elements.size(), topicName, attempt, method, error);
+            return retryPolicy.deadLetter(elements).handle((v, err) -> {
+                if (err != null) {
+                    LOG.error("Failed to send element(s) from topic {} to the dead letter topic", topicName, err);
+                    return handleError(reported, elements, error);
+                }
+                elements.forEach(e -> metrics.deadLettered(e.getChannel()));
+                commitProcessed(element, batch);
+                return SubscriberExceptionHandler.Action.Continue;
+            });
+        }
+        return completed(handleError(reported, elements, error));
+    }
+
+    /**
+     * Schedule a retry of a failed listener method invocation. The retry runs on the
+     * listener's executor, no thread is blocked while waiting for the retry delay.
+     *
+     * @param element  the received element, or the first element of a received batch
+     * @param batch    the received batch, or {@code null} if the method is not a batch listener
+     * @param attempt  the number of retries already made
+     * @param error    the error thrown by the listener method
+     *
+     * @return a future that completes with the {@link SubscriberExceptionHandler.Action} to take
+     *         next once the retry has completed
+     */
+    private CompletableFuture<SubscriberExceptionHandler.Action> retry(Subscriber.Element<E> element,
+                                                                       List<Subscriber.Element<E>> batch,
+                                                                       int attempt, Throwable error) {
+        int channel = element.getChannel();
+        LOG.debug("Retrying element(s) from topic {} for method {} in {}, retry {}",
+                topicName, method, retryPolicy.delay(attempt), attempt + 1, error);
+        if (batch == null) {
+            metrics.retried(channel);
+        } else if (metricsEnabled) {
+            batch.forEach(e -> metrics.retried(e.getChannel()));
+        }
+
+        CompletableFuture<SubscriberExceptionHandler.Action> future = new CompletableFuture<>();
+        Runnable task = executor.record(() -> {
+            if (subscriber.isActive()) {
+                process(element, batch, attempt + 1).whenComplete((action, err) -> {
+                    if (err == null) {
+                        future.complete(action);
+                    } else {
+                        future.completeExceptionally(err);
+                    }
+                });
+            } else {
+                // the subscriber was closed while waiting, the elements will be redelivered
+                future.complete(SubscriberExceptionHandler.Action.Continue);
+            }
+        });
+
+        try {
+            // a channel ordered lane stays busy until this retry completes, so the
+            // retry must not be queued behind the lane's own pending task
+            retryPolicy.schedule(attempt, () -> {
+                try {
+                    executor.executor().execute(task);
+                } catch (RuntimeException e) {
+                    // the retry is lost if the rejection escapes to the scheduler, so give up
+                    // on the elements here to make sure the future always completes
+                    LOG.error("Failed to run retry for topic {} method {}", topicName, method, e);
+                    giveUp(element, batch, attempt, error).whenComplete((action, err) -> {
+                        if (err == null) {
+                            future.complete(action);
+                        } else {
+                            future.completeExceptionally(err);
+                        }
+                    });
+                }
+            });
+        } catch (Exception e) {
+            LOG.error("Failed to schedule retry for topic {} method {}", topicName, method, e);
+            return giveUp(element, batch, attempt, error);
+        }
+        return future;
+    }
+
+    /**
+     * Commit a processed element or batch.
+     *
+     * @param element  the processed element
+     * @param batch    the processed batch, or {@code null} if the method is not a batch listener
+     */
+    private void commitProcessed(Subscriber.Element<E> element, List<Subscriber.Element<E>> batch) {
+        if (batch == null) {
+            commitElement(element);
+        } else {
+            commitBatch(batch);
+        }
+    }
+
+    /**
+     * Handle an error receiving or processing elements.
+     *
+     * @param element   the element to report to the exception handler, or {@code null}
+     * @param elements  the elements that failed to be processed, or {@code null} if none were received
+     * @param error     the error
+     *
+     * @return the {@link SubscriberExceptionHandler.Action} to take next
+     */
+    private SubscriberExceptionHandler.Action handleError(Subscriber.Element<E> element,
+                                                          List<Subscriber.Element<E>> elements, Throwable error) {
+        if (error instanceof CancellationException) {
+            // cancellation probably due to subscriber closing, so we ignore the error
+            return SubscriberExceptionHandler.Action.Continue;
+        }
+        SubscriberExceptionHandler.Action action = handleException(subscriber, method, element, error);
+        if (elements != null) {
+            boolean skip = action == SubscriberExceptionHandler.Action.Continue;
+            elements.forEach(e -> {
+                metrics.failed(e.getChannel());
+                if (skip) {
+                    release(e.getChannel(), e.getPosition());
+                }
+            });
+        }
+        return action;
+    }
+
+    /**
+     * Return a completed future for an action.
+     *
+     * @param action  the action
+     *
+     * @return a completed future for the action
+     */
+    private static CompletableFuture<SubscriberExceptionHandler.Action> completed(SubscriberExceptionHandler.Action action) {
+        return action == SubscriberExceptionHandler.Action.Continue ? CONTINUE : CompletableFuture.completedFuture(action);
+    }
+
+    /**
+     * Bind the method arguments using the precompiled binding plan and invoke the method.
+     *
+     * @param element  the received element, or the first element of a received batch
+     * @param batch    the received batch, or {@code null} if the method is not a batch listener
+     *
+     * @return the result of invoking the method
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private Object invoke(Subscriber.Element<E> element, List<Subscriber.Element<E>> batch) {
+        Object[] args = argumentBuffer == null ? new Object[bindingPlan.size()] : argumentBuffer;
+        long start = metricsEnabled ? System.nanoTime() : 0L;
+        try {
+            bindingPlan.bind(args, subscriber, element, batch);
+            return ((ExecutableMethod) method).invoke(bean, args);
+        } finally {
+            if (argumentBuffer != null) {
+                Arrays.fill(argumentBuffer, null);
+            }
+            if (metricsEnabled) {
+                metrics.invoked(System.nanoTime() - start);
+            }
+        }
+    }
+
+    /**
+     * Commit a processed element, unless the commit strategy is {@link CommitStrategy#MANUAL}.
+     *
+     * @param element  the processed element
+     */
+    private void commitElement(Subscriber.Element<E> element) {
+        if (commitStrategy == CommitStrategy.MANUAL) {
+            return;
+        }
+        if (tracker == null) {
+            commit(element.getChannel(), element.getPosition());
+        } else {
+            Position position = tracker.processed(element.getChannel(), element.getPosition());
+            if (position != null) {
+                commit(element.getChannel(), position);
+            }
+        }
+    }
+
+    /**
+     * Commit a processed batch, committing only the highest received position in each channel.
+     *
+     * @param elements  the processed elements
+     */
+    private void commitBatch(List<Subscriber.Element<E>> elements) {
+        if (commitStrategy == CommitStrategy.MANUAL) {
+            return;
+        }
+        Map<Integer, Position> positions = new HashMap<>();
+        for (Subscriber.Element<E> element : elements) {
+            Position position = tracker == null
+                    ? element.getPosition()
+                    : tracker.processed(element.getChannel(), element.getPosition());
+            if (position != null) {
+                positions.merge(element.getChannel(), position, (a, b) -> a.compareTo(b) >= 0 ? a : b);
+            }
+        }
+        positions.forEach(this::commit);
+    }
+
+    /**
+     * Commit a position in a channel using the configured commit strategy.
+     *
+     * @param channel   the channel to commit
+     * @param position  the position to commit
+     */
+    private void commit(int channel, Position position) {
+        if (committer != null) {
+            committer.processed(channel, position);
+            return;
+        }
+        long start = metricsEnabled ? System.nanoTime() : 0L;
+        try {
+            CompletableFuture<Subscriber.CommitResult> future = subscriber.commitAsync(channel, position);
+            if (commitStrategy == CommitStrategy.ASYNC) {
+                // async commit, so log any failure in a future handler
+                future.handle((result, commitError) -> {
+                    logCommitResult(channel, position, start, result, commitError);
+                    return VOID;
+                });
+            } else {
+                // sync commit so wait for it to complete
+                logCommitResult(channel, position, start, future.join(), null);
+            }
+        } catch (Exception thrown) {
+            // With auto-commit strategies the developer has chosen to ignore commit failures, just log the error
+            LOG.error("Error committing element channel={} position={}", channel, position, thrown);
+            metrics.commitFailed(channel);
+        }
+    }
+
+    /**
+     * Release the position of an element that failed to be processed and is being skipped,
+     * so that it does not hold back commits of later elements processed concurrently in the
+     * same channel. The failed element itself is not committed.
+     * <p>This is only called when the exception handler chooses to continue. When the subscriber
+     * is stopped the failed element is left unprocessed, so no commit passes it and it is
+     * redelivered to the next subscriber that owns the channel.</p>
+     *
+     * @param channel   the channel of the failed element
+     * @param position  the position of the failed element
+     */
+    private void release(int channel, Position position) {
+        if (tracker != null) {
+            Position commit = tracker.processed(channel, position);
+            if (commit != null && !commit.equals(position)) {
+                commit(channel, commit);
+            }
+        }
+    }
+
+    /**
+     * Log any commit failure and record the commit in the metrics.
+     * <p>With auto-commit strategies the developer has chosen to ignore commit failures, so errors are just logged.</p>
+     *
+     * @param channel   the committed channel
+     * @param position  the committed position
+     * @param start     the time the commit started, if metrics are enabled
+     * @param result    the result of the commit
+     * @param error     any error that occurred committing
+     */
+    private void logCommitResult(int channel, Position position, long start, Subscriber.CommitResult result, Throwable error) {
+        if (error != null) {
+            LOG.error("Error committing element channel={} position={}", channel, position, error);
+            metrics.commitFailed(channel);
+        } else if (!result.isSuccess()) {
+            LOG.error("Failed to commit element channel={} position={} status {}", channel, position, result);
+            metrics.commitFailed(channel);
+        } else if (metricsEnabled) {
+            metrics.committed(channel, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Apply the {@link SubscriberExceptionHandler.Action} resulting from handling a message.
+     *
+     * @param action  the action to apply
+     *
+     * @return always returns {@link java.lang.Void} (i.e. {@code null})
+     */
+    private Void onAction(SubscriberExceptionHandler.Action action) {
+        switch (action) {
+            case Continue -> requestNext();
+            case Stop -> closeSubscriber();
+            default -> {
+                LOG.error("Unknown SubscriberExceptionHandler.Action {} closing subscriber", action);
+                closeSubscriber();
+            }
+        }
+        return VOID;
+    }
+
+    /**
+     * Request the next message, unless the backlog is excessive in which case the
+     * request is parked until the backlog returns to normal.
+     */
+    private void requestNext() {
+        parked.incrementAndGet();
+        releaseParked();
+    }
+
+    /**
+     * Handle the backlog changing between normal and excessive.
+     *
+     * @param type  the new backlog type
+     */
+    private void onBacklog(Backlog.Type type) {
+        if (type == Backlog.Type.EXCESSIVE) {
+            LOG.debug("Pausing receiving from topic {} for method {} - backlog is excessive", topicName, method);
+        } else {
+            LOG.debug("Resuming receiving from topic {} for method {} - backlog is normal", topicName, method);
+            releaseParked();
+        }
+    }
+
+    /**
+     * Request the next message for each parked request while the backlog is normal.
+     */
+    private void releaseParked() {
+        while (!backlog.isExcessive()) {
+            int count = parked.get();
+            if (count == 0) {
+                return;
+            }
+            if (parked.compareAndSet(count, count - 1)) {
+                nextMessage();
+            }
+        }
+    }
+
+    /**
+     * Handle the listener method result and if required forward to publishers.
+     *
+     * @param result the method result
+     *
+     * @return a future that completes when the result has been published, or {@link #DRAINED}
+     *         if the next message does not need to wait for the result to be published
+     */
+    private CompletableFuture<Void> handleResult(Object result) {
+        if (result == null || forwarder == null) {
+            return DRAINED;
+        }
+
+        if (result.getClass().isArray()) {
+            result = Arrays.asList((Object[]) result);
+        }
+
+        Class<?> type = result.getClass();
+        boolean isAsyncReturnType = CompletionStage.class.isAssignableFrom(type);
+
+        if (isAsyncReturnType) {
+            ((CompletionStage<?>) result)
+                    .handle((msg, err1) -> {
+                        if (err1 == null) {
+                            handleResult(msg);
+                        } else {
+                            LOG.error("Method " + method + " async result completed with an error", err1);
+                        }
+                        return VOID;
+                    });
+            return DRAINED;
+        }
+
+        if (!Publishers.isConvertibleToPublisher(result)) {
+            forwarder.forwardValue(result);
+            return DRAINED;
+        }
+
+        Flux<?> resultFlux = Publishers.convertPublisher(conversionService, result, Flux.class);
+        CompletableFuture<Void> future = forwarder.forwardResult(resultFlux.subscribeOn(executor.scheduler()));
+        return method.hasAnnotation(Blocking.class) ? future : DRAINED;
+    }
+
+    private SubscriberExceptionHandler.Action handleException(Subscriber<?> subscriber, Object consumerBean, Subscriber.Element<?> element, Throwable e) {
+        CoherenceSubscriberException exception = new CoherenceSubscriberException(
+                e,
+                consumerBean,
+                subscriber,
+                element
+        );
+        return handleException(consumerBean, exception);
+    }
+
+    private SubscriberExceptionHandler.Action handleException(Object consumerBean, CoherenceSubscriberException exception) {
+        if (consumerBean instanceof SubscriberExceptionHandler) {
+            return ((SubscriberExceptionHandler) consumerBean).handle(exception);
+        } else {
+            Subscriber.Element<?> element = exception.getElement().orElse(null);
+            Throwable cause = exception.getCause();
+            LOG.error("Closing subscriber due to error processing element [{}] for Coherence subscriber [{}] produced error: {}", element, consumerBean, cause.getMessage(), cause);
+            return SubscriberExceptionHandler.Action.Stop;
+        }
+    }
+}
@@ -82,24 +82,33 @@ public class DefaultTopicBinder<T> implements ElementBinder<T> {
     @Override
     @SuppressWarnings("unchecked")
     public ArgumentBinder.BindingResult<T> bind(ArgumentConversionContext<T> context, Subscriber.Element<?> element) {
-        Argument<T> argument = context.getArgument();
-        Function<Subscriber.Element<?>, Object> f = defaultResolver.get(argument);
+        Function<Subscriber.Element<?>, Object> f = findResolver(context.getArgument());
         if (f != null) {
             Optional<Object> opt = Optional.of(f.apply(element));
             return () -> (Optional<T>) opt;
+        }
+        Optional<T> converted = ConversionService.SHARED.convert(element.getValue(), context);
+        return () -> converted;
+    }
+
+    /**
+     * Returns a function that resolves the value of the given argument directly from an element,
+     * without any conversion, or {@code null} if the argument is bound to the element value.
+     *
+     * @param argument  the argument to resolve
+     * @return a function that resolves the argument value from an element, or {@code null}
+     *         if the argument is bound to the element value
+     */
+    public Function<Subscriber.Element<?>, Object> findResolver(Argument<?> argument) {
+        Function<Subscriber.Element<?>, Object> f = defaultResolver.get(argument);
+        if (f != null) {
+            return f;
         } else if (argument.getType() == Subscriber.Element.class) {
-            Optional<? extends Subscriber.Element<?>> opt = Optional.of(element);
-            //noinspection unchecked
-            return () -> (Optional<T>) opt;
+            return element -> element;
         } else if (argument.getType() == Binary.class) {
-            Optional<? extends Binary> opt = Optional.of(element.getBinaryValue());
-            //noinspection unchecked
-            return () -> (Optional<T>) opt;
-        } else {
-            Object value = element.getValue();
-            Optional<T> converted = ConversionService.SHARED.convert(value, context);
-            return () -> converted;
+            return Subscriber.Element::getBinaryValue;
         }
+        return null;
     }
 
     /**
@@ -28,6 +28,7 @@ import com.tangosol.net.topic.Subscriber;
 
 import data.Person;
 import data.PhoneNumber;
+import io.micronaut.coherence.messaging.ReactiveSubscriber;
 import io.micronaut.context.ApplicationContext;
 import io.micronaut.context.annotation.Requires;
 import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
@@ -165,6 +166,23 @@ class NamedTopicFactoriesTest {
     }
 
 
+    @Test
+    void shouldInjectReactiveSubscriber() throws Exception {
+        ReactiveSubscriberFieldsBean subscriberBean = ctx.getBean(ReactiveSubscriberFieldsBean.class);
+
+        ReactiveSubscriber<Integer> subscriber = subscriberBean.getNumbers();
+        assertThat(subscriber, is(notNullValue()));
+        assertThat(subscriber.getSubscriber().isActive(), is(true));
+
+        CompletableFuture<List<Integer>> future = subscriber.values().take(5).collectList().toFuture();
+        Publisher<Integer> publisher = subscriberBean.getPublisher();
+        for (int i = 0; i < 5; i++) {
+            publisher.publish(i).get(1, TimeUnit.MINUTES);
+        }
+
+        assertThat(future.get(1, TimeUnit.MINUTES), is(List.of(0, 1, 2, 3, 4)));
+    }
+
     // ----- test beans -----------------------------------------------------
 
     @Singleton
@@ -257,6 +275,27 @@ class NamedTopicFactoriesTest {
         }
     }
 
+    @Singleton
+    @Requires(env = "NamedTopicFactoriesTest")
+    static class ReactiveSubscriberFieldsBean {
+        @Inject
+        @Name("reactive-numbers")
+        @SubscriberOptions(commitStrategy = CommitStrategy.ASYNC, maxBatchSize = 2)
+        private ReactiveSubscriber<Integer> numbers;
+
+        @Inject
+        @Name("reactive-numbers")
+        private Publisher<Integer> publisher;
+
+        public ReactiveSubscriber<Integer> getNumbers() {
+            return numbers;
+        }
+
+        public Publisher<Integer> getPublisher() {
+            return publisher;
+        }
+    }
+
     @Singleton
     @Requires(env = "NamedTopicFactoriesTest")
     static class DifferentSessionBean {
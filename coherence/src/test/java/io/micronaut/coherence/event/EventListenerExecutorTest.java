@@ -0,0 +1,122 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.event;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Unit test for {@link EventListenerExecutor}.
+ */
+class EventListenerExecutorTest {
+
+    @Test
+    void shouldRunTasksOnDelegate() {
+        List<Runnable> queued = new ArrayList<>();
+        AtomicInteger count = new AtomicInteger();
+        EventListenerExecutor executor = new EventListenerExecutor(queued::add, 10,
+                EventListenerExecutor.RejectionPolicy.CALLER_RUNS, Duration.ZERO);
+
+        executor.execute(count::incrementAndGet);
+        executor.execute(count::incrementAndGet);
+        assertThat(count.get(), is(0));
+        assertThat(executor.getWaiting(), is(2));
+
+        queued.forEach(Runnable::run);
+        assertThat(count.get(), is(2));
+        assertThat(executor.getWaiting(), is(0));
+        assertThat(executor.getCompleted(), is(2L));
+        assertThat(executor.getRejected(), is(0L));
+    }
+
+    @Test
+    void shouldRunOnCallerWhenAtCapacity() {
+        List<Runnable> queued = new ArrayList<>();
+        AtomicReference<Thread> thread = new AtomicReference<>();
+        EventListenerExecutor executor = new EventListenerExecutor(queued::add, 1,
+                EventListenerExecutor.RejectionPolicy.CALLER_RUNS, Duration.ZERO);
+
+        executor.execute(() -> { });
+        executor.execute(() -> thread.set(Thread.currentThread()));
+
+        assertThat(thread.get(), is(sameInstance(Thread.currentThread())));
+        assertThat(executor.getRejected(), is(1L));
+        assertThat(executor.getCompleted(), is(1L));
+    }
+
+    @Test
+    void shouldDiscardWhenAtCapacity() {
+        List<Runnable> queued = new ArrayList<>();
+        AtomicInteger count = new AtomicInteger();
+        EventListenerExecutor executor = new EventListenerExecutor(queued::add, 1,
+                EventListenerExecutor.RejectionPolicy.DISCARD, Duration.ZERO);
+
+        executor.execute(count::incrementAndGet);
+        executor.execute(count::incrementAndGet);
+        assertThat(executor.getRejected(), is(1L));
+
+        queued.forEach(Runnable::run);
+        assertThat(count.get(), is(1));
+
+        // capacity is released once the queued task has run
+        executor.execute(count::incrementAndGet);
+        assertThat(queued.size(), is(2));
+        assertThat(executor.getRejected(), is(1L));
+    }
+
+    @Test
+    void shouldHandleDelegateRejection() {
+        Executor delegate = task -> {
+            throw new RejectedExecutionException("Computer says no");
+        };
+        AtomicInteger count = new AtomicInteger();
+        EventListenerExecutor executor = new EventListenerExecutor(delegate, 10,
+                EventListenerExecutor.RejectionPolicy.CALLER_RUNS, Duration.ZERO);
+
+        executor.execute(count::incrementAndGet);
+        assertThat(count.get(), is(1));
+        assertThat(executor.getRejected(), is(1L));
+        assertThat(executor.getWaiting(), is(0));
+    }
+
+    @Test
+    void shouldNotPropagateListenerErrors() {
+        List<Runnable> queued = new ArrayList<>();
+        EventListenerExecutor executor = new EventListenerExecutor(queued::add, 1,
+                EventListenerExecutor.RejectionPolicy.DISCARD, Duration.ZERO);
+
+        executor.execute(() -> {
+            throw new RuntimeException("Computer says no");
+        });
+        queued.forEach(Runnable::run);
+
+        assertThat(executor.getCompleted(), is(1L));
+        // the failed task released its capacity
+        executor.execute(() -> { });
+        assertThat(executor.getRejected(), is(0L));
+    }
+}
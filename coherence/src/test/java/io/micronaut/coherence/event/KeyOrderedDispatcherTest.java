@@ -0,0 +1,130 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.event;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+
+/**
+ * Unit test for {@link KeyOrderedDispatcher}.
+ */
+class KeyOrderedDispatcherTest {
+
+    @Test
+    void shouldRunTasksForSameKeyInOrder() {
+        List<Runnable> queued = new ArrayList<>();
+        List<Integer> results = new ArrayList<>();
+        EventListenerExecutor executor = new EventListenerExecutor(queued::add, 10,
+                EventListenerExecutor.RejectionPolicy.CALLER_RUNS, Duration.ZERO);
+        KeyOrderedDispatcher dispatcher = new KeyOrderedDispatcher(executor, 4);
+
+        dispatcher.dispatch("foo", () -> results.add(1));
+        dispatcher.dispatch("foo", () -> results.add(2));
+        dispatcher.dispatch("foo", () -> results.add(3));
+
+        // a busy lane is only submitted to the delegate once
+        assertThat(queued.size(), is(1));
+        assertThat(executor.getWaiting(), is(3));
+
+        queued.forEach(Runnable::run);
+        assertThat(results, contains(1, 2, 3));
+        assertThat(executor.getWaiting(), is(0));
+        assertThat(executor.getCompleted(), is(3L));
+    }
+
+    @Test
+    void shouldRunTasksForDifferentLanesInParallel() {
+        List<Runnable> queued = new ArrayList<>();
+        List<Integer> results = new ArrayList<>();
+        EventListenerExecutor executor = new EventListenerExecutor(queued::add, 10,
+                EventListenerExecutor.RejectionPolicy.CALLER_RUNS, Duration.ZERO);
+        KeyOrderedDispatcher dispatcher = new KeyOrderedDispatcher(executor, 4);
+
+        assertThat(dispatcher.lane(1), is(not(dispatcher.lane(2))));
+        dispatcher.dispatch(1, () -> results.add(1));
+        dispatcher.dispatch(2, () -> results.add(2));
+
+        // each lane is submitted to the delegate separately
+        assertThat(queued.size(), is(2));
+        queued.get(1).run();
+        assertThat(results, contains(2));
+        queued.get(0).run();
+        assertThat(results, contains(2, 1));
+    }
+
+    @Test
+    void shouldDefaultToLanePerProcessor() {
+        EventListenerExecutor executor = new EventListenerExecutor(Runnable::run, 10,
+                EventListenerExecutor.RejectionPolicy.CALLER_RUNS, Duration.ZERO);
+        KeyOrderedDispatcher dispatcher = new KeyOrderedDispatcher(executor, 0);
+
+        assertThat(dispatcher.getLaneCount(), is(Runtime.getRuntime().availableProcessors()));
+        assertThat(dispatcher.lane(null), is(0));
+    }
+
+    @Test
+    void shouldDiscardWhenAtCapacity() {
+        List<Runnable> queued = new ArrayList<>();
+        List<Integer> results = new ArrayList<>();
+        EventListenerExecutor executor = new EventListenerExecutor(queued::add, 1,
+                EventListenerExecutor.RejectionPolicy.DISCARD, Duration.ZERO);
+        KeyOrderedDispatcher dispatcher = new KeyOrderedDispatcher(executor, 4);
+
+        dispatcher.dispatch("foo", () -> results.add(1));
+        dispatcher.dispatch("foo", () -> results.add(2));
+        assertThat(executor.getRejected(), is(1L));
+
+        queued.forEach(Runnable::run);
+        assertThat(results, contains(1));
+
+        // the lane is idle again once drained, so the next task is resubmitted
+        dispatcher.dispatch("foo", () -> results.add(3));
+        assertThat(queued.size(), is(2));
+        queued.get(1).run();
+        assertThat(results, contains(1, 3));
+    }
+
+    @Test
+    void shouldQueueBeyondCapacityRatherThanBlockDispatcher() {
+        List<Runnable> queued = new ArrayList<>();
+        List<Integer> results = new ArrayList<>();
+        EventListenerExecutor executor = new EventListenerExecutor(queued::add, 1,
+                EventListenerExecutor.RejectionPolicy.CALLER_RUNS, Duration.ofMillis(10));
+        KeyOrderedDispatcher dispatcher = new KeyOrderedDispatcher(executor, 4);
+
+        dispatcher.dispatch("foo", () -> results.add(1));
+        // waits for up to the ordered maximum wait, then queues the task on its lane
+        dispatcher.dispatch("foo", () -> results.add(2));
+        assertThat(executor.getRejected(), is(1L));
+        assertThat(executor.getWaiting(), is(2));
+
+        queued.forEach(Runnable::run);
+        assertThat(results, contains(1, 2));
+
+        // only the task that acquired capacity released it
+        dispatcher.dispatch("foo", () -> results.add(3));
+        dispatcher.dispatch("bar", () -> results.add(4));
+        assertThat(executor.getRejected(), is(2L));
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.messaging;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import io.micronaut.coherence.annotation.Backlog;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Unit test for {@link BacklogMonitor}.
+ */
+class BacklogMonitorTest {
+
+    @Test
+    void shouldChangeStateWithHysteresis() {
+        List<Backlog.Type> transitions = new CopyOnWriteArrayList<>();
+        BacklogMonitor monitor = new BacklogMonitor(10, 5, transitions::add);
+
+        monitor.add(9);
+        assertThat(monitor.isExcessive(), is(false));
+
+        monitor.add(1);
+        assertThat(monitor.isExcessive(), is(true));
+        assertThat(transitions, is(List.of(Backlog.Type.EXCESSIVE)));
+
+        // still above the normal threshold
+        monitor.remove(4);
+        assertThat(monitor.isExcessive(), is(true));
+        monitor.add(2);
+        assertThat(transitions, is(List.of(Backlog.Type.EXCESSIVE)));
+
+        monitor.remove(3);
+        assertThat(monitor.getBacklog(), is(5L));
+        assertThat(monitor.isExcessive(), is(false));
+        assertThat(transitions, is(List.of(Backlog.Type.EXCESSIVE, Backlog.Type.NORMAL)));
+    }
+
+    @Test
+    void shouldDefaultNormalThresholdToHalfExcessive() {
+        BacklogMonitor monitor = new BacklogMonitor(10, -1, type -> { });
+
+        monitor.add(10);
+        monitor.remove(4);
+        assertThat(monitor.isExcessive(), is(true));
+        monitor.remove(1);
+        assertThat(monitor.isExcessive(), is(false));
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.messaging;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.IntStream;
+
+import com.tangosol.net.topic.Publisher;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit test for {@link BatchPublisher}.
+ */
+@SuppressWarnings("unchecked")
+class BatchPublisherTest {
+
+    @Test
+    void shouldKeepWindowOfOutstandingPublishes() {
+        List<CompletableFuture<Publisher.Status>> futures = new CopyOnWriteArrayList<>();
+        Publisher<Object> publisher = mock(Publisher.class);
+        when(publisher.publish(any())).thenAnswer(invocation -> {
+            CompletableFuture<Publisher.Status> future = new CompletableFuture<>();
+            futures.add(future);
+            return future;
+        });
+        when(publisher.flush()).thenReturn(CompletableFuture.completedFuture(null));
+
+        List<Integer> values = IntStream.range(0, 10).boxed().toList();
+        CompletableFuture<Void> done = new BatchPublisher(publisher, values.iterator(), 3, true).publish();
+
+        assertThat(futures.size(), is(3));
+        futures.get(0).complete(null);
+        assertThat(futures.size(), is(4));
+        futures.get(1).complete(null);
+        futures.get(2).complete(null);
+        assertThat(futures.size(), is(6));
+
+        for (int i = 3; i < 10; i++) {
+            futures.get(i).complete(null);
+        }
+        assertThat(futures.size(), is(10));
+        assertThat(done.isDone(), is(true));
+        assertThat(done.isCompletedExceptionally(), is(false));
+        verify(publisher).flush();
+    }
+
+    @Test
+    void shouldCompleteWithFirstError() {
+        List<CompletableFuture<Publisher.Status>> futures = new CopyOnWriteArrayList<>();
+        Publisher<Object> publisher = mock(Publisher.class);
+        when(publisher.publish(any())).thenAnswer(invocation -> {
+            CompletableFuture<Publisher.Status> future = new CompletableFuture<>();
+            futures.add(future);
+            return future;
+        });
+
+        List<Integer> values = IntStream.range(0, 10).boxed().toList();
+        CompletableFuture<Void> done = new BatchPublisher(publisher, values.iterator(), 2, true).publish();
+
+        futures.get(0).completeExceptionally(new IllegalStateException("failed"));
+        // no more values are published after an error
+        assertThat(futures.size(), is(2));
+        assertThat(done.isDone(), is(false));
+
+        futures.get(1).complete(null);
+        ExecutionException error = assertThrows(ExecutionException.class, done::get);
+        assertThat(error.getCause(), is(instanceOf(IllegalStateException.class)));
+        verify(publisher, never()).flush();
+    }
+
+    @Test
+    void shouldCompleteWhenPublishThrows() {
+        Publisher<Object> publisher = mock(Publisher.class);
+        when(publisher.publish(any())).thenThrow(new IllegalStateException("closed"));
+
+        List<Integer> values = IntStream.range(0, 10).boxed().toList();
+        CompletableFuture<Void> done = new BatchPublisher(publisher, values.iterator(), 2, true).publish();
+
+        assertThat(done.isDone(), is(true));
+        ExecutionException error = assertThrows(ExecutionException.class, done::get);
+        assertThat(error.getCause(), is(instanceOf(IllegalStateException.class)));
+    }
+
+    @Test
+    void shouldCompleteWhenValuesThrow() {
+        Publisher<Object> publisher = mock(Publisher.class);
+        when(publisher.publish(any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        Iterator<Object> values = new Iterator<>() {
+            private boolean first = true;
+
+            @Override
+            public boolean hasNext() {
+                if (first) {
+                    return true;
+                }
+                throw new IllegalStateException("broken");
+            }
+
+            @Override
+            public Object next() {
+                first = false;
+                return "one";
+            }
+        };
+        CompletableFuture<Void> done = new BatchPublisher(publisher, values, 1, true).publish();
+
+        assertThat(done.isDone(), is(true));
+        ExecutionException error = assertThrows(ExecutionException.class, done::get);
+        assertThat(error.getCause(), is(instanceOf(IllegalStateException.class)));
+        verify(publisher, never()).flush();
+    }
+
+    @Test
+    void shouldCompleteWhenFlushThrows() {
+        Publisher<Object> publisher = mock(Publisher.class);
+        when(publisher.publish(any())).thenReturn(CompletableFuture.completedFuture(null));
+        when(publisher.flush()).thenThrow(new IllegalStateException("closed"));
+
+        List<Integer> values = IntStream.range(0, 3).boxed().toList();
+        CompletableFuture<Void> done = new BatchPublisher(publisher, values.iterator(), 2, true).publish();
+
+        assertThat(done.isDone(), is(true));
+        ExecutionException error = assertThrows(ExecutionException.class, done::get);
+        assertThat(error.getCause(), is(instanceOf(IllegalStateException.class)));
+    }
+
+    @Test
+    void shouldCompleteEmptyBatch() {
+        Publisher<Object> publisher = mock(Publisher.class);
+        CompletableFuture<Void> done = new BatchPublisher(publisher, List.of().iterator(), 2, false).publish();
+        assertThat(done.isDone(), is(true));
+        verify(publisher, never()).publish(any());
+    }
+}
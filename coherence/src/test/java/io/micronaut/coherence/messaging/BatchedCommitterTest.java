@@ -0,0 +1,86 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.messaging;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import com.tangosol.internal.net.topic.impl.paged.model.PagedPosition;
+import com.tangosol.net.topic.Subscriber;
+import io.micronaut.scheduling.TaskScheduler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit test for {@link BatchedCommitter}.
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+class BatchedCommitterTest {
+
+    private Subscriber subscriber;
+
+    @BeforeEach
+    void setup() {
+        Subscriber.CommitResult result = mock(Subscriber.CommitResult.class);
+        when(result.isSuccess()).thenReturn(true);
+        subscriber = mock(Subscriber.class);
+        when(subscriber.commitAsync(anyInt(), any())).thenReturn(CompletableFuture.completedFuture(result));
+    }
+
+    @Test
+    void shouldCommitHighestPositionWhenBatchSizeReached() {
+        BatchedCommitter committer = new BatchedCommitter(3, Duration.ZERO, mock(TaskScheduler.class), SubscriberMetrics.NONE);
+        committer.start(subscriber);
+
+        PagedPosition one = new PagedPosition(1L, 1);
+        PagedPosition two = new PagedPosition(1L, 2);
+        PagedPosition three = new PagedPosition(1L, 3);
+
+        committer.processed(0, one);
+        committer.processed(0, two);
+        verify(subscriber, never()).commitAsync(anyInt(), any());
+
+        committer.processed(0, three);
+        verify(subscriber).commitAsync(0, three);
+        verify(subscriber, never()).commitAsync(0, one);
+        verify(subscriber, never()).commitAsync(0, two);
+    }
+
+    @Test
+    void shouldCommitRevokedChannels() {
+        BatchedCommitter committer = new BatchedCommitter(100, Duration.ZERO, mock(TaskScheduler.class), SubscriberMetrics.NONE);
+        committer.start(subscriber);
+
+        PagedPosition one = new PagedPosition(1L, 1);
+        committer.processed(0, one);
+        committer.processed(1, one);
+
+        committer.onChannelsRevoked(Set.of(1));
+        verify(subscriber).commitAsync(1, one);
+        verify(subscriber, never()).commitAsync(0, one);
+
+        committer.close();
+        verify(subscriber).commitAsync(0, one);
+    }
+}
@@ -20,7 +20,16 @@ import jakarta.inject.Singleton;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 import com.tangosol.net.Coherence;
@@ -28,6 +37,10 @@ import com.tangosol.net.topic.NamedTopic;
 import com.tangosol.net.topic.Subscriber;
 
 import io.micronaut.coherence.annotation.CoherencePublisher;
+import io.micronaut.coherence.annotation.MessageKey;
+import io.micronaut.coherence.annotation.PublishAck;
+import io.micronaut.coherence.annotation.PublishBatch;
+import io.micronaut.coherence.annotation.PublishOrdering;
 import io.micronaut.coherence.annotation.Topic;
 import io.micronaut.context.ApplicationContext;
 import io.micronaut.context.annotation.Requires;
@@ -52,6 +65,18 @@ class CoherencePublisherTest {
     @Inject
     PublishersOne publishersOne;
 
+    @Inject
+    RoundRobinPublishers roundRobinPublishers;
+
+    @Inject
+    PooledPublishers pooledPublishers;
+
+    @Inject
+    UnacknowledgedPublishers unacknowledgedPublishers;
+
+    @Inject
+    FlushedPublishers flushedPublishers;
+
     @Test
     void shouldSendMessage() throws Exception {
         Subscriber<String> subscriber = getSubscriber("One");
@@ -79,6 +104,146 @@ class CoherencePublisherTest {
         assertThat(element.getValue(), is(message));
     }
 
+    @Test
+    void shouldSendMessagesToDifferentNamedTopics() throws Exception {
+        Subscriber<String> subscriberOne = getSubscriber("OneThree");
+        Subscriber<String> subscriberTwo = getSubscriber("OneFour");
+        CompletableFuture<Subscriber.Element<String>> futureOne = subscriberOne.receive();
+        CompletableFuture<Subscriber.Element<String>> futureTwo = subscriberTwo.receive();
+
+        // the publish plan is cached per method, the topic is still resolved per invocation
+        publishersOne.sendTo("OneThree", "message three");
+        publishersOne.sendTo("OneFour", "message four");
+
+        assertThat(futureOne.get(1, TimeUnit.MINUTES).getValue(), is("message three"));
+        assertThat(futureTwo.get(1, TimeUnit.MINUTES).getValue(), is("message four"));
+    }
+
+    @Test
+    void shouldSendBatchOfMessages() throws Exception {
+        Subscriber<String> subscriber = getSubscriber("BatchOne");
+        List<String> messages = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            messages.add("message-" + i);
+        }
+
+        publishersOne.sendBatch(messages).get(1, TimeUnit.MINUTES);
+
+        List<String> received = new ArrayList<>();
+        for (int i = 0; i < messages.size(); i++) {
+            received.add(subscriber.receive().get(1, TimeUnit.MINUTES).getValue());
+        }
+        assertThat(received, is(messages));
+    }
+
+    @Test
+    void shouldSendBatchOfMessagesWithReactiveResponse() throws Exception {
+        Subscriber<String> subscriber = getSubscriber("BatchTwo");
+
+        Mono<Void> sent = publishersOne.sendBatchReactive(new String[] {"One", "Two", "Three"});
+        sent.toFuture().get(1, TimeUnit.MINUTES);
+
+        assertThat(subscriber.receive().get(1, TimeUnit.MINUTES).getValue(), is("One"));
+        assertThat(subscriber.receive().get(1, TimeUnit.MINUTES).getValue(), is("Two"));
+        assertThat(subscriber.receive().get(1, TimeUnit.MINUTES).getValue(), is("Three"));
+    }
+
+    @Test
+    void shouldSendMessagesWithSameKeyToSameChannel() throws Exception {
+        Subscriber<String> subscriber = getSubscriber("Keyed");
+        for (int i = 0; i < 10; i++) {
+            publishersOne.sendKeyed("a", "a-" + i);
+            publishersOne.sendKeyed("b", "b-" + i);
+        }
+
+        Map<String, List<Subscriber.Element<String>>> byKey = new HashMap<>();
+        for (int i = 0; i < 20; i++) {
+            Subscriber.Element<String> element = subscriber.receive().get(1, TimeUnit.MINUTES);
+            byKey.computeIfAbsent(element.getValue().substring(0, 1), k -> new ArrayList<>()).add(element);
+        }
+
+        for (Map.Entry<String, List<Subscriber.Element<String>>> entry : byKey.entrySet()) {
+            List<Subscriber.Element<String>> elements = entry.getValue();
+            assertThat(elements.size(), is(10));
+            for (int i = 0; i < elements.size(); i++) {
+                assertThat(elements.get(i).getChannel(), is(elements.get(0).getChannel()));
+                assertThat(elements.get(i).getValue(), is(entry.getKey() + "-" + i));
+            }
+        }
+    }
+
+    @Test
+    void shouldSendMessagesRoundRobin() throws Exception {
+        Subscriber<String> subscriber = getSubscriber("RoundRobin");
+        for (int i = 0; i < 10; i++) {
+            roundRobinPublishers.send("message-" + i);
+        }
+
+        Set<Integer> channels = new HashSet<>();
+        for (int i = 0; i < 10; i++) {
+            channels.add(subscriber.receive().get(1, TimeUnit.MINUTES).getChannel());
+        }
+        assertThat(channels.size() > 1, is(true));
+    }
+
+    @Test
+    void shouldSendMessagesFromManyThreadsWithPooledPublishers() throws Exception {
+        Subscriber<String> subscriber = getSubscriber("Pooled");
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 5; i++) {
+                        pooledPublishers.send("message-" + thread + "-" + i);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        Set<String> received = new HashSet<>();
+        for (int i = 0; i < 20; i++) {
+            received.add(subscriber.receive().get(1, TimeUnit.MINUTES).getValue());
+        }
+        assertThat(received.size(), is(20));
+    }
+
+    @Test
+    void shouldSendMessagesWithoutAcknowledgement() throws Exception {
+        Subscriber<String> subscriber = getSubscriber("Unacknowledged");
+        for (int i = 0; i < 10; i++) {
+            unacknowledgedPublishers.send("message-" + i);
+        }
+
+        Set<String> received = new HashSet<>();
+        for (int i = 0; i < 10; i++) {
+            received.add(subscriber.receive().get(1, TimeUnit.MINUTES).getValue());
+        }
+        assertThat(received.size(), is(10));
+    }
+
+    @Test
+    void shouldSendMessagesAcknowledgedByFlush() throws Exception {
+        Subscriber<String> subscriber = getSubscriber("Flushed");
+        CompletableFuture<Void> flushed = null;
+        for (int i = 0; i < 10; i++) {
+            flushed = flushedPublishers.send("message-" + i);
+        }
+        flushed.get(1, TimeUnit.MINUTES);
+
+        Set<String> received = new HashSet<>();
+        for (int i = 0; i < 10; i++) {
+            received.add(subscriber.receive().get(1, TimeUnit.MINUTES).getValue());
+        }
+        assertThat(received.size(), is(10));
+    }
+
     @Test
     void shouldSendMessageWithAsyncResponse() throws Exception {
         Subscriber<String> subscriber = getSubscriber("Two");
@@ -261,5 +426,45 @@ class CoherencePublisherTest {
 
         @Topic("Six")
         Mono<Void> sendReactiveWithReactiveResponse(Flux<String> observable);
+
+        @Topic("BatchOne")
+        @PublishBatch(window = 4, flush = true)
+        CompletableFuture<Void> sendBatch(List<String> messages);
+
+        @Topic("BatchTwo")
+        @PublishBatch
+        Mono<Void> sendBatchReactive(String[] messages);
+
+        @Topic("Keyed")
+        void sendKeyed(@MessageKey String key, String message);
+    }
+
+    @Singleton
+    @CoherencePublisher(ordering = PublishOrdering.ROUND_ROBIN)
+    @Requires(env = "CoherencePublisherTest")
+    interface RoundRobinPublishers {
+        @Topic("RoundRobin")
+        void send(String message);
+    }
+
+    @CoherencePublisher(poolSize = 4)
+    @Requires(env = "CoherencePublisherTest")
+    interface PooledPublishers {
+        @Topic("Pooled")
+        void send(String message);
+    }
+
+    @CoherencePublisher(ack = PublishAck.NONE, maxInFlight = 4)
+    @Requires(env = "CoherencePublisherTest")
+    interface UnacknowledgedPublishers {
+        @Topic("Unacknowledged")
+        void send(String message);
+    }
+
+    @CoherencePublisher(ack = PublishAck.FLUSH)
+    @Requires(env = "CoherencePublisherTest")
+    interface FlushedPublishers {
+        @Topic("Flushed")
+        CompletableFuture<Void> send(String message);
     }
 }
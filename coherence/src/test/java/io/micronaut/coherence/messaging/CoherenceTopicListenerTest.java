@@ -19,8 +19,10 @@ import com.tangosol.net.PagedTopicService;
 import java.time.LocalDate;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import com.oracle.bedrock.testsupport.deferred.Eventually;
@@ -38,7 +40,9 @@ import com.tangosol.net.topic.Publisher;
 
 import com.tangosol.net.topic.Subscriber;
 import data.Person;
+import io.micronaut.context.annotation.Property;
 import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Blocking;
 import io.micronaut.messaging.annotation.SendTo;
 import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
 import jakarta.inject.Inject;
@@ -60,6 +64,7 @@ import static org.hamcrest.collection.IsIterableContainingInAnyOrder.containsInA
  * @since 1.0
  */
 @MicronautTest(propertySources = "classpath:sessions.yaml", environments = "CoherenceTopicListenerTest")
+@Property(name = ListenerExecutionMetrics.ENABLED_PROPERTY, value = "true")
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 class CoherenceTopicListenerTest {
 
@@ -84,9 +89,15 @@ class CoherenceTopicListenerTest {
     @Inject
     ListenerSix listenerSix;
 
+    @Inject
+    ListenerSeven listenerSeven;
+
     @Inject
     CoherenceTopicListenerProcessor processor;
 
+    @Inject
+    ListenerExecutionMetrics executionMetrics;
+
     @BeforeEach
     void setup() {
         // ensure that all subscriber methods are subscribed before the tests start
@@ -393,7 +404,251 @@ class CoherenceTopicListenerTest {
         }
     }
 
+    @Test
+    public void shouldReceiveBatchOfValues() throws Exception {
+        try (Publisher<String> publisher = getPublisher("BatchValues")) {
+            for (int i = 0; i < 10; i++) {
+                publisher.publish("message-" + i).get(1, TimeUnit.MINUTES);
+            }
+            Eventually.assertDeferred(() -> listenerSeven.values.size(), is(10));
+            assertThat(listenerSeven.values.get(0), is("message-0"));
+        }
+    }
+
+    @Test
+    public void shouldReceiveAndCommitBatchOfElements() throws Exception {
+        NamedTopic<String> topic = coherence.getSession().getTopic("BatchElements");
+        PagedTopicCaches caches = new PagedTopicCaches(topic.getName(), (PagedTopicService) topic.getService());
+        SubscriberGroupId groupId = SubscriberGroupId.withName(ListenerSeven.GROUP_ID);
+
+        try (Publisher<String> publisher = topic.createPublisher()) {
+            for (int i = 0; i < 10; i++) {
+                publisher.publish("element-" + i).get(1, TimeUnit.MINUTES);
+            }
+            Eventually.assertDeferred(() -> listenerSeven.elements.size(), is(10));
+            Subscriber.Element<String> last = listenerSeven.elements.get(9);
+            Eventually.assertDeferred(() -> caches.isCommitted(groupId, last.getChannel(), last.getPosition()), is(true));
+        }
+    }
+
+    @Test
+    public void shouldProcessConcurrentlyAndCommitInOrder() throws Exception {
+        NamedTopic<String> topic = coherence.getSession().getTopic("Concurrent");
+        PagedTopicCaches caches = new PagedTopicCaches(topic.getName(), (PagedTopicService) topic.getService());
+        SubscriberGroupId groupId = SubscriberGroupId.withName(ListenerSeven.GROUP_ID);
+
+        try (Publisher<String> publisher = topic.createPublisher()) {
+            Publisher.Status last = null;
+            for (int i = 0; i < 20; i++) {
+                last = publisher.publish("element-" + i).get(1, TimeUnit.MINUTES);
+            }
+            Publisher.Status status = last;
+            Eventually.assertDeferred(() -> listenerSeven.concurrent.size(), is(20));
+            Eventually.assertDeferred(() -> caches.isCommitted(groupId, status.getChannel(), status.getPosition()), is(true));
+        }
+    }
+
+    @Test
+    public void shouldProcessOnVirtualThreads() throws Exception {
+        long before = invocations();
+        try (Publisher<String> publisher = getPublisher("Virtual")) {
+            for (int i = 0; i < 10; i++) {
+                publisher.publish("element-" + i).get(1, TimeUnit.MINUTES);
+            }
+
+            Eventually.assertDeferred(() -> listenerSeven.virtual.size(), is(10));
+            long after = invocations();
+            assertThat(after - before >= 10, is(true));
+            if (Runtime.version().feature() >= 21) {
+                // virtual threads are only available on Java 21 or later, otherwise pooled execution is used
+                assertThat(listenerSeven.virtualThreads.get(), is(true));
+            }
+        }
+    }
+
+    @Test
+    void shouldSendBoundedReactiveResultToTargetTopic() throws Exception {
+        try (Publisher<String> publisher = getPublisher("Expand");
+             Subscriber<String> subscriber = getSubscriber("Expanded")) {
+
+            publisher.publish("value").get(1, TimeUnit.MINUTES);
+
+            for (int i = 0; i < 20; i++) {
+                Subscriber.Element<String> element = subscriber.receive().get(1, TimeUnit.MINUTES);
+                assertThat(element, is(notNullValue()));
+                assertThat(element.getValue(), is("value-" + i));
+            }
+        }
+    }
+
+    @Test
+    void shouldPassBinaryResultThroughToTargetTopic() throws Exception {
+        try (Publisher<String> publisher = getPublisher("BinaryIn");
+             Subscriber<String> subscriber = getSubscriber("BinaryOut")) {
+
+            CompletableFuture<Subscriber.Element<String>> future = subscriber.receive();
+            publisher.publish("binary").get(1, TimeUnit.MINUTES);
+
+            Subscriber.Element<String> element = future.get(1, TimeUnit.MINUTES);
+            assertThat(element, is(notNullValue()));
+            assertThat(element.getValue(), is("binary"));
+        }
+    }
+
+    @Test
+    void shouldSerializeCollectionOfBinaryResultToTargetTopic() throws Exception {
+        try (Publisher<String> publisher = getPublisher("BinaryListIn");
+             Subscriber<List<Binary>> subscriber = getSubscriber("BinaryListOut")) {
+
+            CompletableFuture<Subscriber.Element<List<Binary>>> future = subscriber.receive();
+            publisher.publish("binary").get(1, TimeUnit.MINUTES);
+
+            Subscriber.Element<List<Binary>> element = future.get(1, TimeUnit.MINUTES);
+            assertThat(element, is(notNullValue()));
+            assertThat(element.getValue().size(), is(2));
+        }
+    }
+
+    @Test
+    void shouldForwardElementsToTargetTopic() throws Exception {
+        try (Publisher<Person> publisher = getPublisher("ForwardIn");
+             Subscriber<Person> subscriber = getSubscriber("ForwardOut")) {
+
+            CompletableFuture<Subscriber.Element<Person>> future = subscriber.receive();
+            Person person = new Person("Arthur", "Dent", LocalDate.now(), null);
+            publisher.publish(person).get(1, TimeUnit.MINUTES);
+
+            Subscriber.Element<Person> element = future.get(1, TimeUnit.MINUTES);
+            assertThat(element, is(notNullValue()));
+            assertThat(element.getValue(), is(person));
+            assertThat(listenerSeven.forwarded.get(), is(1));
+        }
+    }
+
+    @Test
+    void shouldRetryFailedElements() throws Exception {
+        try (Publisher<String> publisher = getPublisher("Retry")) {
+            publisher.publish("one").get(1, TimeUnit.MINUTES);
+            publisher.publish("two").get(1, TimeUnit.MINUTES);
+
+            Eventually.assertDeferred(() -> listenerSeven.retried, is(List.of("one", "two")));
+            assertThat(listenerSeven.retryAttempts.get("one").get(), is(3));
+            assertThat(listenerSeven.retryAttempts.get("two").get(), is(3));
+        }
+    }
+
+    @Test
+    void shouldRetryInChannelOrder() throws Exception {
+        try (Publisher<String> publisher = getPublisher("OrderedRetry")) {
+            for (int i = 0; i < 20; i++) {
+                publisher.publish(String.valueOf(i));
+            }
+            publisher.flush().get(1, TimeUnit.MINUTES);
+
+            Eventually.assertDeferred(() -> listenerSeven.orderedRetries.values().stream().mapToInt(List::size).sum(), is(20));
+            for (List<Integer> values : listenerSeven.orderedRetries.values()) {
+                List<Integer> sorted = new ArrayList<>(values);
+                Collections.sort(sorted);
+                assertThat(values, is(sorted));
+            }
+            assertThat(listenerSeven.retryAttempts.get("ordered-0").get(), is(3));
+        }
+    }
+
+    @Test
+    void shouldSendExhaustedRetriesToDeadLetterTopic() throws Exception {
+        try (Publisher<String> publisher = getPublisher("DeadLetterIn");
+             Subscriber<String> subscriber = getSubscriber("DeadLetterOut")) {
+
+            CompletableFuture<Subscriber.Element<String>> future = subscriber.receive();
+            publisher.publish("poison").get(1, TimeUnit.MINUTES);
+
+            Subscriber.Element<String> element = future.get(1, TimeUnit.MINUTES);
+            assertThat(element.getValue(), is("poison"));
+            assertThat(listenerSeven.deadLetterAttempts.get(), is(3));
+
+            // the subscriber is still receiving
+            future = subscriber.receive();
+            publisher.publish("next").get(1, TimeUnit.MINUTES);
+            assertThat(future.get(1, TimeUnit.MINUTES).getValue(), is("next"));
+        }
+    }
+
+    @Test
+    void shouldScaleInstancesWithRemainingMessages() throws Exception {
+        try (Publisher<String> publisher = getPublisher("Scaled", Publisher.OrderBy.roundRobin())) {
+            int count = 200;
+            for (int i = 0; i < count; i++) {
+                publisher.publish("value-" + i);
+            }
+            publisher.flush().get(1, TimeUnit.MINUTES);
+
+            Eventually.assertDeferred(() -> listenerSeven.scaledValues.size(), is(count));
+            assertThat(listenerSeven.scaledSubscribers.size() > 1, is(true));
+        }
+    }
+
+    @Test
+    void shouldCompleteReadinessFutureWhenSubscribed() throws Exception {
+        processor.whenSubscribed().get(1, TimeUnit.MINUTES);
+        assertThat(processor.isSubscribed(), is(true));
+        assertThat(processor.getSubscriberCount() > 0, is(true));
+    }
+
+    @Test
+    void shouldReceiveWithMultipleInstances() throws Exception {
+        try (Publisher<String> publisher = getPublisher("Instances", Publisher.OrderBy.roundRobin())) {
+            int count = publisher.getChannelCount() * 2;
+            for (int i = 0; i < count; i++) {
+                publisher.publish("value-" + i).get(1, TimeUnit.MINUTES);
+            }
+
+            Eventually.assertDeferred(() -> listenerSeven.instanceValues.size(), is(count));
+            assertThat(listenerSeven.instanceSubscribers.size(), is(3));
+        }
+    }
+
+    @Test
+    public void shouldProcessChannelsInOrder() throws Exception {
+        AtomicInteger count = new AtomicInteger();
+
+        try (Publisher<String> publisher = getPublisher("ChannelOrdered", Publisher.OrderByValue.value(v -> count.getAndIncrement() % 2))) {
+            for (int i = 0; i < 50; i++) {
+                publisher.publish(String.valueOf(i)).get(1, TimeUnit.MINUTES);
+            }
+
+            Eventually.assertDeferred(() -> listenerSeven.channelOrdered.values().stream().mapToInt(List::size).sum(), is(50));
+            for (List<Integer> values : listenerSeven.channelOrdered.values()) {
+                List<Integer> sorted = new ArrayList<>(values);
+                Collections.sort(sorted);
+                assertThat(values, is(sorted));
+            }
+        }
+    }
+
+    @Test
+    public void shouldCommitWithBatchedStrategy() throws Exception {
+        NamedTopic<String> topic = coherence.getSession().getTopic("TwentyBatched");
+        PagedTopicCaches caches = new PagedTopicCaches(topic.getName(), (PagedTopicService) topic.getService());
+        SubscriberGroupId groupId = SubscriberGroupId.withName(ListenerSix.GROUP_ID);
+
+        try (Publisher<String> publisher = topic.createPublisher()) {
+            for (int i = 0 ; i < publisher.getChannelCount(); i++) {
+                publisher.publish("test").get(1, TimeUnit.MINUTES);
+            }
+
+            Eventually.assertDeferred(() -> listenerSix.countBatched.get(), is(publisher.getChannelCount()));
+            Eventually.assertDeferred(() -> caches.isCommitted(groupId, listenerSix.element.getChannel(), listenerSix.element.getPosition()), is(true));
+        }
+    }
+
     @SuppressWarnings({"unchecked", "rawtypes"})
+    private long invocations() {
+        return executionMetrics.getPooled().getInvocations()
+                + executionMetrics.getInline().getInvocations()
+                + executionMetrics.getVirtual().getInvocations();
+    }
+
     private <T> Publisher<T> getPublisher(String name, Publisher.Option... options) {
         NamedTopic<String> topic = coherence.getSession().getTopic(name);
         return (Publisher<T>) topic.createPublisher(options);
@@ -641,6 +896,7 @@ class CoherenceTopicListenerTest {
         private final AtomicInteger countAsync = new AtomicInteger();
         private final AtomicInteger countSync = new AtomicInteger();
         private final AtomicInteger countDefault = new AtomicInteger();
+        private final AtomicInteger countBatched = new AtomicInteger();
 
         private volatile Subscriber.Element<String> element;
 
@@ -679,5 +935,144 @@ class CoherenceTopicListenerTest {
             element = e;
             countDefault.incrementAndGet();
         }
+
+        @Topic("TwentyBatched")
+        @SubscriberGroup(GROUP_ID)
+        @CoherenceTopicListener(commitStrategy = CommitStrategy.BATCHED, commitBatchSize = 1000, commitInterval = "100ms")
+        void five(Subscriber.Element<String> e) {
+            element = e;
+            countBatched.incrementAndGet();
+        }
+    }
+
+    @Singleton
+    @Requires(env = "CoherenceTopicListenerTest")
+    static class ListenerSeven {
+        public static final String GROUP_ID = "test";
+
+        private final List<String> values = Collections.synchronizedList(new ArrayList<>());
+        private final List<Subscriber.Element<String>> elements = Collections.synchronizedList(new ArrayList<>());
+        private final Set<String> concurrent = Collections.synchronizedSet(new HashSet<>());
+        private final Map<Integer, List<Integer>> channelOrdered = new ConcurrentHashMap<>();
+        private final List<String> virtual = Collections.synchronizedList(new ArrayList<>());
+        private final AtomicBoolean virtualThreads = new AtomicBoolean(true);
+        private final AtomicInteger forwarded = new AtomicInteger();
+        private final Set<String> instanceValues = Collections.synchronizedSet(new HashSet<>());
+        private final Set<Subscriber<String>> instanceSubscribers = Collections.newSetFromMap(new ConcurrentHashMap<>());
+        private final Map<String, AtomicInteger> retryAttempts = new ConcurrentHashMap<>();
+        private final List<String> retried = Collections.synchronizedList(new ArrayList<>());
+        private final AtomicInteger deadLetterAttempts = new AtomicInteger();
+        private final Map<Integer, List<Integer>> orderedRetries = new ConcurrentHashMap<>();
+        private final Set<String> scaledValues = Collections.synchronizedSet(new HashSet<>());
+        private final Set<Subscriber<String>> scaledSubscribers = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+        @Topic("BatchValues")
+        @CoherenceTopicListener(batch = true, maxBatchSize = 5)
+        void values(List<String> batch) {
+            values.addAll(batch);
+        }
+
+        @Topic("BatchElements")
+        @SubscriberGroup(GROUP_ID)
+        @CoherenceTopicListener(maxBatchSize = 5)
+        void elements(List<Subscriber.Element<String>> batch) {
+            elements.addAll(batch);
+        }
+
+        @Topic("Concurrent")
+        @SubscriberGroup(GROUP_ID)
+        @CoherenceTopicListener(concurrency = 4)
+        void concurrent(String value) {
+            concurrent.add(value);
+        }
+
+        @Topic("ChannelOrdered")
+        @CoherenceTopicListener(concurrency = 8, dispatchMode = DispatchMode.CHANNEL_ORDERED)
+        void channelOrdered(int channel, String value) {
+            channelOrdered.computeIfAbsent(channel, c -> Collections.synchronizedList(new ArrayList<>()))
+                    .add(Integer.parseInt(value));
+        }
+
+        @Topic("Expand")
+        @SendTo("Expanded")
+        @Blocking
+        @CoherenceTopicListener(maxOutstanding = 2)
+        Flux<String> expand(String value) {
+            return Flux.range(0, 20).map(i -> value + "-" + i);
+        }
+
+        @Topic("BinaryIn")
+        @SendTo("BinaryOut")
+        @CoherenceTopicListener
+        Binary route(Binary value) {
+            return value;
+        }
+
+        @Topic("BinaryListIn")
+        @SendTo("BinaryListOut")
+        @CoherenceTopicListener
+        List<Binary> routeAll(Binary value) {
+            return List.of(value, value);
+        }
+
+        @Topic("ForwardIn")
+        @SendTo("ForwardOut")
+        @CoherenceTopicListener(forward = true)
+        void forward(Binary value) {
+            forwarded.incrementAndGet();
+        }
+
+        @Topic("Instances")
+        @SubscriberGroup(GROUP_ID)
+        @CoherenceTopicListener(instances = 3)
+        void instances(String value, Subscriber<String> subscriber) {
+            instanceSubscribers.add(subscriber);
+            instanceValues.add(value);
+        }
+
+        @Topic("Virtual")
+        @CoherenceTopicListener(executionMode = ExecutionMode.VIRTUAL)
+        void virtual(String value) {
+            if (!Thread.currentThread().toString().startsWith("VirtualThread")) {
+                virtualThreads.set(false);
+            }
+            virtual.add(value);
+        }
+
+        @Topic("Retry")
+        @CoherenceTopicListener(retryAttempts = 3, retryDelay = "10ms")
+        void retry(String value) {
+            if (retryAttempts.computeIfAbsent(value, v -> new AtomicInteger()).incrementAndGet() < 3) {
+                throw new IllegalStateException("Failing " + value);
+            }
+            retried.add(value);
+        }
+
+        @Topic("OrderedRetry")
+        @CoherenceTopicListener(concurrency = 4, dispatchMode = DispatchMode.CHANNEL_ORDERED,
+                retryAttempts = 3, retryDelay = "50ms")
+        void orderedRetry(int channel, String value) {
+            if (value.equals("0") && retryAttempts.computeIfAbsent("ordered-0", v -> new AtomicInteger()).incrementAndGet() < 3) {
+                throw new IllegalStateException("Failing " + value);
+            }
+            orderedRetries.computeIfAbsent(channel, c -> Collections.synchronizedList(new ArrayList<>()))
+                    .add(Integer.parseInt(value));
+        }
+
+        @Topic("Scaled")
+        @SubscriberGroup(GROUP_ID)
+        @CoherenceTopicListener(maxInstances = 3, remainingPerInstance = 5, scaleInterval = "50ms")
+        void scaled(String value, Subscriber<String> subscriber) throws InterruptedException {
+            scaledSubscribers.add(subscriber);
+            scaledValues.add(value);
+            Thread.sleep(20);
+        }
+
+        @Topic("DeadLetterIn")
+        @CoherenceTopicListener(retryAttempts = 2, retryDelay = "10ms", deadLetterTopic = "DeadLetterOut")
+        void deadLetter(String value) {
+            deadLetterAttempts.incrementAndGet();
+            throw new IllegalStateException("Failing " + value);
+        }
     }
 }
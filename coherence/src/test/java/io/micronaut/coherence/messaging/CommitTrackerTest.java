@@ -0,0 +1,74 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.messaging;
+
+import com.tangosol.internal.net.topic.impl.paged.model.PagedPosition;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+/**
+ * Unit test for {@link CommitTracker}.
+ */
+class CommitTrackerTest {
+    @Test
+    void shouldReleasePositionProcessedInOrder() {
+        CommitTracker tracker = new CommitTracker();
+        PagedPosition one = new PagedPosition(1L, 1);
+        PagedPosition two = new PagedPosition(1L, 2);
+
+        tracker.received(0, one);
+        tracker.received(0, two);
+
+        assertThat(tracker.processed(0, one), is(one));
+        assertThat(tracker.processed(0, two), is(two));
+        assertThat(tracker.size(), is(0));
+    }
+
+    @Test
+    void shouldNotPassUnprocessedPosition() {
+        CommitTracker tracker = new CommitTracker();
+        PagedPosition one = new PagedPosition(1L, 1);
+        PagedPosition two = new PagedPosition(1L, 2);
+        PagedPosition three = new PagedPosition(2L, 0);
+
+        tracker.received(0, one);
+        tracker.received(0, two);
+        tracker.received(0, three);
+
+        assertThat(tracker.processed(0, three), is(nullValue()));
+        assertThat(tracker.processed(0, two), is(nullValue()));
+        assertThat(tracker.processed(0, one), is(three));
+        assertThat(tracker.size(), is(0));
+    }
+
+    @Test
+    void shouldTrackChannelsIndependently() {
+        CommitTracker tracker = new CommitTracker();
+        PagedPosition one = new PagedPosition(1L, 1);
+        PagedPosition two = new PagedPosition(1L, 2);
+
+        tracker.received(0, one);
+        tracker.received(0, two);
+        tracker.received(1, one);
+
+        assertThat(tracker.processed(0, two), is(nullValue()));
+        assertThat(tracker.processed(1, one), is(one));
+        assertThat(tracker.size(), is(2));
+    }
+}
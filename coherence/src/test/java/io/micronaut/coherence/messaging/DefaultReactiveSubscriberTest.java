@@ -0,0 +1,202 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.messaging;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.tangosol.internal.net.topic.impl.paged.model.PagedPosition;
+import com.tangosol.net.topic.Subscriber;
+
+import io.micronaut.coherence.annotation.CommitStrategy;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit test for {@link DefaultReactiveSubscriber}.
+ */
+@SuppressWarnings("unchecked")
+class DefaultReactiveSubscriberTest {
+
+    @Test
+    void shouldReceiveOnlyRequestedElements() {
+        Subscriber<String> subscriber = subscriber();
+        ReactiveSubscriber<String> reactive = ReactiveSubscriber.create(subscriber, CommitStrategy.SYNC, 10);
+        Collector collector = new Collector(3);
+
+        reactive.subscribe(collector);
+
+        verify(subscriber).receive(3);
+        assertThat(collector.received.size(), is(3));
+        // nothing is committed until downstream requests more
+        verify(subscriber, never()).commitAsync(anyInt(), any());
+
+        collector.request(25);
+        // both channels are committed at the highest delivered position
+        verify(subscriber).commitAsync(0, new PagedPosition(1L, 2));
+        verify(subscriber).commitAsync(1, new PagedPosition(1L, 1));
+        verify(subscriber, times(2)).receive(10);
+        verify(subscriber).receive(5);
+        assertThat(collector.received.size(), is(28));
+        collector.dispose();
+    }
+
+    @Test
+    void shouldNotCommitWithManualStrategy() {
+        Subscriber<String> subscriber = subscriber();
+        ReactiveSubscriber<String> reactive = ReactiveSubscriber.create(subscriber, CommitStrategy.MANUAL, 10);
+        Collector collector = new Collector(5);
+
+        reactive.subscribe(collector);
+
+        assertThat(collector.received.size(), is(5));
+        verify(subscriber, never()).commitAsync(anyInt(), any());
+        collector.dispose();
+    }
+
+    @Test
+    void shouldDeliverElementsReceivedAfterCancelToNextSubscription() {
+        Subscriber<String> subscriber = subscriber();
+        CompletableFuture<List<Subscriber.Element<String>>> pending = new CompletableFuture<>();
+        when(subscriber.receive(anyInt())).thenReturn(pending);
+        ReactiveSubscriber<String> reactive = ReactiveSubscriber.create(subscriber, CommitStrategy.SYNC, 10);
+
+        Collector first = new Collector(2);
+        reactive.subscribe(first);
+        first.dispose();
+        pending.complete(List.of(element(0, 0), element(1, 1)));
+        assertThat(first.received.size(), is(0));
+
+        Collector second = new Collector(2);
+        reactive.subscribe(second);
+        assertThat(second.received.size(), is(2));
+        verify(subscriber, times(1)).receive(anyInt());
+        verify(subscriber, never()).commitAsync(anyInt(), any());
+        second.dispose();
+    }
+
+    @Test
+    void shouldRejectSecondActiveSubscription() {
+        Subscriber<String> subscriber = subscriber();
+        ReactiveSubscriber<String> reactive = ReactiveSubscriber.create(subscriber, CommitStrategy.SYNC, 10);
+
+        Collector first = new Collector(2);
+        reactive.subscribe(first);
+        Collector second = new Collector(2);
+        reactive.subscribe(second);
+
+        assertThat(second.error, is(instanceOf(IllegalStateException.class)));
+        assertThat(second.received.size(), is(0));
+        assertThat(first.received.size(), is(2));
+        verify(subscriber, times(1)).receive(anyInt());
+
+        // once the first subscription is cancelled another may subscribe
+        first.dispose();
+        Collector third = new Collector(2);
+        reactive.subscribe(third);
+        assertThat(third.error, is(nullValue()));
+        assertThat(third.received.size(), is(2));
+        third.dispose();
+    }
+
+    @Test
+    void shouldRejectBatchedStrategy() {
+        assertThrows(IllegalArgumentException.class,
+                () -> ReactiveSubscriber.create(subscriber(), CommitStrategy.BATCHED, 10));
+    }
+
+    /**
+     * Create a mock {@link Subscriber} that returns the requested number of elements
+     * alternately from channels zero and one.
+     *
+     * @return a mock {@link Subscriber}
+     */
+    private static Subscriber<String> subscriber() {
+        Subscriber<String> subscriber = mock(Subscriber.class);
+        when(subscriber.isActive()).thenReturn(true);
+        when(subscriber.receive(anyInt())).thenAnswer(invocation -> {
+            int count = invocation.getArgument(0);
+            List<Subscriber.Element<String>> elements = new CopyOnWriteArrayList<>();
+            for (int i = 0; i < count; i++) {
+                elements.add(element(i % 2, i));
+            }
+            return CompletableFuture.completedFuture(elements);
+        });
+        Subscriber.CommitResult result = mock(Subscriber.CommitResult.class);
+        when(result.isSuccess()).thenReturn(true);
+        when(subscriber.commitAsync(anyInt(), any())).thenReturn(CompletableFuture.completedFuture(result));
+        return subscriber;
+    }
+
+    /**
+     * Create a mock {@link Subscriber.Element}.
+     *
+     * @param channel  the element channel
+     * @param offset   the element offset within the page
+     *
+     * @return a mock {@link Subscriber.Element}
+     */
+    private static Subscriber.Element<String> element(int channel, int offset) {
+        Subscriber.Element<String> element = mock(Subscriber.Element.class);
+        when(element.getChannel()).thenReturn(channel);
+        when(element.getPosition()).thenReturn(new PagedPosition(1L, offset));
+        when(element.getValue()).thenReturn("value-" + offset);
+        return element;
+    }
+
+    /**
+     * A subscriber that collects received elements and makes an initial request.
+     */
+    private static class Collector extends BaseSubscriber<Subscriber.Element<String>> {
+        private final List<Subscriber.Element<String>> received = new CopyOnWriteArrayList<>();
+        private final int initialRequest;
+        private volatile Throwable error;
+
+        Collector(int initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        protected void hookOnSubscribe(Subscription subscription) {
+            request(initialRequest);
+        }
+
+        @Override
+        protected void hookOnNext(Subscriber.Element<String> value) {
+            received.add(value);
+        }
+
+        @Override
+        protected void hookOnError(Throwable throwable) {
+            error = throwable;
+        }
+    }
+}
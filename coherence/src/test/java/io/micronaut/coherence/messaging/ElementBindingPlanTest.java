@@ -0,0 +1,97 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.messaging;
+
+import java.util.List;
+
+import com.tangosol.net.topic.Subscriber;
+import io.micronaut.coherence.messaging.binders.ElementArgumentBinderRegistry;
+import io.micronaut.core.bind.exceptions.UnsatisfiedArgumentException;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.type.Argument;
+import io.micronaut.inject.ExecutableMethod;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit test for {@link ElementBindingPlan}.
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+class ElementBindingPlanTest {
+    @Test
+    void shouldBindElementArguments() {
+        ExecutableMethod method = mock(ExecutableMethod.class);
+        when(method.getArguments()).thenReturn(new Argument[]{
+                Argument.of(Subscriber.class, "subscriber"),
+                Argument.of(int.class, "channel"),
+                Argument.of(String.class, "value"),
+                Argument.of(Subscriber.Element.class, "element")});
+
+        Subscriber subscriber = mock(Subscriber.class);
+        Subscriber.Element element = mock(Subscriber.Element.class);
+        when(element.getChannel()).thenReturn(3);
+        when(element.getValue()).thenReturn("foo");
+
+        ElementBindingPlan plan = new ElementBindingPlan(method, new ElementArgumentBinderRegistry(), ConversionService.SHARED);
+        assertThat(plan.isBatch(), is(false));
+
+        Object[] args = new Object[plan.size()];
+        plan.bind(args, subscriber, element, null);
+
+        assertThat(args[0], is(sameInstance(subscriber)));
+        assertThat(args[1], is(3));
+        assertThat(args[2], is("foo"));
+        assertThat(args[3], is(sameInstance(element)));
+    }
+
+    @Test
+    void shouldBindBatchOfElements() {
+        ExecutableMethod method = mock(ExecutableMethod.class);
+        when(method.getArguments()).thenReturn(new Argument[]{
+                Argument.listOf(Argument.of(Subscriber.Element.class))});
+
+        Subscriber.Element element = mock(Subscriber.Element.class);
+        List<Subscriber.Element<?>> batch = List.of(element);
+
+        ElementBindingPlan plan = new ElementBindingPlan(method, new ElementArgumentBinderRegistry(), ConversionService.SHARED);
+        assertThat(plan.isBatch(), is(true));
+
+        Object[] args = new Object[plan.size()];
+        plan.bind(args, mock(Subscriber.class), element, batch);
+
+        assertThat(args[0], is(sameInstance(batch)));
+    }
+
+    @Test
+    void shouldNotBindNullValueToNonNullableArgument() {
+        ExecutableMethod method = mock(ExecutableMethod.class);
+        when(method.getArguments()).thenReturn(new Argument[]{Argument.of(String.class, "value")});
+
+        Subscriber.Element element = mock(Subscriber.Element.class);
+        when(element.getValue()).thenReturn(null);
+
+        ElementBindingPlan plan = new ElementBindingPlan(method, new ElementArgumentBinderRegistry(), ConversionService.SHARED);
+        Object[] args = new Object[plan.size()];
+
+        assertThrows(UnsatisfiedArgumentException.class, () -> plan.bind(args, mock(Subscriber.class), element, null));
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.messaging;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import io.micronaut.coherence.annotation.ExecutionMode;
+import org.junit.jupiter.api.Test;
+import reactor.core.scheduler.Schedulers;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Unit test for {@link ListenerExecutionMetrics}.
+ */
+class ListenerExecutionMetricsTest {
+
+    @Test
+    void shouldRecordInvocations() throws Exception {
+        ListenerExecutionMetrics metrics = new ListenerExecutionMetrics();
+        ListenerExecutionMetrics.Metrics pooled = metrics.forMode(ExecutionMode.POOLED);
+        pooled.setThreadCount(() -> 2);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            CountDownLatch started = new CountDownLatch(2);
+            CountDownLatch release = new CountDownLatch(1);
+            Runnable task = () -> {
+                started.countDown();
+                try {
+                    release.await(1, TimeUnit.MINUTES);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            };
+            executor.execute(pooled.record(task));
+            executor.execute(pooled.record(task));
+
+            assertThat(started.await(1, TimeUnit.MINUTES), is(true));
+            assertThat(pooled.getActive(), is(2));
+            release.countDown();
+        } finally {
+            executor.shutdown();
+            assertThat(executor.awaitTermination(1, TimeUnit.MINUTES), is(true));
+        }
+
+        assertThat(pooled.getInvocations(), is(2L));
+        assertThat(pooled.getActive(), is(0));
+        assertThat(pooled.getPeakActive(), is(2));
+        assertThat(pooled.getThreadCount(), is(2));
+        assertThat(pooled.getAverageConcurrency() > 0.0d, is(true));
+        assertThat(metrics.getVirtual().getInvocations(), is(0L));
+    }
+
+    @Test
+    void shouldRecordInlineInvocationsSeparately() {
+        ListenerExecutionMetrics metrics = new ListenerExecutionMetrics();
+        ListenerExecutor executor = new ListenerExecutor(ExecutionMode.POOLED, Runnable::run, Schedulers.immediate(),
+                metrics.getPooled(), metrics.getInline());
+
+        executor.recordInline(() -> { }).run();
+        executor.record(() -> { }).run();
+
+        assertThat(metrics.getInline().getInvocations(), is(1L));
+        assertThat(metrics.getPooled().getInvocations(), is(1L));
+        assertThat(metrics.getInline().getThreadCount(), is(0));
+    }
+}
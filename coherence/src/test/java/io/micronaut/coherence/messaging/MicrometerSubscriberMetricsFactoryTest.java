@@ -0,0 +1,143 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.messaging;
+
+import com.tangosol.net.topic.Subscriber;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micronaut.inject.ExecutableMethod;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit test for {@link MicrometerSubscriberMetricsFactory}.
+ */
+class MicrometerSubscriberMetricsFactoryTest {
+
+    @Test
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    void shouldRecordTaggedMeters() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        ExecutableMethod method = mock(ExecutableMethod.class);
+        when(method.getDeclaringType()).thenReturn(MicrometerSubscriberMetricsFactoryTest.class);
+        when(method.getMethodName()).thenReturn("receive");
+
+        SubscriberMetrics metrics = new MicrometerSubscriberMetricsFactory(registry)
+                .create("orders", "audit", method, 0);
+        BacklogMonitor backlog = new BacklogMonitor(10, -1, type -> { });
+        metrics.bindBacklog(backlog);
+
+        metrics.received(1);
+        metrics.received(1);
+        metrics.received(2);
+        metrics.processed(1);
+        metrics.failed(2);
+        metrics.invoked(1_000_000L);
+        metrics.receiveWaited(1_000_000L);
+        metrics.committed(1, 1_000_000L);
+        metrics.commitFailed(2);
+        backlog.add(3);
+
+        String methodTag = "MicrometerSubscriberMetricsFactoryTest.receive";
+        assertThat(metrics.isEnabled(), is(true));
+        assertThat(registry.get("coherence.topic.listener.received")
+                .tags("topic", "orders", "group", "audit", "method", methodTag, "channel", "1")
+                .counter().count(), is(2.0));
+        assertThat(registry.get("coherence.topic.listener.received")
+                .tags("channel", "2").counter().count(), is(1.0));
+        assertThat(registry.get("coherence.topic.listener.processed")
+                .tags("channel", "1").counter().count(), is(1.0));
+        assertThat(registry.find("coherence.topic.listener.processed")
+                .tags("channel", "2").counter(), is(nullValue()));
+        assertThat(registry.get("coherence.topic.listener.failed")
+                .tags("channel", "2").counter().count(), is(1.0));
+        assertThat(registry.get("coherence.topic.listener.invocations")
+                .tags("method", methodTag).timer().count(), is(1L));
+        assertThat(registry.get("coherence.topic.listener.backlog")
+                .tags("topic", "orders", "instance", "0").gauge().value(), is(3.0));
+        assertThat(registry.get("coherence.topic.listener.receive.wait")
+                .tags("method", methodTag).timer().count(), is(1L));
+        assertThat(registry.get("coherence.topic.listener.commit")
+                .tags("channel", "1").timer().count(), is(1L));
+        assertThat(registry.get("coherence.topic.listener.commit.failed")
+                .tags("channel", "2").counter().count(), is(1.0));
+
+        metrics.close();
+        assertThat(registry.getMeters().isEmpty(), is(true));
+    }
+
+    @Test
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    void shouldReportEachInstance() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        ExecutableMethod method = mock(ExecutableMethod.class);
+        when(method.getDeclaringType()).thenReturn(MicrometerSubscriberMetricsFactoryTest.class);
+        when(method.getMethodName()).thenReturn("receive");
+
+        MicrometerSubscriberMetricsFactory factory = new MicrometerSubscriberMetricsFactory(registry);
+        SubscriberMetrics first = factory.create("orders", "audit", method, 0);
+        SubscriberMetrics second = factory.create("orders", "audit", method, 1);
+        BacklogMonitor firstBacklog = new BacklogMonitor(10, -1, type -> { });
+        BacklogMonitor secondBacklog = new BacklogMonitor(10, -1, type -> { });
+        first.bindBacklog(firstBacklog);
+        second.bindBacklog(secondBacklog);
+        firstBacklog.add(1);
+        secondBacklog.add(2);
+
+        assertThat(registry.get("coherence.topic.listener.backlog")
+                .tags("instance", "0").gauge().value(), is(1.0));
+        assertThat(registry.get("coherence.topic.listener.backlog")
+                .tags("instance", "1").gauge().value(), is(2.0));
+
+        first.close();
+        assertThat(registry.find("coherence.topic.listener.backlog").tags("instance", "0").gauge(), is(nullValue()));
+        assertThat(registry.get("coherence.topic.listener.backlog")
+                .tags("instance", "1").gauge().value(), is(2.0));
+    }
+
+    @Test
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    void shouldReportRemainingMessagesPerChannel() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        ExecutableMethod method = mock(ExecutableMethod.class);
+        when(method.getDeclaringType()).thenReturn(MicrometerSubscriberMetricsFactoryTest.class);
+        when(method.getMethodName()).thenReturn("receive");
+        Subscriber subscriber = mock(Subscriber.class);
+        when(subscriber.getChannelCount()).thenReturn(2);
+        when(subscriber.isActive()).thenReturn(true);
+        when(subscriber.getRemainingMessages(0)).thenReturn(5);
+        when(subscriber.getRemainingMessages(1)).thenReturn(7);
+
+        SubscriberMetrics metrics = new MicrometerSubscriberMetricsFactory(registry)
+                .create("orders", "audit", method, 0);
+        metrics.bindSubscriber(subscriber);
+
+        assertThat(registry.get("coherence.topic.listener.remaining")
+                .tags("channel", "0").gauge().value(), is(5.0));
+        assertThat(registry.get("coherence.topic.listener.remaining")
+                .tags("channel", "1").gauge().value(), is(7.0));
+    }
+
+    @Test
+    void shouldNotRecordByDefault() {
+        assertThat(SubscriberMetrics.NONE.isEnabled(), is(false));
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.messaging;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Unit test for {@link ParallelShutdown}.
+ */
+class ParallelShutdownTest {
+
+    @Test
+    void shouldCountFlushedAndDroppedPerTopic() {
+        AtomicInteger closed = new AtomicInteger();
+        Map<String, ParallelShutdown.Counts> counts = new ParallelShutdown("publisher")
+                .add("one", () -> CompletableFuture.completedFuture(null), closed::incrementAndGet)
+                .add("one", CompletableFuture::new, closed::incrementAndGet)
+                .add("two", () -> CompletableFuture.failedFuture(new RuntimeException("Computer says no")),
+                        closed::incrementAndGet)
+                .add("two", () -> {
+                    throw new IllegalStateException("Computer says no");
+                }, closed::incrementAndGet)
+                .add("three", () -> CompletableFuture.completedFuture(null), closed::incrementAndGet)
+                .run(Duration.ofMillis(100));
+
+        assertThat(counts.get("one").getFlushed(), is(1));
+        assertThat(counts.get("one").getDropped(), is(1));
+        assertThat(counts.get("two").getFlushed(), is(0));
+        assertThat(counts.get("two").getDropped(), is(2));
+        assertThat(counts.get("three").getFlushed(), is(1));
+        assertThat(counts.get("three").getDropped(), is(0));
+        assertThat(closed.get(), is(5));
+    }
+
+    @Test
+    void shouldFlushAndCloseConcurrently() throws Exception {
+        CountDownLatch flushing = new CountDownLatch(3);
+        CountDownLatch closing = new CountDownLatch(3);
+        ParallelShutdown shutdown = new ParallelShutdown("publisher");
+        for (int i = 0; i < 3; i++) {
+            shutdown.add("topic", () -> {
+                flushing.countDown();
+                return CompletableFuture.completedFuture(null);
+            }, () -> {
+                // each close waits until every close has started
+                closing.countDown();
+                try {
+                    closing.await(1, TimeUnit.MINUTES);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+
+        long start = System.nanoTime();
+        Map<String, ParallelShutdown.Counts> counts = shutdown.run(Duration.ofMinutes(1));
+
+        assertThat(flushing.getCount(), is(0L));
+        assertThat(closing.getCount(), is(0L));
+        assertThat(counts.get("topic").getFlushed(), is(3));
+        assertThat(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(30), is(true));
+    }
+
+    @Test
+    void shouldNotWaitPastDeadlineForSlowClose() {
+        CountDownLatch never = new CountDownLatch(1);
+        long start = System.nanoTime();
+        new ParallelShutdown("subscriber")
+                .add("topic", () -> CompletableFuture.completedFuture(null), () -> {
+                    try {
+                        never.await(1, TimeUnit.MINUTES);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                })
+                .run(Duration.ofMillis(200));
+
+        assertThat(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(30), is(true));
+    }
+
+    @Test
+    void shouldDoNothingWithoutResources() {
+        assertThat(new ParallelShutdown("publisher").run(Duration.ofSeconds(1)).isEmpty(), is(true));
+    }
+}
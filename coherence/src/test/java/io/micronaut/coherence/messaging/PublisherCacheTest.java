@@ -0,0 +1,175 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.messaging;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.tangosol.net.topic.Publisher;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit test for {@link PublisherCache}.
+ */
+@SuppressWarnings("unchecked")
+class PublisherCacheTest {
+
+    private final Map<String, Publisher<Object>> publishers = new ConcurrentHashMap<>();
+
+    @Test
+    void shouldCountHitsAndMisses() {
+        PublisherCache cache = new PublisherCache(this::create, 10, Duration.ZERO);
+        PublisherPool pool = cache.get(new TopicKey("one", "default"), false);
+        assertThat(cache.get(new TopicKey("one", "default"), false), is(sameInstance(pool)));
+        cache.get(new TopicKey("two", "default"), false);
+
+        assertThat(cache.getHits(), is(1L));
+        assertThat(cache.getMisses(), is(2L));
+        assertThat(cache.getEvictions(), is(0L));
+        assertThat(cache.size(), is(2));
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedWhenFull() throws Exception {
+        PublisherCache cache = new PublisherCache(this::create, 2, Duration.ZERO);
+        PublisherPool one = cache.get(new TopicKey("one", "default"), false);
+        Thread.sleep(5);
+        cache.get(new TopicKey("two", "default"), false);
+        Thread.sleep(5);
+        cache.get(new TopicKey("one", "default"), false);
+        Thread.sleep(5);
+        cache.get(new TopicKey("three", "default"), false);
+
+        assertThat(cache.getEvictions(), is(1L));
+        assertThat(cache.size(), is(2));
+        assertThat(cache.get(new TopicKey("one", "default"), false), is(sameInstance(one)));
+        verify(publishers.get("one"), never()).close();
+        var inOrder = inOrder(publishers.get("two"));
+        inOrder.verify(publishers.get("two")).flush();
+        inOrder.verify(publishers.get("two")).close();
+    }
+
+    @Test
+    void shouldNotCloseEvictedPoolUntilReleased() {
+        PublisherCache cache = new PublisherCache(this::create, 1, Duration.ZERO);
+        PublisherPool one = cache.acquire(new TopicKey("one", "default"), false);
+        cache.get(new TopicKey("two", "default"), false);
+
+        assertThat(cache.getEvictions(), is(1L));
+        assertThat(one.acquire(), is(false));
+        verify(publishers.get("one"), never()).flush();
+        verify(publishers.get("one"), never()).close();
+
+        one.release();
+        var inOrder = inOrder(publishers.get("one"));
+        inOrder.verify(publishers.get("one")).flush();
+        inOrder.verify(publishers.get("one")).close();
+    }
+
+    @Test
+    void shouldNotEvictPinnedPools() {
+        PublisherCache cache = new PublisherCache(this::create, 1, Duration.ofMillis(1));
+        PublisherPool pinned = cache.get(new TopicKey("pinned", "default"), true);
+        cache.get(new TopicKey("one", "default"), false);
+        cache.get(new TopicKey("two", "default"), false);
+
+        assertThat(cache.getEvictions(), is(1L));
+        assertThat(cache.get(new TopicKey("pinned", "default"), true), is(sameInstance(pinned)));
+        verify(publishers.get("pinned"), never()).close();
+    }
+
+    @Test
+    void shouldEvictIdlePools() throws Exception {
+        PublisherCache cache = new PublisherCache(this::create, 0, Duration.ofMillis(10));
+        PublisherPool pool = cache.get(new TopicKey("one", "default"), false);
+        cache.get(new TopicKey("pinned", "default"), true);
+        cache.evictIdle();
+        assertThat(cache.getEvictions(), is(0L));
+
+        Thread.sleep(20);
+        cache.evictIdle();
+        assertThat(cache.getEvictions(), is(1L));
+        verify(publishers.get("one")).close();
+        verify(publishers.get("pinned"), never()).close();
+
+        assertThat(cache.get(new TopicKey("one", "default"), false), is(not(sameInstance(pool))));
+        assertThat(cache.getMisses(), is(3L));
+    }
+
+    @Test
+    void shouldFlushAndCloseAllPoolsOnClose() {
+        PublisherCache cache = new PublisherCache(this::create, 10, Duration.ZERO);
+        cache.get(new TopicKey("one", "default"), false);
+        cache.get(new TopicKey("pinned", "default"), true);
+        Map<String, ParallelShutdown.Counts> counts = cache.close(Duration.ofMinutes(1));
+
+        assertThat(counts.get("one").getFlushed(), is(1));
+        assertThat(counts.get("pinned").getFlushed(), is(1));
+
+        for (Publisher<Object> publisher : publishers.values()) {
+            var inOrder = inOrder(publisher);
+            inOrder.verify(publisher).flush();
+            inOrder.verify(publisher).close();
+        }
+        assertThat(cache.size(), is(0));
+    }
+
+    @Test
+    void shouldCloseLosingPoolWhenCreationRaces() {
+        AtomicBoolean raced = new AtomicBoolean();
+        AtomicReference<PublisherCache> cacheRef = new AtomicReference<>();
+        AtomicReference<PublisherPool> winner = new AtomicReference<>();
+        AtomicReference<Publisher<Object>> winningPublisher = new AtomicReference<>();
+        PublisherCache cache = new PublisherCache(key -> {
+            // another caller creates and caches the same pool while this one is being created
+            if (raced.compareAndSet(false, true)) {
+                winner.set(cacheRef.get().get(key, false));
+                winningPublisher.set(publishers.get(key.getTopicName()));
+            }
+            return create(key);
+        }, 10, Duration.ZERO);
+        cacheRef.set(cache);
+
+        assertThat(cache.get(new TopicKey("one", "default"), false), is(sameInstance(winner.get())));
+        assertThat(cache.size(), is(1));
+        verify(winningPublisher.get(), never()).close();
+        verify(publishers.get("one")).close();
+    }
+
+    private PublisherPool create(TopicKey key) {
+        return new PublisherPool(1, () -> {
+            Publisher<Object> publisher = mock(Publisher.class);
+            when(publisher.flush()).thenReturn(CompletableFuture.completedFuture(null));
+            publishers.put(key.getTopicName(), publisher);
+            return publisher;
+        });
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.messaging;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.tangosol.net.topic.Publisher;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit test for {@link PublisherPool}.
+ */
+@SuppressWarnings("unchecked")
+class PublisherPoolTest {
+
+    @Test
+    void shouldCreatePublishersEagerly() {
+        AtomicInteger count = new AtomicInteger();
+        PublisherPool pool = new PublisherPool(3, () -> {
+            count.incrementAndGet();
+            return mock(Publisher.class);
+        });
+        assertThat(count.get(), is(3));
+        assertThat(pool.size(), is(3));
+    }
+
+    @Test
+    void shouldCreateAtLeastOnePublisher() {
+        PublisherPool pool = new PublisherPool(0, () -> mock(Publisher.class));
+        assertThat(pool.size(), is(1));
+    }
+
+    @Test
+    void shouldSelectSamePublisherForSameThread() {
+        PublisherPool pool = new PublisherPool(4, () -> mock(Publisher.class));
+        assertThat(pool.select(), is(sameInstance(pool.select())));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void shouldStripeThreadsAcrossPublishers() throws Exception {
+        Publisher<Object>[] publishers = new Publisher[] {mock(Publisher.class), mock(Publisher.class)};
+        AtomicInteger index = new AtomicInteger();
+        PublisherPool pool = new PublisherPool(2, () -> publishers[index.getAndIncrement()]);
+
+        for (int i = 0; i < 4; i++) {
+            AtomicReference<Publisher<Object>> selected = new AtomicReference<>();
+            Thread thread = new Thread(() -> selected.set(pool.select()));
+            thread.start();
+            thread.join(TimeUnit.MINUTES.toMillis(1));
+            assertThat(selected.get(), is(sameInstance(publishers[(int) Math.floorMod(thread.getId(), 2L)])));
+        }
+    }
+
+    @Test
+    void shouldFlushAllPublishers() {
+        Publisher<Object> one = mock(Publisher.class);
+        Publisher<Object> two = mock(Publisher.class);
+        CompletableFuture<Void> flushOne = new CompletableFuture<>();
+        CompletableFuture<Void> flushTwo = new CompletableFuture<>();
+        when(one.flush()).thenReturn(flushOne);
+        when(two.flush()).thenReturn(flushTwo);
+        Publisher<Object>[] publishers = new Publisher[] {one, two};
+        AtomicInteger index = new AtomicInteger();
+        PublisherPool pool = new PublisherPool(2, () -> publishers[index.getAndIncrement()]);
+
+        CompletableFuture<Void> flushed = pool.flush();
+        verify(one).flush();
+        verify(two).flush();
+        assertThat(flushed.isDone(), is(false));
+        flushOne.complete(null);
+        assertThat(flushed.isDone(), is(false));
+        flushTwo.complete(null);
+        assertThat(flushed.isDone(), is(true));
+    }
+
+    @Test
+    void shouldCloseAllPublishersEvenIfOneFails() {
+        Publisher<Object> one = mock(Publisher.class);
+        Publisher<Object> two = mock(Publisher.class);
+        doThrow(new RuntimeException("Computer says no")).when(one).close();
+        Publisher<Object>[] publishers = new Publisher[] {one, two};
+        AtomicInteger index = new AtomicInteger();
+        PublisherPool pool = new PublisherPool(2, () -> publishers[index.getAndIncrement()]);
+
+        pool.close();
+        verify(one).close();
+        verify(two).close();
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.messaging;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+
+import com.tangosol.net.topic.Publisher;
+import com.tangosol.net.topic.Subscriber;
+import com.tangosol.util.Binary;
+
+import io.micronaut.scheduling.TaskScheduler;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit test for {@link RetryPolicy}.
+ */
+class RetryPolicyTest {
+
+    @Test
+    void shouldBackOffExponentiallyUpToMaxDelay() {
+        RetryPolicy policy = new RetryPolicy(10, Duration.ofMillis(100), 2.0d, Duration.ofSeconds(1),
+                mock(TaskScheduler.class), null);
+
+        assertThat(policy.delay(0), is(Duration.ofMillis(100)));
+        assertThat(policy.delay(1), is(Duration.ofMillis(200)));
+        assertThat(policy.delay(3), is(Duration.ofMillis(800)));
+        assertThat(policy.delay(4), is(Duration.ofSeconds(1)));
+        assertThat(policy.delay(9), is(Duration.ofSeconds(1)));
+    }
+
+    @Test
+    void shouldLimitRetries() {
+        RetryPolicy policy = new RetryPolicy(2, Duration.ofMillis(100), 2.0d, Duration.ofSeconds(1),
+                mock(TaskScheduler.class), null);
+        Throwable error = new IllegalStateException();
+
+        assertThat(policy.canRetry(0, error), is(true));
+        assertThat(policy.canRetry(1, error), is(true));
+        assertThat(policy.canRetry(2, error), is(false));
+        assertThat(policy.canRetry(0, new CancellationException()), is(false));
+        assertThat(RetryPolicy.NONE.canRetry(0, error), is(false));
+        assertThat(RetryPolicy.NONE.hasDeadLetterTopic(), is(false));
+    }
+
+    @Test
+    void shouldScheduleRetryAfterDelay() {
+        TaskScheduler scheduler = mock(TaskScheduler.class);
+        RetryPolicy policy = new RetryPolicy(2, Duration.ofMillis(100), 3.0d, Duration.ofSeconds(1), scheduler, null);
+        Runnable retry = () -> { };
+
+        policy.schedule(1, retry);
+
+        verify(scheduler).schedule(Duration.ofMillis(300), retry);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldPublishSerializedValuesToDeadLetterTopic() throws Exception {
+        Publisher<Binary> publisher = mock(Publisher.class);
+        when(publisher.publish(any(Binary.class))).thenReturn(CompletableFuture.completedFuture(null));
+        Subscriber.Element<String> one = mock(Subscriber.Element.class);
+        Subscriber.Element<String> two = mock(Subscriber.Element.class);
+        Binary binaryOne = new Binary(new byte[] {1});
+        Binary binaryTwo = new Binary(new byte[] {2});
+        when(one.getBinaryValue()).thenReturn(binaryOne);
+        when(two.getBinaryValue()).thenReturn(binaryTwo);
+
+        RetryPolicy policy = new RetryPolicy(0, Duration.ZERO, 1.0d, Duration.ZERO, null, publisher);
+        assertThat(policy.hasDeadLetterTopic(), is(true));
+
+        policy.deadLetter(List.of(one, two)).get();
+
+        verify(publisher).publish(binaryOne);
+        verify(publisher).publish(binaryTwo);
+    }
+}
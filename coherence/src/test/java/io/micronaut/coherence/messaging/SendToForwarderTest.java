@@ -0,0 +1,130 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.messaging;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import com.tangosol.net.topic.Publisher;
+import io.micronaut.coherence.annotation.Backlog;
+import io.micronaut.inject.ExecutableMethod;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit test for {@link SendToForwarder}.
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+class SendToForwarderTest {
+
+    private Publisher publisher;
+
+    private final List<CompletableFuture<Void>> flushes = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        publisher = mock(Publisher.class);
+        when(publisher.isActive()).thenReturn(true);
+        when(publisher.publish(any())).thenReturn(CompletableFuture.completedFuture(mock(Publisher.Status.class)));
+        when(publisher.flush()).thenAnswer(invocation -> {
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            flushes.add(future);
+            return future;
+        });
+    }
+
+    @Test
+    void shouldForwardResultInBoundedWindow() throws Exception {
+        List<Backlog.Type> transitions = new CopyOnWriteArrayList<>();
+        BacklogMonitor backlog = new BacklogMonitor(4, 0, transitions::add);
+        SendToForwarder forwarder = new SendToForwarder(new Publisher[] {publisher}, 4,
+                mock(ExecutableMethod.class), backlog);
+
+        CompletableFuture<Void> done = forwarder.forwardResult(Flux.range(0, 10));
+
+        // only the window of values is published before the batches are flushed
+        verify(publisher, times(4)).publish(any());
+        assertThat(flushes.size(), is(2));
+        assertThat(backlog.isExcessive(), is(true));
+
+        while (!done.isDone()) {
+            flushes.forEach(future -> future.complete(null));
+        }
+        done.get(1, TimeUnit.MINUTES);
+
+        verify(publisher, times(10)).publish(any());
+        assertThat(backlog.getBacklog(), is(0L));
+        assertThat(backlog.isExcessive(), is(false));
+        assertThat(transitions.get(0), is(Backlog.Type.EXCESSIVE));
+        assertThat(transitions.get(transitions.size() - 1), is(Backlog.Type.NORMAL));
+    }
+
+    @Test
+    void shouldReleaseUnflushedBatchWhenFlushFails() throws Exception {
+        BacklogMonitor backlog = new BacklogMonitor(2, 0, type -> { });
+        SendToForwarder forwarder = new SendToForwarder(new Publisher[] {publisher}, 4,
+                mock(ExecutableMethod.class), backlog);
+        Sinks.Many<Integer> values = Sinks.many().unicast().onBackpressureBuffer();
+
+        CompletableFuture<Void> done = forwarder.forwardResult(values.asFlux());
+        values.tryEmitNext(1);
+        values.tryEmitNext(2);
+        assertThat(flushes.size(), is(1));
+        // the third value is waiting in the next, unflushed, batch
+        values.tryEmitNext(3);
+        assertThat(backlog.getBacklog(), is(3L));
+        assertThat(backlog.isExcessive(), is(true));
+
+        flushes.get(0).completeExceptionally(new RuntimeException("Computer says no"));
+        done.get(1, TimeUnit.MINUTES);
+
+        assertThat(forwarder.getOutstanding(), is(0));
+        assertThat(backlog.getBacklog(), is(0L));
+        assertThat(backlog.isExcessive(), is(false));
+
+        // later results are still forwarded
+        CompletableFuture<Void> next = forwarder.forwardResult(Flux.just(4, 5));
+        flushes.get(1).complete(null);
+        next.get(1, TimeUnit.MINUTES);
+        verify(publisher, times(5)).publish(any());
+        assertThat(backlog.getBacklog(), is(0L));
+    }
+
+    @Test
+    void shouldForwardSingleValue() {
+        BacklogMonitor backlog = new BacklogMonitor(1, 0, type -> { });
+        SendToForwarder forwarder = new SendToForwarder(new Publisher[] {publisher, publisher}, 1,
+                mock(ExecutableMethod.class), backlog);
+
+        forwarder.forwardValue("value");
+
+        verify(publisher, times(2)).publish("value");
+        assertThat(backlog.getBacklog(), is(0L));
+        assertThat(backlog.isExcessive(), is(false));
+    }
+}
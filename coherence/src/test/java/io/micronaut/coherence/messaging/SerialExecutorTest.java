@@ -0,0 +1,104 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.messaging;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Unit test for {@link SerialExecutor}.
+ */
+class SerialExecutorTest {
+    @Test
+    void shouldRunTasksInOrderOneAtATime() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            SerialExecutor executor = new SerialExecutor(pool);
+            List<Integer> results = Collections.synchronizedList(new ArrayList<>());
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger maxRunning = new AtomicInteger();
+            CountDownLatch latch = new CountDownLatch(100);
+
+            for (int i = 0; i < 100; i++) {
+                int n = i;
+                executor.execute(() -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    results.add(n);
+                    running.decrementAndGet();
+                    latch.countDown();
+                });
+            }
+
+            assertThat(latch.await(1, TimeUnit.MINUTES), is(true));
+            assertThat(maxRunning.get(), is(1));
+            for (int i = 0; i < 100; i++) {
+                assertThat(results.get(i), is(i));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldNotRunNextTaskUntilAsyncTaskCompletes() {
+        List<Runnable> queued = new ArrayList<>();
+        List<Integer> results = new ArrayList<>();
+        SerialExecutor executor = new SerialExecutor(queued::add);
+        CompletableFuture<Void> future = new CompletableFuture<>();
+
+        executor.executeAsync(() -> {
+            results.add(1);
+            return future;
+        });
+        executor.execute(() -> results.add(2));
+
+        queued.remove(0).run();
+        assertThat(results, contains(1));
+        // the lane is held until the first task's future completes
+        assertThat(queued.isEmpty(), is(true));
+
+        future.complete(null);
+        assertThat(queued.size(), is(1));
+        queued.remove(0).run();
+        assertThat(results, contains(1, 2));
+    }
+
+    @Test
+    void shouldRunTasksOnCallerWhenDelegateRejects() {
+        List<Integer> results = new ArrayList<>();
+        SerialExecutor executor = new SerialExecutor(task -> {
+            throw new RejectedExecutionException("Computer says no");
+        });
+
+        executor.execute(() -> results.add(1));
+        executor.execute(() -> results.add(2));
+        assertThat(results, contains(1, 2));
+    }
+}
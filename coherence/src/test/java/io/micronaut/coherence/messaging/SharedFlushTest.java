@@ -0,0 +1,98 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.messaging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import com.tangosol.net.topic.Publisher;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit test for {@link SharedFlush}.
+ */
+@SuppressWarnings("unchecked")
+class SharedFlushTest {
+
+    @Test
+    void shouldStartFlushWhenNoneIsRunning() {
+        Publisher<Object> publisher = mock(Publisher.class);
+        when(publisher.flush()).thenReturn(CompletableFuture.completedFuture(null));
+        SharedFlush flush = new SharedFlush(publisher);
+
+        assertThat(flush.flush().isDone(), is(true));
+        assertThat(flush.flush().isDone(), is(true));
+        verify(publisher, times(2)).flush();
+    }
+
+    @Test
+    void shouldShareOneFlushBetweenCallersWaitingForRunningFlush() {
+        List<CompletableFuture<Void>> flushes = new ArrayList<>();
+        Publisher<Object> publisher = mock(Publisher.class);
+        when(publisher.flush()).thenAnswer(invocation -> {
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            flushes.add(future);
+            return future;
+        });
+        SharedFlush flush = new SharedFlush(publisher);
+
+        CompletableFuture<Void> first = flush.flush();
+        CompletableFuture<Void> second = flush.flush();
+        CompletableFuture<Void> third = flush.flush();
+        assertThat(third, is(sameInstance(second)));
+        verify(publisher, times(1)).flush();
+
+        flushes.get(0).complete(null);
+        assertThat(first.isDone(), is(true));
+        assertThat(second.isDone(), is(false));
+        verify(publisher, times(2)).flush();
+
+        flushes.get(1).complete(null);
+        assertThat(second.isDone(), is(true));
+        verify(publisher, times(2)).flush();
+    }
+
+    @Test
+    void shouldFailWaitingCallersWhenFlushFails() {
+        List<CompletableFuture<Void>> flushes = new ArrayList<>();
+        Publisher<Object> publisher = mock(Publisher.class);
+        when(publisher.flush()).thenAnswer(invocation -> {
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            flushes.add(future);
+            return future;
+        });
+        SharedFlush flush = new SharedFlush(publisher);
+
+        flush.flush();
+        CompletableFuture<Void> waiting = flush.flush();
+        flushes.get(0).complete(null);
+        flushes.get(1).completeExceptionally(new RuntimeException("Computer says no"));
+
+        assertThat(waiting.isCompletedExceptionally(), is(true));
+        assertThat(flush.flush().isDone(), is(false));
+        verify(publisher, times(3)).flush();
+    }
+}
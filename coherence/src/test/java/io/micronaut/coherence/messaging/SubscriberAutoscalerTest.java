@@ -0,0 +1,113 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.messaging;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micronaut.inject.ExecutableMethod;
+import io.micronaut.scheduling.TaskScheduler;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit test for {@link SubscriberAutoscaler}.
+ */
+class SubscriberAutoscalerTest {
+
+    @Test
+    void shouldScaleBetweenMinAndMax() {
+        AtomicInteger remaining = new AtomicInteger();
+        List<TopicSubscriber<?, ?, ?>> closed = new CopyOnWriteArrayList<>();
+        TaskScheduler scheduler = mock(TaskScheduler.class);
+
+        SubscriberAutoscaler autoscaler = new SubscriberAutoscaler(mock(ExecutableMethod.class),
+                () -> instance(remaining), closed::add, 1, 3, 100);
+        autoscaler.start(Duration.ofSeconds(10), scheduler);
+        verify(scheduler).scheduleAtFixedRate(eq(Duration.ofSeconds(10)), eq(Duration.ofSeconds(10)), any(Runnable.class));
+        assertThat(autoscaler.getInstanceCount(), is(1));
+
+        // every instance reports the remaining count, so one instance reports 150
+        remaining.set(150);
+        autoscaler.scale();
+        assertThat(autoscaler.getInstanceCount(), is(2));
+
+        // two instances now report 300 in total, one instance is added at a time
+        autoscaler.scale();
+        assertThat(autoscaler.getInstanceCount(), is(3));
+        autoscaler.scale();
+        assertThat(autoscaler.getInstanceCount(), is(3));
+
+        remaining.set(0);
+        autoscaler.scale();
+        autoscaler.scale();
+        autoscaler.scale();
+        assertThat(autoscaler.getInstanceCount(), is(1));
+        assertThat(closed.size(), is(2));
+    }
+
+    @Test
+    void shouldNotScaleAfterClose() {
+        AtomicInteger remaining = new AtomicInteger(1000);
+        SubscriberAutoscaler autoscaler = new SubscriberAutoscaler(mock(ExecutableMethod.class),
+                () -> instance(remaining), s -> { }, 2, 4, 10);
+        autoscaler.start(Duration.ofSeconds(1), mock(TaskScheduler.class));
+        assertThat(autoscaler.getInstanceCount(), is(2));
+
+        autoscaler.close();
+        autoscaler.scale();
+        assertThat(autoscaler.getInstanceCount(), is(2));
+    }
+
+    @Test
+    void shouldReplaceInactiveInstances() {
+        AtomicInteger remaining = new AtomicInteger();
+        List<TopicSubscriber<?, ?, ?>> created = new CopyOnWriteArrayList<>();
+        List<TopicSubscriber<?, ?, ?>> closed = new CopyOnWriteArrayList<>();
+        SubscriberAutoscaler autoscaler = new SubscriberAutoscaler(mock(ExecutableMethod.class), () -> {
+            TopicSubscriber<?, ?, ?> subscriber = instance(remaining);
+            created.add(subscriber);
+            return subscriber;
+        }, closed::add, 2, 4, 100);
+        autoscaler.start(Duration.ofSeconds(1), mock(TaskScheduler.class));
+        assertThat(autoscaler.getInstanceCount(), is(2));
+
+        // the first instance is stopped by its exception handler
+        TopicSubscriber<?, ?, ?> stopped = created.get(0);
+        when(stopped.isActive()).thenReturn(false);
+        autoscaler.scale();
+
+        assertThat(closed, is(List.of(stopped)));
+        assertThat(created.size(), is(3));
+        assertThat(autoscaler.getInstanceCount(), is(2));
+    }
+
+    private static TopicSubscriber<?, ?, ?> instance(AtomicInteger remaining) {
+        TopicSubscriber<?, ?, ?> subscriber = mock(TopicSubscriber.class);
+        when(subscriber.isActive()).thenReturn(true);
+        when(subscriber.getRemainingMessages()).thenAnswer(invocation -> remaining.get());
+        return subscriber;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.messaging;
+
+import java.util.concurrent.CompletableFuture;
+
+import io.micronaut.health.HealthStatus;
+import io.micronaut.management.health.indicator.HealthResult;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit test for {@link TopicListenerHealthIndicator}.
+ */
+class TopicListenerHealthIndicatorTest {
+
+    @Test
+    void shouldBeUnknownUntilSubscribed() {
+        CoherenceTopicListenerProcessor processor = mock(CoherenceTopicListenerProcessor.class);
+        when(processor.whenSubscribed()).thenReturn(new CompletableFuture<>());
+
+        assertThat(status(processor), is(HealthStatus.UNKNOWN));
+    }
+
+    @Test
+    void shouldBeUpWhenAllSubscribersActive() {
+        CoherenceTopicListenerProcessor processor = mock(CoherenceTopicListenerProcessor.class);
+        when(processor.whenSubscribed()).thenReturn(CompletableFuture.completedFuture(null));
+        when(processor.getSubscriberCount()).thenReturn(3);
+        when(processor.getActiveSubscriberCount()).thenReturn(3);
+
+        assertThat(status(processor), is(HealthStatus.UP));
+    }
+
+    @Test
+    void shouldBeDownWhenSubscriberInactive() {
+        CoherenceTopicListenerProcessor processor = mock(CoherenceTopicListenerProcessor.class);
+        when(processor.whenSubscribed()).thenReturn(CompletableFuture.completedFuture(null));
+        when(processor.getSubscriberCount()).thenReturn(3);
+        when(processor.getActiveSubscriberCount()).thenReturn(2);
+
+        assertThat(status(processor), is(HealthStatus.DOWN));
+    }
+
+    @Test
+    void shouldBeDownWhenSubscriptionFailed() {
+        CoherenceTopicListenerProcessor processor = mock(CoherenceTopicListenerProcessor.class);
+        when(processor.whenSubscribed()).thenReturn(CompletableFuture.failedFuture(new RuntimeException("test")));
+
+        assertThat(status(processor), is(HealthStatus.DOWN));
+    }
+
+    private HealthStatus status(CoherenceTopicListenerProcessor processor) {
+        HealthResult result = Mono.from(new TopicListenerHealthIndicator(processor).getResult()).block();
+        return result.getStatus();
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.messaging;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import com.tangosol.internal.net.topic.impl.paged.model.PagedPosition;
+import com.tangosol.net.topic.Publisher;
+import com.tangosol.net.topic.Subscriber;
+
+import io.micronaut.coherence.annotation.ExecutionMode;
+import io.micronaut.coherence.messaging.binders.ElementArgumentBinderRegistry;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.type.Argument;
+import io.micronaut.inject.ExecutableMethod;
+import io.micronaut.scheduling.TaskScheduler;
+import org.junit.jupiter.api.Test;
+import reactor.core.scheduler.Schedulers;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEFAULTS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit test for {@link TopicSubscriber}.
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+class TopicSubscriberTest {
+
+    @Test
+    void shouldGiveUpOnRetryRejectedByExecutor() {
+        Subscriber<String> subscriber = mock(Subscriber.class);
+        Subscriber.Element<String> element = mock(Subscriber.Element.class);
+        when(element.getChannel()).thenReturn(0);
+        when(element.getPosition()).thenReturn(new PagedPosition(1L, 1));
+        when(subscriber.isActive()).thenReturn(true);
+        when(subscriber.receive()).thenReturn(CompletableFuture.completedFuture(element), new CompletableFuture<>());
+
+        ExecutableMethod method = mock(ExecutableMethod.class, invocation -> switch (invocation.getMethod().getName()) {
+            case "invoke" -> throw new IllegalStateException("Computer says no");
+            case "getArguments" -> new Argument[0];
+            default -> RETURNS_DEFAULTS.answer(invocation);
+        });
+        SubscriberExceptionHandler handler = mock(SubscriberExceptionHandler.class);
+        when(handler.handle(any())).thenReturn(SubscriberExceptionHandler.Action.Continue);
+
+        TaskScheduler scheduler = mock(TaskScheduler.class);
+        when(scheduler.schedule(any(Duration.class), any(Runnable.class))).thenAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(1)).run();
+            return null;
+        });
+        RetryPolicy retryPolicy = new RetryPolicy(1, Duration.ZERO, 1.0d, Duration.ZERO, scheduler, null);
+        Executor rejecting = task -> {
+            throw new RejectedExecutionException("Computer says no");
+        };
+        ListenerExecutor executor = new ListenerExecutor(ExecutionMode.POOLED, rejecting, Schedulers.immediate(), null, null);
+        ElementBindingPlan plan = new ElementBindingPlan(method, new ElementArgumentBinderRegistry(), ConversionService.SHARED);
+
+        TopicSubscriber topicSubscriber = new TopicSubscriber("test", subscriber, new Publisher[0], handler, method,
+                plan, ConversionService.SHARED, executor, null, SubscriberMetrics.NONE, retryPolicy);
+        topicSubscriber.start();
+
+        // the rejected retry is handed to the exception handler, which continues with the next message
+        verify(handler).handle(any());
+        verify(subscriber, times(2)).receive();
+        verify(subscriber, never()).close();
+    }
+}